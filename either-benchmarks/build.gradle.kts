@@ -0,0 +1,35 @@
+// SPDX-License-Identifier: MIT
+import org.jetbrains.kotlin.gradle.tasks.KotlinCompile
+
+plugins {
+	id("either-jvm-build.license-check")
+	kotlin("jvm") version "1.8.20"
+	id("me.champeau.jmh") version "0.7.2"
+}
+
+description = "JMH benchmarks for all variants of Either"
+
+kotlin {
+	jvmToolchain {
+		languageVersion.set(JavaLanguageVersion.of(17))
+	}
+}
+
+tasks.withType<KotlinCompile>().configureEach {
+	kotlinOptions {
+		apiVersion = "1.8"
+		languageVersion = "1.8"
+	}
+}
+
+dependencies {
+	jmh(project(":either-java8"))
+	jmh(project(":either-java17"))
+	jmh(project(":either-kotlin"))
+}
+
+jmh {
+	jmhVersion.set(libs.versions.jmh)
+	profilers.add("gc")
+	resultFormat.set("JSON")
+}
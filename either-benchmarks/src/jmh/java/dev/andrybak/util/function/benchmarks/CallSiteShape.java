@@ -0,0 +1,68 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Shape of the type profile that the benchmarked call sites observe.
+ * <p>
+ * Receiver profile of {@code match}-like methods is controlled by the mix of lefts and rights in the data set.
+ * Profile of the calls of the user-provided functions is controlled by the number of distinct lambda classes that
+ * are passed in.
+ */
+public enum CallSiteShape {
+	/**
+	 * All values are rights, and a single pair of functions is used.
+	 */
+	MONOMORPHIC(0, 1),
+	/**
+	 * Values are a random mix of lefts and rights, and a single pair of functions is used.
+	 */
+	BIMORPHIC(50, 1),
+	/**
+	 * Values are a random mix of lefts and rights, and several distinct pairs of functions are used in turn, which
+	 * makes the calls of the functions megamorphic.
+	 */
+	MEGAMORPHIC(50, 4);
+
+	/**
+	 * Number of distinct pairs of functions used by benchmarks. Benchmarks index their arrays of functions with
+	 * {@code i & FUNCTIONS_MASK}.
+	 */
+	public static final int FUNCTIONS = 4;
+	public static final int FUNCTIONS_MASK = FUNCTIONS - 1;
+
+	private final int leftPercentage;
+	private final int distinctFunctions;
+
+	CallSiteShape(int leftPercentage, int distinctFunctions) {
+		this.leftPercentage = leftPercentage;
+		this.distinctFunctions = distinctFunctions;
+	}
+
+	/**
+	 * Returns a reproducible mask of which elements of a data set should be lefts.
+	 *
+	 * @param size size of the data set
+	 * @return array where {@code true} means {@code Left} and {@code false} means {@code Right}
+	 */
+	public boolean[] leftMask(int size) {
+		Random random = new Random(42);
+		boolean[] mask = new boolean[size];
+		for (int i = 0; i < size; i++) {
+			mask[i] = random.nextInt(100) < leftPercentage;
+		}
+		return mask;
+	}
+
+	/**
+	 * Returns which of the {@link #FUNCTIONS} distinct functions should be stored at the given index of an array of
+	 * functions.
+	 *
+	 * @param index index in an array of functions of size {@link #FUNCTIONS}
+	 * @return index of a distinct function to use
+	 */
+	public int functionAt(int index) {
+		return index % distinctFunctions;
+	}
+}
@@ -0,0 +1,85 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares a pre-built {@code EitherChain} of {@link #length} steps with a function composed of the same steps
+ * via nested {@code flatMap} calls.  The composed function needs a stack frame per step, so {@link #length} is kept
+ * small enough for it not to overflow the stack.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ChainBenchmark {
+	@Param({"10", "1000"})
+	public int length;
+
+	private dev.andrybak.util.function.java8.EitherChain<String, Integer> java8Chain;
+	private Function<Integer, dev.andrybak.util.function.java8.Either<String, Integer>> java8Composed;
+	private dev.andrybak.util.function.java17.EitherChain<String, Integer> java17Chain;
+	private Function<Integer, dev.andrybak.util.function.java17.Either<String, Integer>> java17Composed;
+
+	@Setup
+	public void setup() {
+		java8Chain = dev.andrybak.util.function.java8.EitherChain.of(0);
+		java8Composed = dev.andrybak.util.function.java8.Either::right;
+		java17Chain = dev.andrybak.util.function.java17.EitherChain.of(0);
+		java17Composed = dev.andrybak.util.function.java17.Either::right;
+		for (int i = 0; i < length; i++) {
+			java8Chain = java8Chain.then(ChainBenchmark::java8Step);
+			Function<Integer, dev.andrybak.util.function.java8.Either<String, Integer>> java8Previous = java8Composed;
+			java8Composed = x -> java8Previous.apply(x).flatMap(ChainBenchmark::java8Step);
+			java17Chain = java17Chain.then(ChainBenchmark::java17Step);
+			Function<Integer, dev.andrybak.util.function.java17.Either<String, Integer>> java17Previous =
+					java17Composed;
+			java17Composed = x -> java17Previous.apply(x).flatMap(ChainBenchmark::java17Step);
+		}
+	}
+
+	private static dev.andrybak.util.function.java8.Either<String, Integer> java8Step(int x) {
+		return x >= 0 ? dev.andrybak.util.function.java8.Either.right(x + 1)
+				: dev.andrybak.util.function.java8.Either.left("negative");
+	}
+
+	private static dev.andrybak.util.function.java17.Either<String, Integer> java17Step(int x) {
+		return x >= 0 ? dev.andrybak.util.function.java17.Either.right(x + 1)
+				: dev.andrybak.util.function.java17.Either.left("negative");
+	}
+
+	@Benchmark
+	public Object java8Chain() {
+		return java8Chain.run();
+	}
+
+	@Benchmark
+	public Object java8NestedFlatMap() {
+		return java8Composed.apply(0);
+	}
+
+	@Benchmark
+	public Object java17Chain() {
+		return java17Chain.run();
+	}
+
+	@Benchmark
+	public Object java17NestedFlatMap() {
+		return java17Composed.apply(0);
+	}
+}
@@ -0,0 +1,100 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares partitioning of a parallel stream with ordinary collectors, which create and merge a container per split,
+ * and with concurrent collectors, which accumulate into a single striped container.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConcurrentPartitioningBenchmark {
+	@Param("1000000")
+	public int size;
+
+	private List<dev.andrybak.util.function.java8.Either<String, Integer>> java8Input;
+	private List<dev.andrybak.util.function.java17.Either<String, Integer>> java17Input;
+
+	@Setup
+	public void setup() {
+		java8Input = new ArrayList<>(size);
+		java17Input = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			if (i % 4 == 0) {
+				java8Input.add(dev.andrybak.util.function.java8.Either.left("error"));
+				java17Input.add(dev.andrybak.util.function.java17.Either.left("error"));
+			} else {
+				java8Input.add(dev.andrybak.util.function.java8.Either.right(i));
+				java17Input.add(dev.andrybak.util.function.java17.Either.right(i));
+			}
+		}
+	}
+
+	@Benchmark
+	public Object java8Partitioning() {
+		return java8Input.parallelStream().collect(dev.andrybak.util.function.java8.EitherCollectors.partitioning(
+				Collectors.toList(),
+				Collectors.toList()
+		));
+	}
+
+	@Benchmark
+	public Object java8PartitioningConcurrent() {
+		return java8Input.parallelStream()
+				.collect(dev.andrybak.util.function.java8.EitherCollectors.partitioningConcurrent());
+	}
+
+	@Benchmark
+	public Object java8Counting() {
+		return java8Input.parallelStream().collect(dev.andrybak.util.function.java8.EitherCollectors.partitioning(
+				Collectors.counting(),
+				Collectors.counting()
+		));
+	}
+
+	@Benchmark
+	public Object java8CountingConcurrent() {
+		return java8Input.parallelStream()
+				.collect(dev.andrybak.util.function.java8.EitherCollectors.countingConcurrent());
+	}
+
+	@Benchmark
+	public Object java17Partitioning() {
+		return java17Input.parallelStream().collect(dev.andrybak.util.function.java17.EitherCollectors.partitioning(
+				Collectors.toList(),
+				Collectors.toList()
+		));
+	}
+
+	@Benchmark
+	public Object java17PartitioningConcurrent() {
+		return java17Input.parallelStream()
+				.collect(dev.andrybak.util.function.java17.EitherCollectors.partitioningConcurrent());
+	}
+
+	@Benchmark
+	public Object java17CountingConcurrent() {
+		return java17Input.parallelStream()
+				.collect(dev.andrybak.util.function.java17.EitherCollectors.countingConcurrent());
+	}
+}
@@ -0,0 +1,93 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.benchmarks;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Pools of functions and consumers, which have distinct classes, but do equivalent non-allocating work.  Passing
+ * several of them to the same call site pollutes its type profile.
+ */
+public final class DistinctFunctions {
+	private DistinctFunctions() {
+		throw new AssertionError();
+	}
+
+	/**
+	 * @param which index of the function, from {@code 0} to {@link CallSiteShape#FUNCTIONS} (exclusive)
+	 * @return a function for {@code Left} values used in benchmarks
+	 */
+	public static Function<String, Object> leftFunction(int which) {
+		switch (which) {
+		case 0:
+			return a -> a;
+		case 1:
+			return String::valueOf;
+		case 2:
+			return Objects::toString;
+		case 3:
+			return CharSequence::toString;
+		default:
+			throw new IllegalArgumentException("No such function: " + which);
+		}
+	}
+
+	/**
+	 * @param which index of the function, from {@code 0} to {@link CallSiteShape#FUNCTIONS} (exclusive)
+	 * @return a function for {@code Right} values used in benchmarks
+	 */
+	public static Function<Integer, Object> rightFunction(int which) {
+		switch (which) {
+		case 0:
+			return b -> b;
+		case 1:
+			return Objects::requireNonNull;
+		case 2:
+			return Integer::valueOf;
+		case 3:
+			return b -> (Number) b;
+		default:
+			throw new IllegalArgumentException("No such function: " + which);
+		}
+	}
+
+	/**
+	 * @param counts array of counters
+	 * @param which  index of the consumer, from {@code 0} to {@link CallSiteShape#FUNCTIONS} (exclusive)
+	 * @return a consumer which increments one of the given counters
+	 */
+	public static Consumer<Object> counter(long[] counts, int which) {
+		switch (which) {
+		case 0:
+			return ignored -> counts[0]++;
+		case 1:
+			return ignored -> counts[1]++;
+		case 2:
+			return ignored -> counts[2]++;
+		case 3:
+			return ignored -> counts[3]++;
+		default:
+			throw new IllegalArgumentException("No such consumer: " + which);
+		}
+	}
+
+	/**
+	 * Payloads of rights used in benchmarks are kept within the range of {@link Integer#valueOf(int)} cache, so that
+	 * functions from {@link #rightFunction(int)} don't allocate.
+	 *
+	 * @param i index of an element in a data set
+	 * @return a {@code Right} payload for the given index
+	 */
+	public static Integer rightPayload(int i) {
+		return i & 0x7F;
+	}
+
+	/**
+	 * @param i index of an element in a data set
+	 * @return a {@code Left} payload for the given index
+	 */
+	public static String leftPayload(int i) {
+		return "error #" + (i & 0x7F);
+	}
+}
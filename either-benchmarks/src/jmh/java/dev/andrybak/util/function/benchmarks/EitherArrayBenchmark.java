@@ -0,0 +1,111 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.benchmarks;
+
+import dev.andrybak.util.function.java8.Either;
+import dev.andrybak.util.function.java8.EitherArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Compares a {@link List} of {@link Either} with the columnar {@link EitherArray} for building and for visiting all
+ * values.  With the GC profiler, {@code gc.alloc.rate.norm} of the build benchmarks shows the cost of the
+ * {@link Either} objects, which {@link EitherArray} doesn't create.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EitherArrayBenchmark {
+	@Param({"1024", "1048576"})
+	public int size;
+
+	private boolean[] leftMask;
+	private String[] leftPayloads;
+	private Integer[] rightPayloads;
+	private List<Either<String, Integer>> list;
+	private EitherArray<String, Integer> array;
+
+	@Setup
+	public void setup() {
+		leftMask = CallSiteShape.BIMORPHIC.leftMask(size);
+		leftPayloads = new String[size];
+		rightPayloads = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			leftPayloads[i] = DistinctFunctions.leftPayload(i);
+			rightPayloads[i] = DistinctFunctions.rightPayload(i);
+		}
+		list = buildList();
+		array = buildArray();
+	}
+
+	@Benchmark
+	public List<Either<String, Integer>> buildList() {
+		List<Either<String, Integer>> result = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			result.add(leftMask[i] ? Either.left(leftPayloads[i]) : Either.right(rightPayloads[i]));
+		}
+		return result;
+	}
+
+	@Benchmark
+	public EitherArray<String, Integer> buildArray() {
+		EitherArray.Builder<String, Integer> builder = EitherArray.builder(size);
+		for (int i = 0; i < size; i++) {
+			if (leftMask[i]) {
+				builder.addLeft(leftPayloads[i]);
+			} else {
+				builder.addRight(rightPayloads[i]);
+			}
+		}
+		return builder.build();
+	}
+
+	@Benchmark
+	public void forEachList(Blackhole bh) {
+		Consumer<Object> sink = bh::consume;
+		for (Either<String, Integer> e : list) {
+			e.accept(sink, sink);
+		}
+	}
+
+	@Benchmark
+	public void forEachArray(Blackhole bh) {
+		Consumer<Object> sink = bh::consume;
+		array.forEach(sink, sink);
+	}
+
+	@Benchmark
+	public long sumRightsList() {
+		long sum = 0;
+		for (Either<String, Integer> e : list) {
+			sum += e.matchLong(a -> 0L, b -> b);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long sumRightsArray() {
+		long sum = 0;
+		for (Integer b : array.rights()) {
+			sum += b;
+		}
+		return sum;
+	}
+}
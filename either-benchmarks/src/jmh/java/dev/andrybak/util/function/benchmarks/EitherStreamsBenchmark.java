@@ -0,0 +1,134 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Throughput of projections {@code EitherStreams.lefts} and {@code EitherStreams.rights} compared to the
+ * {@code filter} + {@code map} implementation, which dispatches twice per element.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EitherStreamsBenchmark {
+	@Param({"1000", "1000000"})
+	public int size;
+
+	@Param({"false", "true"})
+	public boolean parallel;
+
+	private dev.andrybak.util.function.java8.Either<String, Integer>[] java8Values;
+	private dev.andrybak.util.function.java17.Either<String, Integer>[] java17Values;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		boolean[] leftMask = CallSiteShape.BIMORPHIC.leftMask(size);
+		java8Values = new dev.andrybak.util.function.java8.Either[size];
+		java17Values = new dev.andrybak.util.function.java17.Either[size];
+		for (int i = 0; i < size; i++) {
+			if (leftMask[i]) {
+				java8Values[i] = dev.andrybak.util.function.java8.Either.left(DistinctFunctions.leftPayload(i));
+				java17Values[i] = dev.andrybak.util.function.java17.Either.left(DistinctFunctions.leftPayload(i));
+			} else {
+				java8Values[i] = dev.andrybak.util.function.java8.Either.right(DistinctFunctions.rightPayload(i));
+				java17Values[i] = dev.andrybak.util.function.java17.Either.right(DistinctFunctions.rightPayload(i));
+			}
+		}
+	}
+
+	private <T> Stream<T> stream(T[] values) {
+		Stream<T> s = Arrays.stream(values);
+		return parallel ? s.parallel() : s;
+	}
+
+	@Benchmark
+	public long java8Lefts() {
+		return dev.andrybak.util.function.java8.EitherStreams.lefts(stream(java8Values)).count();
+	}
+
+	@Benchmark
+	public long java8Rights() {
+		return dev.andrybak.util.function.java8.EitherStreams.rights(stream(java8Values)).count();
+	}
+
+	@Benchmark
+	public long java8LeftsFilterMap() {
+		return stream(java8Values)
+				.filter(e -> e.match(left -> true, right -> false))
+				.map(dev.andrybak.util.function.java8.Either.either(
+						Function.identity(),
+						right -> {
+							throw new IllegalStateException("Got a right value after filtering");
+						}
+				))
+				.count();
+	}
+
+	@Benchmark
+	public long java8RightsFilterMap() {
+		return stream(java8Values)
+				.filter(e -> e.match(left -> false, right -> true))
+				.map(dev.andrybak.util.function.java8.Either.either(
+						left -> {
+							throw new IllegalStateException("Got a left value after filtering");
+						},
+						Function.identity()
+				))
+				.count();
+	}
+
+	@Benchmark
+	public long java17Lefts() {
+		return dev.andrybak.util.function.java17.EitherStreams.lefts(stream(java17Values)).count();
+	}
+
+	@Benchmark
+	public long java17Rights() {
+		return dev.andrybak.util.function.java17.EitherStreams.rights(stream(java17Values)).count();
+	}
+
+	@Benchmark
+	public long java17LeftsFilterMap() {
+		return stream(java17Values)
+				.filter(e -> e.match(left -> true, right -> false))
+				.map(dev.andrybak.util.function.java17.Either.either(
+						Function.identity(),
+						right -> {
+							throw new IllegalStateException("Got a right value after filtering");
+						}
+				))
+				.count();
+	}
+
+	@Benchmark
+	public long java17RightsFilterMap() {
+		return stream(java17Values)
+				.filter(e -> e.match(left -> false, right -> true))
+				.map(dev.andrybak.util.function.java17.Either.either(
+						left -> {
+							throw new IllegalStateException("Got a left value after filtering");
+						},
+						Function.identity()
+				))
+				.count();
+	}
+}
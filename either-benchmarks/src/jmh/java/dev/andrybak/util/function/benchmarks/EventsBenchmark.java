@@ -0,0 +1,73 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.benchmarks;
+
+import jdk.jfr.Recording;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of passing results through {@code EitherEvents.record}, compared to no instrumentation, while
+ * the event {@code LeftProduced} is disabled, enabled, and enabled with stack traces.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EventsBenchmark {
+	@Param({"disabled", "enabled", "stackTrace"})
+	public String recording;
+
+	private Recording jfr;
+
+	@Setup
+	public void setup() {
+		if (recording.equals("disabled")) {
+			return;
+		}
+		jfr = new Recording();
+		if (recording.equals("stackTrace")) {
+			jfr.enable(dev.andrybak.util.function.java17.EitherEvents.LeftProduced.NAME).withStackTrace();
+		} else {
+			jfr.enable(dev.andrybak.util.function.java17.EitherEvents.LeftProduced.NAME).withoutStackTrace();
+		}
+		jfr.start();
+	}
+
+	@TearDown
+	public void tearDown() {
+		if (jfr != null) {
+			jfr.close();
+		}
+	}
+
+	private static dev.andrybak.util.function.java17.Either<String, Integer> compute() {
+		int i = ThreadLocalRandom.current().nextInt();
+		return (i & 15) == 0 ? dev.andrybak.util.function.java17.Either.left("error")
+				: dev.andrybak.util.function.java17.Either.right(i);
+	}
+
+	@Benchmark
+	public Object baseline() {
+		return compute();
+	}
+
+	@Benchmark
+	public Object record() {
+		return dev.andrybak.util.function.java17.EitherEvents.record("compute", compute());
+	}
+}
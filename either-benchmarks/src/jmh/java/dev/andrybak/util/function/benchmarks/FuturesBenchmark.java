@@ -0,0 +1,84 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.benchmarks;
+
+import dev.andrybak.util.function.java8.Either;
+import dev.andrybak.util.function.java8.EitherFutures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares handling of partially failed fan-out via {@link EitherFutures#allOf} with the usual
+ * {@link CompletableFuture#allOf} + {@link CompletableFuture#handle} approach, which creates a
+ * {@link CompletionException} for every failed dependent stage.  A share of the futures given by
+ * {@link #failureRate} fails.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FuturesBenchmark {
+	@Param("32")
+	public int size;
+
+	@Param({"0.0", "0.5"})
+	public double failureRate;
+
+	private List<CompletableFuture<Integer>> futures;
+
+	@Setup
+	public void setup() {
+		futures = new ArrayList<>(size);
+		int failures = (int) (failureRate * size);
+		for (int i = 0; i < size; i++) {
+			CompletableFuture<Integer> future = new CompletableFuture<>();
+			if (i < failures) {
+				future.completeExceptionally(new IllegalStateException("backend " + i));
+			} else {
+				future.complete(i);
+			}
+			futures.add(future);
+		}
+	}
+
+	@Benchmark
+	public long eitherFutures() {
+		long sum = 0;
+		for (Either<Throwable, Integer> result : EitherFutures.allOf(futures).join()) {
+			sum += result.matchLong(failure -> -1L, i -> i);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long handle() {
+		List<CompletableFuture<Long>> handled = new ArrayList<>(size);
+		for (CompletableFuture<Integer> future : futures) {
+			handled.add(future
+					.thenApply(i -> (long) i)
+					.handle((i, failure) -> failure == null ? i : -1L));
+		}
+		CompletableFuture.allOf(handled.toArray(new CompletableFuture<?>[0])).join();
+		long sum = 0;
+		for (CompletableFuture<Long> future : handled) {
+			sum += future.join();
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,155 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looks up keys of type {@code Either<Integer, Long>} in a {@link HashMap} and in a {@link ConcurrentHashMap}.  Lefts
+ * are a few error codes and rights are ids, which are allocated in blocks with a stride of {@link #stride}, as
+ * produced by sequences with caching or by sharded id generators.
+ * <p>
+ * Benchmarks {@code legacy*} use keys, which have the hash function of older versions of the library, {@code 31 * h}
+ * for lefts and {@code 37 * h} for rights, for comparison.  Lengths of bucket chains for these keys with the current
+ * hash function are checked by {@code EitherHashCodeTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class HashCollisionBenchmark {
+	private static final int ERROR_CODES = 64;
+
+	@Param("65536")
+	public int size;
+
+	@Param({"1", "1024", "65536"})
+	public long stride;
+
+	private Object[] java8Keys;
+	private Object[] java17Keys;
+	private Object[] legacyKeys;
+	private Map<Object, Object> java8HashMap;
+	private Map<Object, Object> java17HashMap;
+	private Map<Object, Object> legacyHashMap;
+	private Map<Object, Object> java8ConcurrentHashMap;
+	private Map<Object, Object> java17ConcurrentHashMap;
+	private Map<Object, Object> legacyConcurrentHashMap;
+
+	/**
+	 * Key with the hash function of older versions of the library.
+	 */
+	private static final class LegacyKey {
+		private final boolean left;
+		private final Object value;
+
+		private LegacyKey(boolean left, Object value) {
+			this.left = left;
+			this.value = value;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof LegacyKey)) {
+				return false;
+			}
+			LegacyKey other = (LegacyKey) o;
+			return left == other.left && Objects.equals(value, other.value);
+		}
+
+		@Override
+		public int hashCode() {
+			return value == null ? 0 : (left ? 31 : 37) * value.hashCode();
+		}
+	}
+
+	@Setup
+	public void setup() {
+		java8Keys = new Object[size];
+		java17Keys = new Object[size];
+		legacyKeys = new Object[size];
+		for (int i = 0; i < size; i++) {
+			if (i % 16 == 0) {
+				int code = i / 16 % ERROR_CODES;
+				java8Keys[i] = dev.andrybak.util.function.java8.Either.left(code);
+				java17Keys[i] = dev.andrybak.util.function.java17.Either.left(code);
+				legacyKeys[i] = new LegacyKey(true, code);
+			} else {
+				long id = (i / 16) * stride * 16 + i % 16;
+				java8Keys[i] = dev.andrybak.util.function.java8.Either.right(id);
+				java17Keys[i] = dev.andrybak.util.function.java17.Either.right(id);
+				legacyKeys[i] = new LegacyKey(false, id);
+			}
+		}
+		java8HashMap = fill(new HashMap<>(), java8Keys);
+		java17HashMap = fill(new HashMap<>(), java17Keys);
+		legacyHashMap = fill(new HashMap<>(), legacyKeys);
+		java8ConcurrentHashMap = fill(new ConcurrentHashMap<>(), java8Keys);
+		java17ConcurrentHashMap = fill(new ConcurrentHashMap<>(), java17Keys);
+		legacyConcurrentHashMap = fill(new ConcurrentHashMap<>(), legacyKeys);
+	}
+
+	private static Map<Object, Object> fill(Map<Object, Object> map, Object[] keys) {
+		for (Object key : keys) {
+			map.put(key, key);
+		}
+		return map;
+	}
+
+	private static int lookUpAll(Map<Object, Object> map, Object[] keys) {
+		int found = 0;
+		for (Object key : keys) {
+			if (map.get(key) != null) {
+				found++;
+			}
+		}
+		return found;
+	}
+
+	@Benchmark
+	public int java8HashMap() {
+		return lookUpAll(java8HashMap, java8Keys);
+	}
+
+	@Benchmark
+	public int java17HashMap() {
+		return lookUpAll(java17HashMap, java17Keys);
+	}
+
+	@Benchmark
+	public int legacyHashMap() {
+		return lookUpAll(legacyHashMap, legacyKeys);
+	}
+
+	@Benchmark
+	public int java8ConcurrentHashMap() {
+		return lookUpAll(java8ConcurrentHashMap, java8Keys);
+	}
+
+	@Benchmark
+	public int java17ConcurrentHashMap() {
+		return lookUpAll(java17ConcurrentHashMap, java17Keys);
+	}
+
+	@Benchmark
+	public int legacyConcurrentHashMap() {
+		return lookUpAll(legacyConcurrentHashMap, legacyKeys);
+	}
+}
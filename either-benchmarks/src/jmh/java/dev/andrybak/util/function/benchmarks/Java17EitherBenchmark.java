@@ -0,0 +1,132 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.benchmarks;
+
+import dev.andrybak.util.function.java17.Either;
+import dev.andrybak.util.function.java17.EitherStreams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static dev.andrybak.util.function.benchmarks.CallSiteShape.FUNCTIONS;
+import static dev.andrybak.util.function.benchmarks.CallSiteShape.FUNCTIONS_MASK;
+
+/**
+ * Benchmarks of dispatch in {@link dev.andrybak.util.function.java17.Either}: sealed interface implemented
+ * by two records.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class Java17EitherBenchmark {
+	@Param({"MONOMORPHIC", "BIMORPHIC", "MEGAMORPHIC"})
+	public CallSiteShape shape;
+
+	@Param("1024")
+	public int size;
+
+	private Either<String, Integer>[] values;
+	private Function<String, Object>[] fs;
+	private Function<Integer, Object>[] gs;
+	private Function<Either<? extends String, ? extends Integer>, Object>[] eitherFunctions;
+	private Consumer<Object>[] leftConsumers;
+	private Consumer<Object>[] rightConsumers;
+	private final long[] leftCounts = new long[FUNCTIONS];
+	private final long[] rightCounts = new long[FUNCTIONS];
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		boolean[] leftMask = shape.leftMask(size);
+		values = new Either[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = leftMask[i] ?
+					Either.left(DistinctFunctions.leftPayload(i)) :
+					Either.right(DistinctFunctions.rightPayload(i));
+		}
+		fs = new Function[FUNCTIONS];
+		gs = new Function[FUNCTIONS];
+		eitherFunctions = new Function[FUNCTIONS];
+		leftConsumers = new Consumer[FUNCTIONS];
+		rightConsumers = new Consumer[FUNCTIONS];
+		for (int k = 0; k < FUNCTIONS; k++) {
+			int which = shape.functionAt(k);
+			fs[k] = DistinctFunctions.leftFunction(which);
+			gs[k] = DistinctFunctions.rightFunction(which);
+			eitherFunctions[k] = Either.either(fs[k], gs[k]);
+			leftConsumers[k] = DistinctFunctions.counter(leftCounts, which);
+			rightConsumers[k] = DistinctFunctions.counter(rightCounts, which);
+		}
+	}
+
+	@Benchmark
+	public void match(Blackhole bh) {
+		Either<String, Integer>[] values = this.values;
+		for (int i = 0; i < values.length; i++) {
+			int k = i & FUNCTIONS_MASK;
+			bh.consume(values[i].match(fs[k], gs[k]));
+		}
+	}
+
+	@Benchmark
+	public long accept() {
+		Either<String, Integer>[] values = this.values;
+		for (int i = 0; i < values.length; i++) {
+			int k = i & FUNCTIONS_MASK;
+			values[i].accept(leftConsumers[k], rightConsumers[k]);
+		}
+		return leftCounts[0] + rightCounts[0];
+	}
+
+	@Benchmark
+	public void peek(Blackhole bh) {
+		Either<String, Integer>[] values = this.values;
+		for (int i = 0; i < values.length; i++) {
+			int k = i & FUNCTIONS_MASK;
+			bh.consume(values[i].peek(leftConsumers[k], rightConsumers[k]));
+		}
+	}
+
+	@Benchmark
+	public void eitherFunction(Blackhole bh) {
+		Either<String, Integer>[] values = this.values;
+		for (int i = 0; i < values.length; i++) {
+			bh.consume(eitherFunctions[i & FUNCTIONS_MASK].apply(values[i]));
+		}
+	}
+
+	@Benchmark
+	public void eitherStatic(Blackhole bh) {
+		Either<String, Integer>[] values = this.values;
+		for (int i = 0; i < values.length; i++) {
+			int k = i & FUNCTIONS_MASK;
+			bh.consume(Either.either(fs[k], gs[k], values[i]));
+		}
+	}
+
+	@Benchmark
+	public long lefts() {
+		return EitherStreams.lefts(Arrays.stream(values)).count();
+	}
+
+	@Benchmark
+	public long rights() {
+		return EitherStreams.rights(Arrays.stream(values)).count();
+	}
+}
@@ -0,0 +1,91 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a chain of eight {@code map} and {@code flatMap} steps over a {@code Left} and over a {@code Right}.  On the
+ * {@code Left} branch every step returns the same instance, so with {@code -prof gc} the reported
+ * {@code gc.alloc.rate.norm} of the {@code *Left} benchmarks is expected to be zero.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MapBenchmark {
+	@Param("42")
+	public int seed;
+
+	private dev.andrybak.util.function.java8.Either<String, Integer> java8Left;
+	private dev.andrybak.util.function.java8.Either<String, Integer> java8Right;
+	private dev.andrybak.util.function.java17.Either<String, Integer> java17Left;
+	private dev.andrybak.util.function.java17.Either<String, Integer> java17Right;
+
+	@Setup
+	public void setup() {
+		java8Left = dev.andrybak.util.function.java8.Either.left("error " + seed);
+		java8Right = dev.andrybak.util.function.java8.Either.right(seed);
+		java17Left = dev.andrybak.util.function.java17.Either.left("error " + seed);
+		java17Right = dev.andrybak.util.function.java17.Either.right(seed);
+	}
+
+	private static dev.andrybak.util.function.java8.Either<String, Integer> java8Chain(
+			dev.andrybak.util.function.java8.Either<String, Integer> e)
+	{
+		return e.map(i -> i + 1)
+				.flatMap(i -> dev.andrybak.util.function.java8.Either.right(i * 3))
+				.map(i -> i - 2)
+				.map(i -> i ^ 0x5555)
+				.flatMap(i -> dev.andrybak.util.function.java8.Either.right(i >>> 1))
+				.map(i -> i + 7)
+				.map(i -> i * 31)
+				.flatMap(i -> dev.andrybak.util.function.java8.Either.right(i & 0xFFFF));
+	}
+
+	private static dev.andrybak.util.function.java17.Either<String, Integer> java17Chain(
+			dev.andrybak.util.function.java17.Either<String, Integer> e)
+	{
+		return e.map(i -> i + 1)
+				.flatMap(i -> dev.andrybak.util.function.java17.Either.right(i * 3))
+				.map(i -> i - 2)
+				.map(i -> i ^ 0x5555)
+				.flatMap(i -> dev.andrybak.util.function.java17.Either.right(i >>> 1))
+				.map(i -> i + 7)
+				.map(i -> i * 31)
+				.flatMap(i -> dev.andrybak.util.function.java17.Either.right(i & 0xFFFF));
+	}
+
+	@Benchmark
+	public Object java8Left() {
+		return java8Chain(java8Left);
+	}
+
+	@Benchmark
+	public Object java8Right() {
+		return java8Chain(java8Right);
+	}
+
+	@Benchmark
+	public Object java17Left() {
+		return java17Chain(java17Left);
+	}
+
+	@Benchmark
+	public Object java17Right() {
+		return java17Chain(java17Right);
+	}
+}
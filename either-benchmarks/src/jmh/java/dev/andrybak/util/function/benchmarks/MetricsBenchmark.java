@@ -0,0 +1,64 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures the cost of counting results with {@code EitherMetrics} from several threads, compared to no counting,
+ * to counting via {@code peek} with a pair of {@link AtomicLong}s, and to a disabled {@code EitherMetrics}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(2)
+public class MetricsBenchmark {
+	private static final dev.andrybak.util.function.java17.EitherMetrics.Counter ENABLED =
+			dev.andrybak.util.function.java17.EitherMetrics.create().counter("enabled");
+	private static final dev.andrybak.util.function.java17.EitherMetrics.Counter DISABLED =
+			dev.andrybak.util.function.java17.EitherMetrics.disabled().counter("disabled");
+
+	private final AtomicLong lefts = new AtomicLong();
+	private final AtomicLong rights = new AtomicLong();
+
+	private static dev.andrybak.util.function.java17.Either<String, Integer> compute() {
+		int i = ThreadLocalRandom.current().nextInt();
+		return (i & 15) == 0 ? dev.andrybak.util.function.java17.Either.left("error")
+				: dev.andrybak.util.function.java17.Either.right(i);
+	}
+
+	@Benchmark
+	public Object baseline() {
+		return compute();
+	}
+
+	@Benchmark
+	public Object disabled() {
+		return DISABLED.record(compute());
+	}
+
+	@Benchmark
+	public Object enabled() {
+		return ENABLED.record(compute());
+	}
+
+	@Benchmark
+	public Object atomicLongPeek() {
+		return compute().peek(a -> lefts.incrementAndGet(), b -> rights.incrementAndGet());
+	}
+}
@@ -0,0 +1,79 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.benchmarks;
+
+import dev.andrybak.util.function.java8.Either;
+import dev.andrybak.util.function.java8.EitherParallel;
+import dev.andrybak.util.function.java8.EitherStreams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares sequential {@link EitherStreams#traverse} with {@link EitherParallel#traverse} on the common pool.  Each
+ * call of the function burns some CPU, and a single element at the position given by {@link #failAt}, as a
+ * fraction of the input, produces a {@code Left}, or none does for {@code 1.0}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ParallelTraverseBenchmark {
+	@Param("100000")
+	public int size;
+
+	@Param({"0.01", "0.5", "1.0"})
+	public double failAt;
+
+	@Param("100")
+	public long tokens;
+
+	private List<Integer> input;
+	private int failIndex;
+
+	@Setup
+	public void setup() {
+		input = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			input.add(i);
+		}
+		failIndex = (int) (failAt * size);
+	}
+
+	private Either<String, Integer> validate(Integer i) {
+		Blackhole.consumeCPU(tokens);
+		return i == failIndex ? Either.left("invalid: " + i) : Either.right(i);
+	}
+
+	@Benchmark
+	public Object sequential() {
+		return EitherStreams.traverse(input.stream(), this::validate);
+	}
+
+	@Benchmark
+	public Object parallelLowestIndex() {
+		return EitherParallel.traverse(input, this::validate, ForkJoinPool.commonPool(),
+				EitherParallel.LeftSelection.LOWEST_INDEX);
+	}
+
+	@Benchmark
+	public Object parallelAny() {
+		return EitherParallel.traverse(input, this::validate, ForkJoinPool.commonPool(),
+				EitherParallel.LeftSelection.ANY);
+	}
+}
@@ -0,0 +1,107 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares producing and consuming {@code Either<String, Long>} with {@code EitherLong<String>}, which doesn't box
+ * the right value.  Run with the GC profiler to see the difference in allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PrimitiveEitherBenchmark {
+	private static final String ERROR = "negative sample";
+
+	@Param("1024")
+	public int size;
+
+	private long[] samples;
+	private long sum;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		samples = new long[size];
+		for (int i = 0; i < size; i++) {
+			// roughly 1% of "parse errors"
+			samples[i] = random.nextInt(100) == 0 ? -1 : random.nextLong() >>> 1;
+		}
+	}
+
+	private static dev.andrybak.util.function.java8.Either<String, Long> parseJava8(long sample) {
+		return sample < 0 ?
+				dev.andrybak.util.function.java8.Either.left(ERROR) :
+				dev.andrybak.util.function.java8.Either.right(sample);
+	}
+
+	private static dev.andrybak.util.function.java8.EitherLong<String> parseJava8Long(long sample) {
+		return sample < 0 ?
+				dev.andrybak.util.function.java8.EitherLong.left(ERROR) :
+				dev.andrybak.util.function.java8.EitherLong.right(sample);
+	}
+
+	private static dev.andrybak.util.function.java17.Either<String, Long> parseJava17(long sample) {
+		return sample < 0 ?
+				dev.andrybak.util.function.java17.Either.left(ERROR) :
+				dev.andrybak.util.function.java17.Either.right(sample);
+	}
+
+	private static dev.andrybak.util.function.java17.EitherLong<String> parseJava17Long(long sample) {
+		return sample < 0 ?
+				dev.andrybak.util.function.java17.EitherLong.left(ERROR) :
+				dev.andrybak.util.function.java17.EitherLong.right(sample);
+	}
+
+	@Benchmark
+	public long java8Boxed() {
+		long[] samples = this.samples;
+		for (long sample : samples) {
+			parseJava8(sample).accept(a -> sum--, b -> sum += b);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long java8Specialized() {
+		long[] samples = this.samples;
+		for (long sample : samples) {
+			parseJava8Long(sample).accept(a -> sum--, b -> sum += b);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long java17Boxed() {
+		long[] samples = this.samples;
+		for (long sample : samples) {
+			parseJava17(sample).accept(a -> sum--, b -> sum += b);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long java17Specialized() {
+		long[] samples = this.samples;
+		for (long sample : samples) {
+			parseJava17Long(sample).accept(a -> sum--, b -> sum += b);
+		}
+		return sum;
+	}
+}
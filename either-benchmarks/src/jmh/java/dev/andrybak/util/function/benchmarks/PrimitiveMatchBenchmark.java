@@ -0,0 +1,148 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reducing an {@code Either} to a number or a flag via generic {@code match}, which boxes the result, with
+ * primitive-returning {@code matchInt}, {@code matchLong}, {@code matchDouble} and {@code matchBoolean}.
+ * <p>
+ * Results of the functions are outside of the {@link Integer#valueOf(int)} cache, so that boxing isn't hidden by
+ * it.  With the GC profiler, {@code gc.alloc.rate.norm} of the primitive variants is expected to be zero.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PrimitiveMatchBenchmark {
+	@Param("1024")
+	public int size;
+
+	private dev.andrybak.util.function.java8.Either<String, Integer>[] java8Values;
+	private dev.andrybak.util.function.java17.Either<String, Integer>[] java17Values;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		boolean[] leftMask = CallSiteShape.BIMORPHIC.leftMask(size);
+		java8Values = new dev.andrybak.util.function.java8.Either[size];
+		java17Values = new dev.andrybak.util.function.java17.Either[size];
+		for (int i = 0; i < size; i++) {
+			if (leftMask[i]) {
+				java8Values[i] = dev.andrybak.util.function.java8.Either.left(DistinctFunctions.leftPayload(i));
+				java17Values[i] = dev.andrybak.util.function.java17.Either.left(DistinctFunctions.leftPayload(i));
+			} else {
+				java8Values[i] = dev.andrybak.util.function.java8.Either.right(DistinctFunctions.rightPayload(i));
+				java17Values[i] = dev.andrybak.util.function.java17.Either.right(DistinctFunctions.rightPayload(i));
+			}
+		}
+	}
+
+	@Benchmark
+	public long java8MatchBoxed() {
+		long sum = 0;
+		for (dev.andrybak.util.function.java8.Either<String, Integer> e : java8Values) {
+			sum += e.match(a -> -1000 * a.length(), b -> 1000 * b);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long java8MatchInt() {
+		long sum = 0;
+		for (dev.andrybak.util.function.java8.Either<String, Integer> e : java8Values) {
+			sum += e.matchInt(a -> -1000 * a.length(), b -> 1000 * b);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long java8MatchLong() {
+		long sum = 0;
+		for (dev.andrybak.util.function.java8.Either<String, Integer> e : java8Values) {
+			sum += e.matchLong(a -> -1000L * a.length(), b -> 1000L * b);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public double java8MatchDouble() {
+		double sum = 0;
+		for (dev.andrybak.util.function.java8.Either<String, Integer> e : java8Values) {
+			sum += e.matchDouble(a -> -0.5 * a.length(), b -> 0.5 * b);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int java8MatchBoolean() {
+		int count = 0;
+		for (dev.andrybak.util.function.java8.Either<String, Integer> e : java8Values) {
+			if (e.matchBoolean(String::isEmpty, b -> b > 64)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Benchmark
+	public long java17MatchBoxed() {
+		long sum = 0;
+		for (dev.andrybak.util.function.java17.Either<String, Integer> e : java17Values) {
+			sum += e.match(a -> -1000 * a.length(), b -> 1000 * b);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long java17MatchInt() {
+		long sum = 0;
+		for (dev.andrybak.util.function.java17.Either<String, Integer> e : java17Values) {
+			sum += e.matchInt(a -> -1000 * a.length(), b -> 1000 * b);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long java17MatchLong() {
+		long sum = 0;
+		for (dev.andrybak.util.function.java17.Either<String, Integer> e : java17Values) {
+			sum += e.matchLong(a -> -1000L * a.length(), b -> 1000L * b);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public double java17MatchDouble() {
+		double sum = 0;
+		for (dev.andrybak.util.function.java17.Either<String, Integer> e : java17Values) {
+			sum += e.matchDouble(a -> -0.5 * a.length(), b -> 0.5 * b);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int java17MatchBoolean() {
+		int count = 0;
+		for (dev.andrybak.util.function.java17.Either<String, Integer> e : java17Values) {
+			if (e.matchBoolean(String::isEmpty, b -> b > 64)) {
+				count++;
+			}
+		}
+		return count;
+	}
+}
@@ -0,0 +1,172 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares Java serialization of {@code Either} from {@code either-java8}, which uses a compact serialization proxy,
+ * with the default serialized form of the records from {@code either-java17}, and with binary encoding via
+ * {@code EitherCodec}.
+ * <p>
+ * Each benchmark writes a single value into a fresh {@link ObjectOutputStream}, so that the class descriptors, which
+ * dominate the size of small streams, are included in every measurement.
+ * Benchmarks {@code *RoundTrip*} write a value and read it back.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SerializationBenchmark {
+	private dev.andrybak.util.function.java8.Either<String, Long> java8Left;
+	private dev.andrybak.util.function.java8.Either<String, Long> java8Right;
+	private dev.andrybak.util.function.java17.Either<String, Long> java17Left;
+	private dev.andrybak.util.function.java17.Either<String, Long> java17Right;
+	private byte[] java8LeftBytes;
+	private byte[] java8RightBytes;
+	private byte[] java17LeftBytes;
+	private byte[] java17RightBytes;
+	private dev.andrybak.util.function.java8.EitherCodec<String, Long> codec;
+	private ByteBuffer codecBuffer;
+	private ByteBuffer codecLeftBytes;
+	private ByteBuffer codecRightBytes;
+
+	@Setup
+	public void setup() throws IOException {
+		java8Left = dev.andrybak.util.function.java8.Either.left("foo");
+		java8Right = dev.andrybak.util.function.java8.Either.right(1_000_000L);
+		java17Left = dev.andrybak.util.function.java17.Either.left("foo");
+		java17Right = dev.andrybak.util.function.java17.Either.right(1_000_000L);
+		java8LeftBytes = serialize(java8Left);
+		java8RightBytes = serialize(java8Right);
+		java17LeftBytes = serialize(java17Left);
+		java17RightBytes = serialize(java17Right);
+		codec = dev.andrybak.util.function.java8.EitherCodec.of(
+				dev.andrybak.util.function.java8.EitherCodec.ValueCodec.utf8(),
+				dev.andrybak.util.function.java8.EitherCodec.ValueCodec.int64()
+		);
+		codecBuffer = ByteBuffer.allocate(256);
+		codecLeftBytes = ByteBuffer.allocate(codec.size(java8Left));
+		codec.encode(java8Left, codecLeftBytes);
+		codecLeftBytes.flip();
+		codecRightBytes = ByteBuffer.allocate(codec.size(java8Right));
+		codec.encode(java8Right, codecRightBytes);
+		codecRightBytes.flip();
+	}
+
+	@Benchmark
+	public byte[] java8SerializeLeft() throws IOException {
+		return serialize(java8Left);
+	}
+
+	@Benchmark
+	public byte[] java8SerializeRight() throws IOException {
+		return serialize(java8Right);
+	}
+
+	@Benchmark
+	public byte[] java17SerializeLeft() throws IOException {
+		return serialize(java17Left);
+	}
+
+	@Benchmark
+	public byte[] java17SerializeRight() throws IOException {
+		return serialize(java17Right);
+	}
+
+	@Benchmark
+	public Object java8DeserializeLeft() throws IOException, ClassNotFoundException {
+		return deserialize(java8LeftBytes);
+	}
+
+	@Benchmark
+	public Object java8DeserializeRight() throws IOException, ClassNotFoundException {
+		return deserialize(java8RightBytes);
+	}
+
+	@Benchmark
+	public Object java17DeserializeLeft() throws IOException, ClassNotFoundException {
+		return deserialize(java17LeftBytes);
+	}
+
+	@Benchmark
+	public Object java17DeserializeRight() throws IOException, ClassNotFoundException {
+		return deserialize(java17RightBytes);
+	}
+
+	@Benchmark
+	public Object java8RoundTripLeft() throws IOException, ClassNotFoundException {
+		return deserialize(serialize(java8Left));
+	}
+
+	@Benchmark
+	public Object java8RoundTripRight() throws IOException, ClassNotFoundException {
+		return deserialize(serialize(java8Right));
+	}
+
+	@Benchmark
+	public Object java17RoundTripLeft() throws IOException, ClassNotFoundException {
+		return deserialize(serialize(java17Left));
+	}
+
+	@Benchmark
+	public Object java17RoundTripRight() throws IOException, ClassNotFoundException {
+		return deserialize(serialize(java17Right));
+	}
+
+	@Benchmark
+	public ByteBuffer codecEncodeLeft() {
+		codecBuffer.clear();
+		codec.encode(java8Left, codecBuffer);
+		return codecBuffer;
+	}
+
+	@Benchmark
+	public ByteBuffer codecEncodeRight() {
+		codecBuffer.clear();
+		codec.encode(java8Right, codecBuffer);
+		return codecBuffer;
+	}
+
+	@Benchmark
+	public Object codecDecodeLeft() {
+		return codec.decode(codecLeftBytes.duplicate());
+	}
+
+	@Benchmark
+	public Object codecDecodeRight() {
+		return codec.decode(codecRightBytes.duplicate());
+	}
+
+	private static byte[] serialize(Object value) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+		try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+			output.writeObject(value);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+		try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+			return input.readObject();
+		}
+	}
+}
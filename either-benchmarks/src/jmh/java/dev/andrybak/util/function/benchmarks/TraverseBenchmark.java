@@ -0,0 +1,100 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares short-circuiting {@code EitherStreams.traverse} with collecting the whole stream and then looking for
+ * the first {@code Left}.  The input is parsed, and contains a single unparseable string at the position given by
+ * {@link #failAt} as a fraction of the input, or no such string for {@code 1.0}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TraverseBenchmark {
+	@Param("100000")
+	public int size;
+
+	@Param({"0.01", "0.5", "1.0"})
+	public double failAt;
+
+	private String[] input;
+
+	@Setup
+	public void setup() {
+		input = new String[size];
+		for (int i = 0; i < size; i++) {
+			input[i] = Integer.toString(i);
+		}
+		int failIndex = (int) (failAt * size);
+		if (failIndex < size) {
+			input[failIndex] = "not a number";
+		}
+	}
+
+	private static dev.andrybak.util.function.java8.Either<String, Integer> java8Parse(String s) {
+		try {
+			return dev.andrybak.util.function.java8.Either.right(Integer.parseInt(s));
+		} catch (NumberFormatException e) {
+			return dev.andrybak.util.function.java8.Either.left(s);
+		}
+	}
+
+	private static dev.andrybak.util.function.java17.Either<String, Integer> java17Parse(String s) {
+		try {
+			return dev.andrybak.util.function.java17.Either.right(Integer.parseInt(s));
+		} catch (NumberFormatException e) {
+			return dev.andrybak.util.function.java17.Either.left(s);
+		}
+	}
+
+	@Benchmark
+	public Object java8Traverse() {
+		return dev.andrybak.util.function.java8.EitherStreams.traverse(
+				Arrays.stream(input),
+				TraverseBenchmark::java8Parse
+		);
+	}
+
+	@Benchmark
+	public Object java8CollectThenScan() {
+		List<dev.andrybak.util.function.java8.Either<String, Integer>> parsed = Arrays.stream(input)
+				.map(TraverseBenchmark::java8Parse)
+				.collect(Collectors.toList());
+		Optional<String> firstLeft = dev.andrybak.util.function.java8.EitherStreams.lefts(parsed.stream())
+				.findFirst();
+		if (firstLeft.isPresent()) {
+			return dev.andrybak.util.function.java8.Either.left(firstLeft.get());
+		}
+		return dev.andrybak.util.function.java8.Either.right(
+				dev.andrybak.util.function.java8.EitherStreams.rights(parsed.stream()).collect(Collectors.toList())
+		);
+	}
+
+	@Benchmark
+	public Object java17Traverse() {
+		return dev.andrybak.util.function.java17.EitherStreams.traverse(
+				Arrays.stream(input),
+				TraverseBenchmark::java17Parse
+		);
+	}
+}
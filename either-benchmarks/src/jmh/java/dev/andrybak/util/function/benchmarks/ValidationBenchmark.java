@@ -0,0 +1,95 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares accumulation of errors via {@code EitherValidation.collecting} with the approach, which copies the list of
+ * errors for every {@code Left} to keep it immutable.  Every {@code 1/leftRatio}-th element of the input is a
+ * {@code Left}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ValidationBenchmark {
+	@Param({"1000", "10000"})
+	public int size;
+
+	@Param({"2", "100"})
+	public int leftRatio;
+
+	private List<dev.andrybak.util.function.java8.Either<String, Integer>> java8Input;
+	private List<dev.andrybak.util.function.java17.Either<String, Integer>> java17Input;
+
+	@Setup
+	public void setup() {
+		java8Input = new ArrayList<>(size);
+		java17Input = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			if (i % leftRatio == 0) {
+				java8Input.add(dev.andrybak.util.function.java8.Either.left("error " + i));
+				java17Input.add(dev.andrybak.util.function.java17.Either.left("error " + i));
+			} else {
+				java8Input.add(dev.andrybak.util.function.java8.Either.right(i));
+				java17Input.add(dev.andrybak.util.function.java17.Either.right(i));
+			}
+		}
+	}
+
+	@Benchmark
+	public Object java8Collecting() {
+		return java8Input.stream().collect(dev.andrybak.util.function.java8.EitherValidation.collecting());
+	}
+
+	@Benchmark
+	public Object java8CopyingList() {
+		List<String> errors = Collections.emptyList();
+		for (dev.andrybak.util.function.java8.Either<String, Integer> e : java8Input) {
+			List<String> previous = errors;
+			errors = e.match(a -> {
+				List<String> copy = new ArrayList<>(previous.size() + 1);
+				copy.addAll(previous);
+				copy.add(a);
+				return Collections.unmodifiableList(copy);
+			}, b -> previous);
+		}
+		return errors;
+	}
+
+	@Benchmark
+	public Object java17Collecting() {
+		return java17Input.stream().collect(dev.andrybak.util.function.java17.EitherValidation.collecting());
+	}
+
+	@Benchmark
+	public Object java17Errors() {
+		dev.andrybak.util.function.java17.EitherValidation.Errors<String> errors = null;
+		for (dev.andrybak.util.function.java17.Either<String, Integer> e : java17Input) {
+			dev.andrybak.util.function.java17.EitherValidation.Errors<String> previous = errors;
+			errors = e.match(
+					a -> previous == null ? dev.andrybak.util.function.java17.EitherValidation.Errors.of(a)
+							: previous.append(a),
+					b -> previous
+			);
+		}
+		return errors == null ? null : errors.toList();
+	}
+}
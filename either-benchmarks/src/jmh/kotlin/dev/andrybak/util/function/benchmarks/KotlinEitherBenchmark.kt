@@ -0,0 +1,179 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.benchmarks
+
+import dev.andrybak.util.function.benchmarks.CallSiteShape.FUNCTIONS
+import dev.andrybak.util.function.benchmarks.CallSiteShape.FUNCTIONS_MASK
+import dev.andrybak.util.function.kotlin.Either
+import dev.andrybak.util.function.kotlin.either
+import dev.andrybak.util.function.kotlin.lefts
+import dev.andrybak.util.function.kotlin.partitionEither
+import dev.andrybak.util.function.kotlin.rights
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+import org.openjdk.jmh.infra.Blackhole
+import java.util.concurrent.TimeUnit
+
+/**
+ * Benchmarks of dispatch in [dev.andrybak.util.function.kotlin.Either]: sealed class with inline [Either.match].
+ *
+ * Benchmarks [matchInlined], [matchSum], and [matchIntSum] pass lambda literals, which are inlined into the call
+ * site.  Other benchmarks pass function values, which are invoked through [Function1.invoke] and are therefore
+ * affected by [CallSiteShape].
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+open class KotlinEitherBenchmark {
+	@Param("MONOMORPHIC", "BIMORPHIC", "MEGAMORPHIC")
+	@JvmField
+	var shape: CallSiteShape = CallSiteShape.MONOMORPHIC
+
+	@Param("1024")
+	@JvmField
+	var size: Int = 0
+
+	private lateinit var values: Array<Either<String, Int>>
+	private lateinit var valuesList: List<Either<String, Int>>
+	private lateinit var fs: Array<(String) -> Any?>
+	private lateinit var gs: Array<(Int) -> Any?>
+	private lateinit var eitherFunctions: Array<(Either<String, Int>) -> Any?>
+	private lateinit var leftConsumers: Array<(String) -> Unit>
+	private lateinit var rightConsumers: Array<(Int) -> Unit>
+	private val leftCounts = LongArray(FUNCTIONS)
+	private val rightCounts = LongArray(FUNCTIONS)
+
+	@Setup
+	fun setup() {
+		val leftMask = shape.leftMask(size)
+		values = Array(size) { i ->
+			if (leftMask[i]) {
+				Either.left(DistinctFunctions.leftPayload(i))
+			} else {
+				Either.right(DistinctFunctions.rightPayload(i))
+			}
+		}
+		valuesList = values.asList()
+		fs = Array(FUNCTIONS) { k -> leftFunction(shape.functionAt(k)) }
+		gs = Array(FUNCTIONS) { k -> rightFunction(shape.functionAt(k)) }
+		eitherFunctions = Array(FUNCTIONS) { k -> either(fs[k], gs[k]) }
+		leftConsumers = Array(FUNCTIONS) { k -> counter(leftCounts, shape.functionAt(k)) }
+		rightConsumers = Array(FUNCTIONS) { k -> counter(rightCounts, shape.functionAt(k)) }
+	}
+
+	@Benchmark
+	fun matchInlined(bh: Blackhole) {
+		for (e in values) {
+			bh.consume(e.match({ a -> a }, { b -> b }))
+		}
+	}
+
+	@Benchmark
+	fun matchSum(): Long {
+		var sum = 0L
+		for (e in values) {
+			sum += e.match({ a -> -1000 * a.length }, { b -> 1000 * b })
+		}
+		return sum
+	}
+
+	@Benchmark
+	fun matchIntSum(): Long {
+		var sum = 0L
+		for (e in values) {
+			sum += e.matchInt({ a -> -1000 * a.length }, { b -> 1000 * b })
+		}
+		return sum
+	}
+
+	@Benchmark
+	fun match(bh: Blackhole) {
+		val values = values
+		for (i in values.indices) {
+			val k = i and FUNCTIONS_MASK
+			bh.consume(values[i].match(fs[k], gs[k]))
+		}
+	}
+
+	@Benchmark
+	fun accept(): Long {
+		val values = values
+		for (i in values.indices) {
+			val k = i and FUNCTIONS_MASK
+			values[i].accept(leftConsumers[k], rightConsumers[k])
+		}
+		return leftCounts[0] + rightCounts[0]
+	}
+
+	@Benchmark
+	fun peek(bh: Blackhole) {
+		val values = values
+		for (i in values.indices) {
+			val k = i and FUNCTIONS_MASK
+			bh.consume(values[i].peek(leftConsumers[k], rightConsumers[k]))
+		}
+	}
+
+	@Benchmark
+	fun eitherFunction(bh: Blackhole) {
+		val values = values
+		for (i in values.indices) {
+			bh.consume(eitherFunctions[i and FUNCTIONS_MASK](values[i]))
+		}
+	}
+
+	@Benchmark
+	fun eitherStatic(bh: Blackhole) {
+		val values = values
+		for (i in values.indices) {
+			val k = i and FUNCTIONS_MASK
+			bh.consume(either(fs[k], gs[k], values[i]))
+		}
+	}
+
+	@Benchmark
+	fun lefts(): List<String> = valuesList.lefts()
+
+	@Benchmark
+	fun rights(): List<Int> = valuesList.rights()
+
+	@Benchmark
+	fun partitionEither(): Pair<List<String>, List<Int>> = valuesList.partitionEither()
+
+	private companion object {
+		fun leftFunction(which: Int): (String) -> Any? = when (which) {
+			0 -> { a -> a }
+			1 -> String::toString
+			2 -> { a -> a as CharSequence }
+			3 -> CharSequence::toString
+			else -> throw IllegalArgumentException("No such function: $which")
+		}
+
+		fun rightFunction(which: Int): (Int) -> Any? = when (which) {
+			0 -> { b -> b }
+			1 -> Int::toInt
+			2 -> { b -> b as Number }
+			3 -> { b -> b as Comparable<*> }
+			else -> throw IllegalArgumentException("No such function: $which")
+		}
+
+		fun counter(counts: LongArray, which: Int): (Any?) -> Unit = when (which) {
+			0 -> { _ -> counts[0]++ }
+			1 -> { _ -> counts[1]++ }
+			2 -> { _ -> counts[2]++ }
+			3 -> { _ -> counts[3]++ }
+			else -> throw IllegalArgumentException("No such consumer: $which")
+		}
+	}
+}
@@ -0,0 +1,113 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.benchmarks
+
+import dev.andrybak.util.function.kotlin.Either
+import dev.andrybak.util.function.kotlin.either
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+import org.openjdk.jmh.infra.Blackhole
+import java.util.concurrent.TimeUnit
+import kotlin.random.Random
+
+/**
+ * Compares short-circuiting of function [either] with explicit `when` expressions, and with an implementation of
+ * `bind`, which throws an exception to exit the block.  A fraction [failRate] of inputs fails validation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+open class KotlinEitherScopeBenchmark {
+	@Param("0.0", "0.5", "1.0")
+	@JvmField
+	var failRate: Double = 0.0
+
+	@Param("1024")
+	@JvmField
+	var size: Int = 0
+
+	private lateinit var values: IntArray
+
+	@Setup
+	fun setup() {
+		val failing = (failRate * size).toInt()
+		values = IntArray(size) { i -> if (i < failing) -i - 1 else i }
+		values.shuffle(Random(42))
+	}
+
+	private fun positive(i: Int): Either<String, Int> = if (i >= 0) Either.right(i) else LEFT
+
+	private fun even(i: Int): Either<String, Int> = Either.right(i and 1.inv())
+
+	private fun validateDsl(i: Int): Either<String, Int> = either {
+		val x = positive(i).bind { return@either it }
+		val y = even(x).bind { return@either it }
+		Either.right(x + y)
+	}
+
+	private fun validateWhen(i: Int): Either<String, Int> {
+		val x = when (val e = positive(i)) {
+			is Either.Left -> return Either.left(e.leftValue)
+			is Either.Right -> e.rightValue
+		}
+		val y = when (val e = even(x)) {
+			is Either.Left -> return Either.left(e.leftValue)
+			is Either.Right -> e.rightValue
+		}
+		return Either.right(x + y)
+	}
+
+	private class BindException(val left: Either<*, *>) : RuntimeException()
+
+	private fun <B> Either<String, B>.bindThrowing(): B = when (this) {
+		is Either.Left -> throw BindException(this)
+		is Either.Right -> rightValue
+	}
+
+	@Suppress("UNCHECKED_CAST")
+	private fun validateThrowing(i: Int): Either<String, Int> {
+		return try {
+			val x = positive(i).bindThrowing()
+			val y = even(x).bindThrowing()
+			Either.right(x + y)
+		} catch (e: BindException) {
+			e.left as Either<String, Int>
+		}
+	}
+
+	@Benchmark
+	fun dsl(bh: Blackhole) {
+		for (v in values) {
+			bh.consume(validateDsl(v))
+		}
+	}
+
+	@Benchmark
+	fun explicitWhen(bh: Blackhole) {
+		for (v in values) {
+			bh.consume(validateWhen(v))
+		}
+	}
+
+	@Benchmark
+	fun exceptions(bh: Blackhole) {
+		for (v in values) {
+			bh.consume(validateThrowing(v))
+		}
+	}
+
+	private companion object {
+		val LEFT: Either<String, Int> = Either.left("negative")
+	}
+}
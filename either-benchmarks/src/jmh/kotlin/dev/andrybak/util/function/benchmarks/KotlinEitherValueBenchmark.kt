@@ -0,0 +1,64 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.benchmarks
+
+import dev.andrybak.util.function.kotlin.Either
+import dev.andrybak.util.function.kotlin.EitherValue
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+import java.util.concurrent.TimeUnit
+
+/**
+ * Compares results of a function returned as [Either] and as [EitherValue].  All results are right, and their
+ * values are preallocated, so with `-prof gc` the benchmark [eitherValue] is expected to allocate nothing, while
+ * [either] allocates an [Either.Right] per call, unless escape analysis manages to eliminate it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+open class KotlinEitherValueBenchmark {
+	@Param("1024")
+	@JvmField
+	var size: Int = 0
+
+	private lateinit var values: Array<String>
+
+	@Setup
+	fun setup() {
+		values = Array(size) { i -> "value $i" }
+	}
+
+	private fun checkEither(s: String): Either<Int, String> = if (s.isEmpty()) Either.left(0) else Either.right(s)
+
+	private fun checkEitherValue(s: String): EitherValue<Int, String> =
+		if (s.isEmpty()) EitherValue.left(0) else EitherValue.right(s)
+
+	@Benchmark
+	fun either(): Int {
+		var sum = 0
+		for (v in values) {
+			sum += checkEither(v).matchInt({ it }, { it.length })
+		}
+		return sum
+	}
+
+	@Benchmark
+	fun eitherValue(): Int {
+		var sum = 0
+		for (v in values) {
+			sum += checkEitherValue(v).matchInt({ it }, { it.length })
+		}
+		return sum
+	}
+}
@@ -0,0 +1,42 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java17;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.Function;
+
+/**
+ * Left alternative of the {@link EitherDouble EitherDouble&lt;A&gt;} type, containing a value of type {@code A}.
+ *
+ * @param <A> type of the value in this {@link DoubleLeft}
+ * @param a   the {@code A} value stored in this {@link DoubleLeft}
+ */
+record DoubleLeft<A>(A a) implements EitherDouble<A> {
+	@Override
+	public <R> R match(Function<? super A, ? extends R> f, DoubleFunction<? extends R> g) {
+		return f.apply(a);
+	}
+
+	@Override
+	public void accept(Consumer<? super A> f, DoubleConsumer g) {
+		f.accept(a);
+	}
+
+	@Override
+	public EitherDouble<A> peek(Consumer<? super A> f, DoubleConsumer g) {
+		f.accept(a);
+		return this;
+	}
+
+	@Override
+	public Either<A, Double> toEither() {
+		return Either.left(a);
+	}
+
+	@Override
+	public int hashCode() {
+		return Hashing.left(Objects.hashCode(a));
+	}
+}
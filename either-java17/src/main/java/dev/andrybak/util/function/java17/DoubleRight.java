@@ -0,0 +1,41 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java17;
+
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.Function;
+
+/**
+ * Right alternative of the {@link EitherDouble EitherDouble&lt;A&gt;} type, containing a value of type {@code double}.
+ *
+ * @param <A> type of the value in the corresponding {@link DoubleLeft}
+ * @param b   the {@code double} value stored in this {@link DoubleRight}
+ */
+record DoubleRight<A>(double b) implements EitherDouble<A> {
+	@Override
+	public <R> R match(Function<? super A, ? extends R> f, DoubleFunction<? extends R> g) {
+		return g.apply(b);
+	}
+
+	@Override
+	public void accept(Consumer<? super A> f, DoubleConsumer g) {
+		g.accept(b);
+	}
+
+	@Override
+	public EitherDouble<A> peek(Consumer<? super A> f, DoubleConsumer g) {
+		g.accept(b);
+		return this;
+	}
+
+	@Override
+	public Either<A, Double> toEither() {
+		return Either.right(b);
+	}
+
+	@Override
+	public int hashCode() {
+		return Hashing.right(Double.hashCode(b));
+	}
+}
@@ -0,0 +1,524 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java17;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Immutable sequence of {@link Either} values, stored in columns instead of as separate {@link Left} and
+ * {@link Right} objects.
+ * <p>
+ * Values of {@link Left} elements and values of {@link Right} elements are stored in two dense arrays,
+ * and alternatives of elements are stored as a bitset.  Compared to a {@link List} of {@link Either}, this saves
+ * an object per element.  Objects of {@link Either} are created only by {@link #get(int)} and by iteration over
+ * this sequence as {@link Either} values.  Use {@link #forEach(Consumer, Consumer)}, {@link #lefts()} and
+ * {@link #rights()} to avoid creating them.
+ * </p>
+ * <p>
+ * Example:
+ * <pre>{@code
+ * EitherArray.Builder<String, Long> builder = EitherArray.builder();
+ * for (Row row : rows) {
+ *     builder.add(parse(row));
+ * }
+ * EitherArray<String, Long> results = builder.build();
+ * results.forEach(errors::add, ids::add);
+ * }</pre>
+ *
+ * @param <A> type for {@link Left}
+ * @param <B> type for {@link Right}
+ */
+public final class EitherArray<A, B> implements Iterable<Either<A, B>> {
+	private static final int ADDRESS_BITS_PER_WORD = 6;
+	private static final int BITS_PER_WORD = 1 << ADDRESS_BITS_PER_WORD;
+	/**
+	 * Some VMs reserve header words in arrays.
+	 */
+	private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+	private static final Object[] NO_VALUES = new Object[0];
+	private static final EitherArray<?, ?> EMPTY = new EitherArray<>(NO_VALUES, 0, NO_VALUES, 0, new long[0], 0);
+
+	private final Object[] lefts;
+	private final int leftCount;
+	private final Object[] rights;
+	private final int rightCount;
+	/**
+	 * Bit {@code i} is set, if element {@code i} is a {@link Left}.
+	 */
+	private final long[] leftBits;
+	/**
+	 * Number of {@link Left} elements before each word of {@link #leftBits}, which allows finding the index of
+	 * the value of element {@code i} in {@link #lefts} or {@link #rights} in constant time.
+	 */
+	private final int[] leftRanks;
+	private final int size;
+
+	private EitherArray(Object[] lefts, int leftCount, Object[] rights, int rightCount, long[] leftBits, int size) {
+		this.lefts = lefts;
+		this.leftCount = leftCount;
+		this.rights = rights;
+		this.rightCount = rightCount;
+		this.leftBits = leftBits;
+		this.size = size;
+		this.leftRanks = new int[leftBits.length];
+		int rank = 0;
+		for (int i = 0; i < leftBits.length; i++) {
+			leftRanks[i] = rank;
+			rank += Long.bitCount(leftBits[i]);
+		}
+	}
+
+	/**
+	 * Returns an empty {@link EitherArray}.
+	 *
+	 * @param <A> type for {@link Left}
+	 * @param <B> type for {@link Right}
+	 * @return an empty {@link EitherArray}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A, B> EitherArray<A, B> empty() {
+		return (EitherArray<A, B>) EMPTY;
+	}
+
+	/**
+	 * Returns an {@link EitherArray} with the given values in iteration order.
+	 *
+	 * @param eithers values to copy
+	 * @param <A>     type for {@link Left}
+	 * @param <B>     type for {@link Right}
+	 * @return an {@link EitherArray} with the given values
+	 */
+	public static <A, B> EitherArray<A, B> copyOf(Iterable<? extends Either<? extends A, ? extends B>> eithers) {
+		Builder<A, B> builder = eithers instanceof Collection<?> c ? builder(c.size()) : builder();
+		for (Either<? extends A, ? extends B> either : eithers) {
+			builder.add(either);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Returns a new {@link Builder} of {@link EitherArray}.
+	 *
+	 * @param <A> type for {@link Left}
+	 * @param <B> type for {@link Right}
+	 * @return a new empty {@link Builder}
+	 */
+	public static <A, B> Builder<A, B> builder() {
+		return new Builder<>(0);
+	}
+
+	/**
+	 * Returns a new {@link Builder} of {@link EitherArray} for the given number of elements.  The split between
+	 * alternatives is not known upfront, so storage for values still grows as elements are appended, but never beyond
+	 * what the expected number of elements can need.
+	 *
+	 * @param expectedSize expected number of elements
+	 * @param <A>          type for {@link Left}
+	 * @param <B>          type for {@link Right}
+	 * @return a new empty {@link Builder}
+	 * @throws IllegalArgumentException if {@code expectedSize} is negative
+	 */
+	public static <A, B> Builder<A, B> builder(int expectedSize) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("Negative expected size: " + expectedSize);
+		}
+		return new Builder<>(expectedSize);
+	}
+
+	/**
+	 * Returns the number of elements in this sequence.
+	 *
+	 * @return the number of elements
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns {@code true} if this sequence contains no elements.
+	 *
+	 * @return {@code true} if this sequence contains no elements
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns {@code true} if the element at the given index is a {@link Left}.
+	 *
+	 * @param index index of the element
+	 * @return {@code true} for {@link Left}, {@code false} for {@link Right}
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public boolean isLeft(int index) {
+		checkIndex(index);
+		return isLeft0(index);
+	}
+
+	/**
+	 * Returns the element at the given index.  This method creates an {@link Either} object.
+	 *
+	 * @param index index of the element
+	 * @return the element at the given index
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public Either<A, B> get(int index) {
+		checkIndex(index);
+		int leftRank = leftRank(index);
+		if (isLeft0(index)) {
+			return Either.left(left(leftRank));
+		}
+		return Either.right(right(index - leftRank));
+	}
+
+	/**
+	 * Passes values of all elements to the given consumers in order: values of {@link Left} elements to the
+	 * first consumer and values of {@link Right} elements to the second consumer.  No objects are created.
+	 *
+	 * @param f consumer of {@link Left} values
+	 * @param g consumer of {@link Right} values
+	 */
+	public void forEach(Consumer<? super A> f, Consumer<? super B> g) {
+		Objects.requireNonNull(f, "f");
+		Objects.requireNonNull(g, "g");
+		int leftIndex = 0;
+		int rightIndex = 0;
+		for (int i = 0; i < size; i++) {
+			if (isLeft0(i)) {
+				f.accept(left(leftIndex++));
+			} else {
+				g.accept(right(rightIndex++));
+			}
+		}
+	}
+
+	/**
+	 * Returns values of {@link Left} elements in order, as an unmodifiable {@link List} view.  This method
+	 * doesn't copy the values.
+	 *
+	 * @return a {@link List} of {@link Left} values
+	 */
+	public List<A> lefts() {
+		return new ArrayView<>(lefts, leftCount);
+	}
+
+	/**
+	 * Returns values of {@link Right} elements in order, as an unmodifiable {@link List} view.  This method
+	 * doesn't copy the values.
+	 *
+	 * @return a {@link List} of {@link Right} values
+	 */
+	public List<B> rights() {
+		return new ArrayView<>(rights, rightCount);
+	}
+
+	@Override
+	public Iterator<Either<A, B>> iterator() {
+		return Spliterators.iterator(spliterator());
+	}
+
+	/**
+	 * Returns a {@link Spliterator} over elements of this sequence, which splits evenly by index.
+	 *
+	 * @return a {@link Spliterator} over elements of this sequence
+	 */
+	@Override
+	public Spliterator<Either<A, B>> spliterator() {
+		return new EitherArraySpliterator(0, size);
+	}
+
+	/**
+	 * Returns a sequential {@link Stream} of elements of this sequence.
+	 *
+	 * @return a {@link Stream} of elements
+	 */
+	public Stream<Either<A, B>> stream() {
+		return StreamSupport.stream(spliterator(), false);
+	}
+
+	/**
+	 * Returns a possibly parallel {@link Stream} of elements of this sequence.
+	 *
+	 * @return a possibly parallel {@link Stream} of elements
+	 */
+	public Stream<Either<A, B>> parallelStream() {
+		return StreamSupport.stream(spliterator(), true);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < size; i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+			sb.append(get(i));
+		}
+		return sb.append(']').toString();
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+		}
+	}
+
+	private boolean isLeft0(int index) {
+		return (leftBits[index >>> ADDRESS_BITS_PER_WORD] & (1L << index)) != 0;
+	}
+
+	/**
+	 * Returns the number of {@link Left} elements before the given index.
+	 */
+	private int leftRank(int index) {
+		int word = index >>> ADDRESS_BITS_PER_WORD;
+		long below = (1L << index) - 1;
+		return leftRanks[word] + Long.bitCount(leftBits[word] & below);
+	}
+
+	@SuppressWarnings("unchecked")
+	private A left(int leftIndex) {
+		return (A) lefts[leftIndex];
+	}
+
+	@SuppressWarnings("unchecked")
+	private B right(int rightIndex) {
+		return (B) rights[rightIndex];
+	}
+
+	/**
+	 * Builder of {@link EitherArray}.  Builders are not thread-safe.
+	 *
+	 * @param <A> type for {@link Left}
+	 * @param <B> type for {@link Right}
+	 */
+	public static final class Builder<A, B> {
+		private static final int DEFAULT_CAPACITY = 16;
+
+		/**
+		 * Expected number of elements, which limits growth of {@link #lefts} and {@link #rights}, or zero if unknown.
+		 */
+		private final int expectedSize;
+		private Object[] lefts = NO_VALUES;
+		private int leftCount;
+		private Object[] rights = NO_VALUES;
+		private int rightCount;
+		private long[] leftBits;
+		private int size;
+
+		private Builder(int expectedSize) {
+			/*
+			 * Either of the alternatives may take all elements, so allocating both arrays at the expected size would
+			 * double the memory needed.  Instead, they grow independently.
+			 */
+			this.expectedSize = expectedSize;
+			this.leftBits = new long[wordCount(Math.max(expectedSize, DEFAULT_CAPACITY))];
+		}
+
+		/**
+		 * Appends the given value.
+		 *
+		 * @param either the value to append
+		 * @return this builder
+		 */
+		public Builder<A, B> add(Either<? extends A, ? extends B> either) {
+			if (either instanceof Left<? extends A, ? extends B> left) {
+				return addLeft(left.a());
+			}
+			return addRight(((Right<? extends A, ? extends B>) either).b());
+		}
+
+		/**
+		 * Appends a {@link Left} with the given value.
+		 *
+		 * @param a the value to append
+		 * @return this builder
+		 */
+		public Builder<A, B> addLeft(A a) {
+			int index = nextIndex();
+			if (leftCount == lefts.length) {
+				lefts = Arrays.copyOf(lefts, newLength(leftCount, rightCount));
+			}
+			lefts[leftCount++] = a;
+			leftBits[index >>> ADDRESS_BITS_PER_WORD] |= 1L << index;
+			return this;
+		}
+
+		/**
+		 * Appends a {@link Right} with the given value.
+		 *
+		 * @param b the value to append
+		 * @return this builder
+		 */
+		public Builder<A, B> addRight(B b) {
+			nextIndex();
+			if (rightCount == rights.length) {
+				rights = Arrays.copyOf(rights, newLength(rightCount, leftCount));
+			}
+			rights[rightCount++] = b;
+			return this;
+		}
+
+		/**
+		 * Returns an {@link EitherArray} with the values appended so far.  The builder may be used afterwards, it
+		 * doesn't affect the returned sequence.
+		 *
+		 * @return a new {@link EitherArray}
+		 */
+		public EitherArray<A, B> build() {
+			if (size == 0) {
+				return empty();
+			}
+			return new EitherArray<>(
+					trim(lefts, leftCount), leftCount,
+					trim(rights, rightCount), rightCount,
+					Arrays.copyOf(leftBits, wordCount(size)), size
+			);
+		}
+
+		/**
+		 * Returns the given array if it is full, because this builder copies a full array before appending to it.
+		 * Otherwise, returns a copy with the given length.
+		 */
+		private static Object[] trim(Object[] values, int count) {
+			return count == values.length ? values : Arrays.copyOf(values, count);
+		}
+
+		private int nextIndex() {
+			if (size == MAX_ARRAY_SIZE) {
+				throw new IllegalStateException("Too many elements: " + size);
+			}
+			int index = size;
+			if (wordCount(index + 1) > leftBits.length) {
+				leftBits = Arrays.copyOf(leftBits, wordCount(grow(index)));
+			}
+			size++;
+			return index;
+		}
+
+		/**
+		 * Returns the new length of a full array of values of one alternative.  The array doesn't grow beyond the
+		 * number of elements, which it may still need to hold, if {@link #expectedSize} holds.
+		 *
+		 * @param count      number of values in the array
+		 * @param otherCount number of values of the other alternative
+		 */
+		private int newLength(int count, int otherCount) {
+			int length = grow(count);
+			int remaining = expectedSize - otherCount;
+			return remaining > count && remaining < length ? remaining : length;
+		}
+
+		private static int grow(int length) {
+			return (int) Math.min(MAX_ARRAY_SIZE, Math.max(DEFAULT_CAPACITY, length + (length >> 1) + 1L));
+		}
+
+		private static int wordCount(int bits) {
+			return (bits + BITS_PER_WORD - 1) >>> ADDRESS_BITS_PER_WORD;
+		}
+	}
+
+	/**
+	 * Unmodifiable {@link List} view of a prefix of an array.
+	 */
+	private static final class ArrayView<T> extends AbstractList<T> implements RandomAccess {
+		private final Object[] array;
+		private final int size;
+
+		private ArrayView(Object[] array, int size) {
+			this.array = array;
+			this.size = size;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T get(int index) {
+			if (index < 0 || index >= size) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+			}
+			return (T) array[index];
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public Spliterator<T> spliterator() {
+			return Spliterators.spliterator(array, 0, size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+		}
+	}
+
+	/**
+	 * {@link Spliterator} over a range of indices, which keeps track of positions in {@link #lefts} and
+	 * {@link #rights} to avoid computing them for every element.
+	 */
+	private final class EitherArraySpliterator implements Spliterator<Either<A, B>> {
+		private int index;
+		private final int fence;
+		private int leftIndex;
+
+		private EitherArraySpliterator(int origin, int fence) {
+			this.index = origin;
+			this.fence = fence;
+			this.leftIndex = origin < size ? leftRank(origin) : leftCount;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super Either<A, B>> action) {
+			if (index >= fence) {
+				return false;
+			}
+			action.accept(next());
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super Either<A, B>> action) {
+			while (index < fence) {
+				action.accept(next());
+			}
+		}
+
+		private Either<A, B> next() {
+			int i = index++;
+			if (isLeft0(i)) {
+				return Either.left(left(leftIndex++));
+			}
+			return Either.right(right(i - leftIndex));
+		}
+
+		@Override
+		public Spliterator<Either<A, B>> trySplit() {
+			int mid = (index + fence) >>> 1;
+			if (mid <= index) {
+				return null;
+			}
+			Spliterator<Either<A, B>> prefix = new EitherArraySpliterator(index, mid);
+			index = mid;
+			leftIndex = leftRank(mid);
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			return fence - index;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+		}
+	}
+}
@@ -0,0 +1,226 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java17;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Configurable variant of {@link Either#catching(Either.ThrowingSupplier)}, which replaces selected types of
+ * exceptions with lightweight values before wrapping them into a {@link Left}.
+ * <p>
+ * Legacy APIs often throw exceptions in ordinary situations, such as "not found".  Each such exception holds its
+ * stack trace, which is expensive to keep around in {@link Left} values, and even more expensive to convert into
+ * {@link StackTraceElement}s when it's logged.  Exceptions of selected types can be replaced with:
+ * </p>
+ * <ul>
+ * <li>a {@link StacklessException}, which keeps the type, the message, and the cause of the original exception, but
+ * not its stack trace, see {@link Builder#stackless(Class)},</li>
+ * <li>a preallocated exception, which is shared by all failures of this type, see
+ * {@link Builder#preallocated(Class, Exception)}.</li>
+ * </ul>
+ * <p>
+ * Note that the stack trace of the original exception is captured by the code, which creates it, so replacing it
+ * doesn't avoid the cost of the capture itself.  For exceptions, which are created by your own code, use
+ * {@link Throwable#Throwable(String, Throwable, boolean, boolean)} with {@code writableStackTrace} set to
+ * {@code false}.
+ * </p>
+ * <p>
+ * Example:
+ * <pre>{@code
+ * EitherCatcher catcher = EitherCatcher.builder()
+ *     .stackless(NoSuchElementException.class)
+ *     .build();
+ * Either<Exception, User> user = catcher.get(() -> legacyDirectory.find(id));
+ * }</pre>
+ * <p>
+ * Instances of this class are immutable and thread-safe.
+ * </p>
+ */
+public final class EitherCatcher {
+	private final List<Rule> rules;
+	/**
+	 * Replacement function for each type of exception, so that {@link #rules} are matched only once per type.
+	 */
+	private final ClassValue<UnaryOperator<Exception>> replacements = new ClassValue<>() {
+		@Override
+		protected UnaryOperator<Exception> computeValue(Class<?> type) {
+			for (Rule rule : rules) {
+				if (rule.type.isAssignableFrom(type)) {
+					return rule.replacement;
+				}
+			}
+			return UnaryOperator.identity();
+		}
+	};
+
+	private EitherCatcher(List<Rule> rules) {
+		this.rules = rules;
+	}
+
+	/**
+	 * Returns a new {@link Builder} of {@link EitherCatcher}.
+	 *
+	 * @return a new {@link Builder} without any replacements
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Calls the given supplier and returns its result as a {@link Right}, or the exception, which it has thrown,
+	 * possibly replaced, as a {@link Left}.  Instances of {@link Error} are not caught.
+	 * <p>
+	 * If an {@link InterruptedException} is caught, the interrupt status of the current thread is restored, so
+	 * that the interruption isn't lost.
+	 *
+	 * @param supplier supplier to call
+	 * @param <B>      type for {@link Right}
+	 * @return a {@link Right} with the result of the supplier or a {@link Left} with the exception
+	 * @see Either#catching(Either.ThrowingSupplier)
+	 */
+	public <B> Either<Exception, B> get(Either.ThrowingSupplier<? extends B> supplier) {
+		try {
+			return Either.right(supplier.get());
+		} catch (Exception e) {
+			if (e instanceof InterruptedException) {
+				Thread.currentThread().interrupt();
+			}
+			return Either.left(replace(e));
+		}
+	}
+
+	/**
+	 * Converts a function, which may throw exceptions, into a {@link Function}, which returns its result as a
+	 * {@link Right}, or the exception, which it has thrown, possibly replaced, as a {@link Left}.  Instances of
+	 * {@link Error} are not caught.
+	 * <p>
+	 * If an {@link InterruptedException} is caught, the interrupt status of the current thread is restored, so
+	 * that the interruption isn't lost.
+	 *
+	 * @param f   function to convert
+	 * @param <T> type of the argument of the function
+	 * @param <B> type for {@link Right}
+	 * @return a function, which catches exceptions of the given function
+	 * @see Either#catching(Either.ThrowingFunction)
+	 */
+	public <T, B> Function<T, Either<Exception, B>> function(Either.ThrowingFunction<? super T, ? extends B> f) {
+		Objects.requireNonNull(f, "f");
+		return t -> {
+			try {
+				return Either.right(f.apply(t));
+			} catch (Exception e) {
+				if (e instanceof InterruptedException) {
+					Thread.currentThread().interrupt();
+				}
+				return Either.left(replace(e));
+			}
+		};
+	}
+
+	/**
+	 * Returns the replacement for the given exception, or the exception itself, if its type wasn't selected.
+	 *
+	 * @param e an exception
+	 * @return the replacement of the exception
+	 */
+	public Exception replace(Exception e) {
+		return replacements.get(e.getClass()).apply(e);
+	}
+
+	private static final class Rule {
+		private final Class<? extends Exception> type;
+		private final UnaryOperator<Exception> replacement;
+
+		private Rule(Class<? extends Exception> type, UnaryOperator<Exception> replacement) {
+			this.type = type;
+			this.replacement = replacement;
+		}
+	}
+
+	/**
+	 * Builder of {@link EitherCatcher}.  If an exception matches several types, the replacement, which was added
+	 * first, is used.
+	 */
+	public static final class Builder {
+		private final List<Rule> rules = new ArrayList<>();
+
+		private Builder() {
+		}
+
+		/**
+		 * Replaces exceptions of the given type and its subtypes with {@link StacklessException}s.  The cause of the
+		 * original exception is kept, including its stack trace, if it has one.
+		 *
+		 * @param type the type of exceptions
+		 * @return this builder
+		 */
+		public Builder stackless(Class<? extends Exception> type) {
+			Objects.requireNonNull(type, "type");
+			rules.add(new Rule(type, StacklessException::new));
+			return this;
+		}
+
+		/**
+		 * Replaces exceptions of the given type and its subtypes with the given instance.  The instance is shared
+		 * by all failures, so it should be created without a stack trace, and must not be modified.
+		 *
+		 * @param type     the type of exceptions
+		 * @param instance the replacement
+		 * @return this builder
+		 */
+		public Builder preallocated(Class<? extends Exception> type, Exception instance) {
+			Objects.requireNonNull(type, "type");
+			Objects.requireNonNull(instance, "instance");
+			rules.add(new Rule(type, ignored -> instance));
+			return this;
+		}
+
+		/**
+		 * Returns a new {@link EitherCatcher} with the replacements added so far.
+		 *
+		 * @return a new {@link EitherCatcher}
+		 */
+		public EitherCatcher build() {
+			return new EitherCatcher(new ArrayList<>(rules));
+		}
+	}
+
+	/**
+	 * Lightweight copy of an exception, which keeps its type, message, and cause, but doesn't have a stack trace or
+	 * suppressed exceptions.
+	 */
+	public static final class StacklessException extends Exception {
+		private static final long serialVersionUID = 1L;
+
+		private final Class<? extends Exception> originalType;
+
+		/**
+		 * Creates a copy of the given exception.
+		 *
+		 * @param original the exception to copy
+		 */
+		public StacklessException(Exception original) {
+			super(original.getMessage(), original.getCause(), false, false);
+			this.originalType = original.getClass();
+		}
+
+		/**
+		 * Returns the type of the original exception.
+		 *
+		 * @return the type of the original exception
+		 */
+		public Class<? extends Exception> getOriginalType() {
+			return originalType;
+		}
+
+		@Override
+		public String toString() {
+			String message = getLocalizedMessage();
+			String name = originalType.getName();
+			return message == null ? name : name + ": " + message;
+		}
+	}
+}
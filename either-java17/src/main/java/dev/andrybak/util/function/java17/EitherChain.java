@@ -0,0 +1,182 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java17;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Lazy pipeline of steps, which are applied to a value one after another, until one of them returns a {@link Left}.
+ * <p>
+ * Steps are only recorded by {@link #then(Function)} and {@link #map(Function)}, and are executed by {@link #run()}
+ * in a single loop, so the depth of the call stack doesn't depend on the number of steps.  This makes it possible to
+ * build chains of thousands of steps dynamically, which would overflow the stack if composed via nested lambdas.
+ * Steps added by {@link #map(Function)} return plain values, so no {@link Either} is allocated for them.  The
+ * {@link Left} returned by a step is returned by {@link #run()} as is.
+ * <p>
+ * Instances are immutable: adding a step returns a new chain, and the original chain can still be run or extended
+ * independently.  A chain can be run any number of times.
+ *
+ * <pre>{@code
+ * Either<String, Integer> result = EitherChain.<String, String>of(input)
+ *         .then(Parser::parseInt)
+ *         .map(i -> i * 2)
+ *         .then(Validator::checkRange)
+ *         .run();
+ * }</pre>
+ *
+ * @param <A> type for {@link Left}
+ * @param <B> type of the value produced by the last step
+ */
+public final class EitherChain<A, B> {
+	private final Object start;
+	/**
+	 * The last step of this chain, or {@code null} if the chain has no steps.
+	 */
+	private final Step last;
+	private final int length;
+	/**
+	 * Steps in execution order, created on the first {@link #run()}.  A benign data race is fine, because
+	 * {@link Plan} is immutable.
+	 */
+	private Plan plan;
+
+	private EitherChain(Object start, Step last, int length) {
+		this.start = start;
+		this.last = last;
+		this.length = length;
+	}
+
+	/**
+	 * Creates a chain without steps, which starts with the given value.
+	 *
+	 * @param value starting value of the chain
+	 * @param <A>   type for {@link Left}
+	 * @param <B>   type of the starting value
+	 * @return a new chain
+	 */
+	public static <A, B> EitherChain<A, B> of(B value) {
+		return new EitherChain<>(value, null, 0);
+	}
+
+	/**
+	 * Creates a chain, which starts with the given {@link Either}.  If it is a {@link Left}, then none of the
+	 * steps are executed.
+	 *
+	 * @param either starting value of the chain
+	 * @param <A>    type for {@link Left}
+	 * @param <B>    type for {@link Right}
+	 * @return a new chain
+	 */
+	public static <A, B> EitherChain<A, B> from(Either<? extends A, ? extends B> either) {
+		Objects.requireNonNull(either, "either");
+		return EitherChain.<A, Either<? extends A, ? extends B>>of(either).then(Function.identity());
+	}
+
+	/**
+	 * Returns a new chain with an additional step, which can fail.  If the step returns a {@link Left},
+	 * then the rest of the chain is not executed.
+	 *
+	 * @param f   function to apply to the value produced by the previous step
+	 * @param <C> type of the value produced by the new step
+	 * @return a new chain
+	 */
+	public <C> EitherChain<A, C> then(Function<? super B, ? extends Either<? extends A, ? extends C>> f) {
+		Objects.requireNonNull(f, "f");
+		return new EitherChain<>(start, new Step(last, f, true), length + 1);
+	}
+
+	/**
+	 * Returns a new chain with an additional step, which cannot fail.
+	 *
+	 * @param f   function to apply to the value produced by the previous step
+	 * @param <C> type of the value produced by the new step
+	 * @return a new chain
+	 */
+	public <C> EitherChain<A, C> map(Function<? super B, ? extends C> f) {
+		Objects.requireNonNull(f, "f");
+		return new EitherChain<>(start, new Step(last, f, false), length + 1);
+	}
+
+	/**
+	 * Returns the number of steps in this chain.
+	 *
+	 * @return number of steps
+	 */
+	public int length() {
+		return length;
+	}
+
+	/**
+	 * Executes the steps of this chain in order, until one of them returns a {@link Left}.
+	 *
+	 * @return the first {@link Left} returned by a step, or a {@link Right} with the value produced by
+	 * the last step
+	 */
+	@SuppressWarnings("unchecked")
+	public Either<A, B> run() {
+		Plan p = plan;
+		if (p == null) {
+			p = new Plan(last, length);
+			plan = p;
+		}
+		Function<Object, Object>[] functions = p.functions;
+		boolean[] flat = p.flat;
+		Object value = start;
+		Either<?, ?> lastEither = null;
+		for (int i = 0; i < functions.length; i++) {
+			if (flat[i]) {
+				Either<?, ?> e = (Either<?, ?>) functions[i].apply(value);
+				if (e instanceof Right<?, ?> right) {
+					value = right.b();
+					lastEither = right;
+				} else {
+					return (Either<A, B>) Objects.requireNonNull(e, "step result");
+				}
+			} else {
+				value = functions[i].apply(value);
+				lastEither = null;
+			}
+		}
+		if (lastEither != null) {
+			return (Either<A, B>) lastEither;
+		}
+		return Either.right((B) value);
+	}
+
+	@Override
+	public String toString() {
+		return "EitherChain{length=" + length + '}';
+	}
+
+	private static final class Step {
+		private final Step previous;
+		private final Function<?, ?> function;
+		/**
+		 * Whether the {@link #function} returns an {@link Either}.
+		 */
+		private final boolean flat;
+
+		private Step(Step previous, Function<?, ?> function, boolean flat) {
+			this.previous = previous;
+			this.function = function;
+			this.flat = flat;
+		}
+	}
+
+	private static final class Plan {
+		private final Function<Object, Object>[] functions;
+		private final boolean[] flat;
+
+		@SuppressWarnings("unchecked")
+		private Plan(Step last, int length) {
+			functions = (Function<Object, Object>[]) new Function<?, ?>[length];
+			flat = new boolean[length];
+			Step step = last;
+			for (int i = length - 1; i >= 0; i--) {
+				functions[i] = (Function<Object, Object>) step.function;
+				flat[i] = step.flat;
+				step = step.previous;
+			}
+		}
+	}
+}
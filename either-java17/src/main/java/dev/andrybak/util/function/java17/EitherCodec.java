@@ -0,0 +1,389 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java17;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Binary encoding of {@link Either} values into {@link ByteBuffer}s, which doesn't depend on Java serialization.
+ * Values of {@link Left} and {@link Right} are encoded by the given {@link ValueCodec}s.
+ * <p>
+ * An encoded {@link Either} consists of a one-byte tag, followed by the encoded value.  Bit {@code 0} of the tag
+ * is {@code 0} for {@link Left} and {@code 1} for {@link Right}.  Bit {@code 1} is set
+ * for {@code null} values, which are not passed to the {@link ValueCodec}s and take no space after the tag.
+ * Other bits are reserved for future versions of the format, and tags with them set are rejected.
+ * </p>
+ * <p>
+ * Multibyte values are written in the byte order of the buffer.  Instances of this class are immutable and
+ * thread-safe, provided that the given {@link ValueCodec}s are.
+ * </p>
+ * <p>
+ * Example:
+ * <pre>{@code
+ * EitherCodec<String, Long> codec = EitherCodec.of(EitherCodec.ValueCodec.utf8(), EitherCodec.ValueCodec.int64());
+ * ByteBuffer buffer = codec.encodeAll(results);
+ * List<Either<String, Long>> decoded = codec.decodeAll(buffer);
+ * }</pre>
+ *
+ * @param <A> type for {@link Left}
+ * @param <B> type for {@link Right}
+ */
+public final class EitherCodec<A, B> {
+	private static final int RIGHT = 1;
+	private static final int NULL = 0b10;
+	private static final int TAG_SIZE = 1;
+	private static final int COUNT_SIZE = Integer.BYTES;
+
+	private final ValueCodec<A> leftCodec;
+	private final ValueCodec<B> rightCodec;
+
+	private EitherCodec(ValueCodec<A> leftCodec, ValueCodec<B> rightCodec) {
+		this.leftCodec = leftCodec;
+		this.rightCodec = rightCodec;
+	}
+
+	/**
+	 * Returns a codec for {@link Either} values, which uses the given codecs for values of its alternatives.
+	 *
+	 * @param leftCodec  codec for values of {@link Left}
+	 * @param rightCodec codec for values of {@link Right}
+	 * @param <A>        type for {@link Left}
+	 * @param <B>        type for {@link Right}
+	 * @return a codec for {@link Either} values
+	 */
+	public static <A, B> EitherCodec<A, B> of(ValueCodec<A> leftCodec, ValueCodec<B> rightCodec) {
+		Objects.requireNonNull(leftCodec, "leftCodec");
+		Objects.requireNonNull(rightCodec, "rightCodec");
+		return new EitherCodec<>(leftCodec, rightCodec);
+	}
+
+	/**
+	 * Returns the number of bytes which {@link #encode(Either, ByteBuffer)} writes for the given value.
+	 *
+	 * @param either value to be encoded
+	 * @return size of the encoded value in bytes
+	 */
+	public int size(Either<? extends A, ? extends B> either) {
+		if (either instanceof Left<? extends A, ? extends B> left) {
+			return left.a() == null ? TAG_SIZE : TAG_SIZE + leftCodec.size(left.a());
+		}
+		B b = ((Right<? extends A, ? extends B>) either).b();
+		return b == null ? TAG_SIZE : TAG_SIZE + rightCodec.size(b);
+	}
+
+	/**
+	 * Writes the given value into the given buffer at its current position, and advances the position.
+	 *
+	 * @param either value to be encoded
+	 * @param buffer buffer to write into
+	 * @throws BufferOverflowException if there is not enough space remaining in the buffer, the position of the
+	 *                                 buffer is left unchanged in this case
+	 */
+	public void encode(Either<? extends A, ? extends B> either, ByteBuffer buffer) {
+		int start = buffer.position();
+		try {
+			if (either instanceof Left<? extends A, ? extends B> left) {
+				if (left.a() == null) {
+					buffer.put((byte) NULL);
+				} else {
+					buffer.put((byte) 0);
+					leftCodec.encode(left.a(), buffer);
+				}
+			} else {
+				B b = ((Right<? extends A, ? extends B>) either).b();
+				if (b == null) {
+					buffer.put((byte) (RIGHT | NULL));
+				} else {
+					buffer.put((byte) RIGHT);
+					rightCodec.encode(b, buffer);
+				}
+			}
+		} catch (BufferOverflowException e) {
+			buffer.position(start);
+			throw e;
+		}
+	}
+
+	/**
+	 * Reads a value from the given buffer at its current position, and advances the position.
+	 *
+	 * @param buffer buffer to read from
+	 * @return the decoded value
+	 * @throws BufferUnderflowException if the buffer ends before the encoded value does
+	 * @throws IllegalArgumentException if the buffer contains a tag, which is not supported by this version of the
+	 *                                  library
+	 */
+	public Either<A, B> decode(ByteBuffer buffer) {
+		int tag = Byte.toUnsignedInt(buffer.get());
+		if ((tag & ~(RIGHT | NULL)) != 0) {
+			throw new IllegalArgumentException("Unknown tag: " + tag);
+		}
+		if ((tag & RIGHT) == 0) {
+			if ((tag & NULL) != 0) {
+				return Either.leftNull();
+			}
+			return Either.left(leftCodec.decode(buffer));
+		}
+		if ((tag & NULL) != 0) {
+			return Either.rightNull();
+		}
+		return Either.right(rightCodec.decode(buffer));
+	}
+
+	/**
+	 * Encodes all given values into a new direct buffer, prefixed by their number.  The returned buffer is ready
+	 * to be read or written into a channel: its position is zero and its limit is the end of the encoded data.
+	 *
+	 * @param eithers values to be encoded, iterated twice
+	 * @return a new direct buffer with the encoded values
+	 * @see #decodeAll(ByteBuffer)
+	 */
+	public ByteBuffer encodeAll(Iterable<? extends Either<? extends A, ? extends B>> eithers) {
+		long totalSize = COUNT_SIZE;
+		int count = 0;
+		for (Either<? extends A, ? extends B> either : eithers) {
+			totalSize += size(either);
+			count++;
+		}
+		if (totalSize > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Encoded values don't fit into a buffer: " + totalSize + " bytes");
+		}
+		ByteBuffer buffer = ByteBuffer.allocateDirect((int) totalSize);
+		buffer.putInt(count);
+		for (Either<? extends A, ? extends B> either : eithers) {
+			encode(either, buffer);
+		}
+		buffer.flip();
+		return buffer;
+	}
+
+	/**
+	 * Decodes values written by {@link #encodeAll(Iterable)} from the given buffer at its current position, and
+	 * advances the position past them.
+	 *
+	 * @param buffer buffer to read from
+	 * @return a list of the decoded values
+	 * @throws BufferUnderflowException if the buffer ends before the encoded values do
+	 * @throws IllegalArgumentException if the buffer contains a tag, which is not supported by this version of the
+	 *                                  library
+	 */
+	public List<Either<A, B>> decodeAll(ByteBuffer buffer) {
+		int count = buffer.getInt();
+		if (count < 0) {
+			throw new IllegalArgumentException("Negative count: " + count);
+		}
+		// every encoded value takes at least one byte, don't trust the count for presizing
+		List<Either<A, B>> result = new ArrayList<>(Math.min(count, buffer.remaining()));
+		for (int i = 0; i < count; i++) {
+			result.add(decode(buffer));
+		}
+		return result;
+	}
+
+	/**
+	 * Encoding of non-{@code null} values of type {@code T} for {@link EitherCodec}.
+	 *
+	 * @param <T> type of encoded values
+	 */
+	public interface ValueCodec<T> {
+		/**
+		 * Returns the number of bytes which {@link #encode(Object, ByteBuffer)} writes for the given value.
+		 *
+		 * @param value value to be encoded
+		 * @return size of the encoded value in bytes
+		 */
+		int size(T value);
+
+		/**
+		 * Writes the given value into the given buffer at its current position, and advances the position.
+		 *
+		 * @param value  value to be encoded
+		 * @param buffer buffer to write into
+		 */
+		void encode(T value, ByteBuffer buffer);
+
+		/**
+		 * Reads a value from the given buffer at its current position, and advances the position.
+		 *
+		 * @param buffer buffer to read from
+		 * @return the decoded value
+		 */
+		T decode(ByteBuffer buffer);
+
+		/**
+		 * Returns a codec, which writes {@link Integer}s as four bytes.
+		 *
+		 * @return a codec for {@link Integer}s
+		 */
+		static ValueCodec<Integer> int32() {
+			return Int32Codec.INSTANCE;
+		}
+
+		/**
+		 * Returns a codec, which writes {@link Long}s as eight bytes.
+		 *
+		 * @return a codec for {@link Long}s
+		 */
+		static ValueCodec<Long> int64() {
+			return Int64Codec.INSTANCE;
+		}
+
+		/**
+		 * Returns a codec, which writes {@link String}s as their length in bytes, followed by the bytes in
+		 * {@link StandardCharsets#UTF_8 UTF-8}.
+		 *
+		 * @return a codec for {@link String}s
+		 */
+		static ValueCodec<String> utf8() {
+			return Utf8Codec.INSTANCE;
+		}
+
+		/**
+		 * Returns a codec, which writes the remaining bytes of {@link ByteBuffer}s, prefixed by their number.
+		 * Encoding doesn't change the position of the given buffers.
+		 * <p>
+		 * Decoding doesn't copy the bytes: decoded values are read-only slices of the buffer they are read from,
+		 * and share its content.  If the buffer is reused afterwards, the decoded values must be copied first.
+		 * </p>
+		 *
+		 * @return a codec for {@link ByteBuffer}s
+		 */
+		static ValueCodec<ByteBuffer> bytes() {
+			return BytesCodec.INSTANCE;
+		}
+	}
+
+	private enum Int32Codec implements ValueCodec<Integer> {
+		INSTANCE;
+
+		@Override
+		public int size(Integer value) {
+			return Integer.BYTES;
+		}
+
+		@Override
+		public void encode(Integer value, ByteBuffer buffer) {
+			buffer.putInt(value);
+		}
+
+		@Override
+		public Integer decode(ByteBuffer buffer) {
+			return buffer.getInt();
+		}
+	}
+
+	private enum Int64Codec implements ValueCodec<Long> {
+		INSTANCE;
+
+		@Override
+		public int size(Long value) {
+			return Long.BYTES;
+		}
+
+		@Override
+		public void encode(Long value, ByteBuffer buffer) {
+			buffer.putLong(value);
+		}
+
+		@Override
+		public Long decode(ByteBuffer buffer) {
+			return buffer.getLong();
+		}
+	}
+
+	private enum Utf8Codec implements ValueCodec<String> {
+		INSTANCE;
+
+		@Override
+		public int size(String value) {
+			return Integer.BYTES + utf8Length(value);
+		}
+
+		@Override
+		public void encode(String value, ByteBuffer buffer) {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			buffer.putInt(bytes.length);
+			buffer.put(bytes);
+		}
+
+		@Override
+		public String decode(ByteBuffer buffer) {
+			int length = readLength(buffer);
+			if (buffer.hasArray()) {
+				String result = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+						StandardCharsets.UTF_8);
+				buffer.position(buffer.position() + length);
+				return result;
+			}
+			byte[] bytes = new byte[length];
+			buffer.get(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+
+		/**
+		 * Computes the length of the UTF-8 encoding of the given string without encoding it.  Unpaired surrogates
+		 * are counted as a single byte, same as the replacement done by {@link String#getBytes}.
+		 */
+		private static int utf8Length(String s) {
+			int length = s.length();
+			int result = length;
+			for (int i = 0; i < length; i++) {
+				char c = s.charAt(i);
+				if (c < 0x80) {
+					continue;
+				}
+				if (c < 0x800) {
+					result += 1;
+				} else if (!Character.isSurrogate(c)) {
+					result += 2;
+				} else if (Character.isHighSurrogate(c) && i + 1 < length
+						&& Character.isLowSurrogate(s.charAt(i + 1)))
+				{
+					// four bytes for a surrogate pair
+					result += 2;
+					i++;
+				}
+			}
+			return result;
+		}
+	}
+
+	private enum BytesCodec implements ValueCodec<ByteBuffer> {
+		INSTANCE;
+
+		@Override
+		public int size(ByteBuffer value) {
+			return Integer.BYTES + value.remaining();
+		}
+
+		@Override
+		public void encode(ByteBuffer value, ByteBuffer buffer) {
+			buffer.putInt(value.remaining());
+			buffer.put(value.duplicate());
+		}
+
+		@Override
+		public ByteBuffer decode(ByteBuffer buffer) {
+			int length = readLength(buffer);
+			ByteBuffer result = buffer.slice(buffer.position(), length).asReadOnlyBuffer();
+			buffer.position(buffer.position() + length);
+			return result;
+		}
+	}
+
+	private static int readLength(ByteBuffer buffer) {
+		int length = buffer.getInt();
+		if (length < 0) {
+			throw new IllegalArgumentException("Negative length: " + length);
+		}
+		if (length > buffer.remaining()) {
+			throw new BufferUnderflowException();
+		}
+		return length;
+	}
+}
@@ -0,0 +1,97 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java17;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.Function;
+
+/**
+ * Specialization of {@link Either} for values of primitive type {@code double} in the {@link DoubleRight}
+ * alternative.
+ * <p>
+ * Objects of type {@code EitherDouble<A>} contain either a value of type {@code A} ({@link DoubleLeft} alternative)
+ * or a value of type {@code double} ({@link DoubleRight} alternative).  Unlike {@code Either<A, Double>}, the
+ * {@code double} value is stored and passed to functions and consumers without boxing.
+ * </p>
+ * <p>
+ * If type {@code A} is {@link Serializable} then {@code EitherDouble<A>} can be serialized.
+ * </p>
+ *
+ * @param <A> type for {@link DoubleLeft}
+ * @see Either
+ */
+public sealed interface EitherDouble<A> extends Serializable permits DoubleLeft, DoubleRight {
+	/**
+	 * Returns a {@link DoubleLeft} containing given value of type {@code A}.
+	 *
+	 * @param <A> type for returned {@link DoubleLeft}
+	 * @param a   value to be stored in the returned {@link DoubleLeft}
+	 * @return a {@link DoubleLeft} with the given value
+	 */
+	static <A> EitherDouble<A> left(A a) {
+		return new DoubleLeft<>(a);
+	}
+
+	/**
+	 * Returns a {@link DoubleRight} containing given {@code double} value.
+	 *
+	 * @param <A> type for corresponding {@link DoubleLeft}
+	 * @param b   value to be stored in the returned {@link DoubleRight}
+	 * @return a {@link DoubleRight} with the given value
+	 */
+	static <A> EitherDouble<A> right(double b) {
+		return new DoubleRight<>(b);
+	}
+
+	/**
+	 * Converts given {@link Either} into an {@link EitherDouble}, unboxing the value of {@link Right}.
+	 *
+	 * @param <A> type for {@link DoubleLeft}
+	 * @param e   an {@link Either} to convert
+	 * @return an {@link EitherDouble} with the same value as the given {@link Either}
+	 * @throws NullPointerException if the given {@link Either} is a {@link Right} containing {@code null}
+	 */
+	static <A> EitherDouble<A> fromEither(Either<? extends A, ? extends Double> e) {
+		return e.match(EitherDouble::left, b -> right(Objects.requireNonNull(b, "right value")));
+	}
+
+	/**
+	 * Pattern matches on this {@link EitherDouble} and returns result of applying the corresponding function.
+	 *
+	 * @param f   function to apply to a value of {@link DoubleLeft}
+	 * @param g   function to apply to a value of {@link DoubleRight}
+	 * @param <R> return type of functions
+	 * @return result of applying one of the functions to this {@link EitherDouble}
+	 */
+	<R> R match(Function<? super A, ? extends R> f, DoubleFunction<? extends R> g);
+
+	/**
+	 * If this {@link EitherDouble} is {@link DoubleLeft}, performs the first given action with its value.
+	 * If this {@link EitherDouble} is {@link DoubleRight}, performs the second given action with its value.
+	 *
+	 * @param f consumer to apply to a value of {@link DoubleLeft}
+	 * @param g consumer to apply to a value of {@link DoubleRight}
+	 */
+	void accept(Consumer<? super A> f, DoubleConsumer g);
+
+	/**
+	 * If this {@link EitherDouble} is a {@link DoubleLeft}, performs the first given action with its value and returns
+	 * this {@link EitherDouble}.  If this {@link EitherDouble} is a {@link DoubleRight}, performs the second given
+	 * action with its value and returns this {@link EitherDouble}.
+	 *
+	 * @param f consumer to apply to {@link DoubleLeft}
+	 * @param g consumer to apply to {@link DoubleRight}
+	 * @return this {@link EitherDouble}
+	 */
+	EitherDouble<A> peek(Consumer<? super A> f, DoubleConsumer g);
+
+	/**
+	 * Converts this {@link EitherDouble} into an {@link Either}, boxing the value of {@link DoubleRight}.
+	 *
+	 * @return an {@link Either} with the same value as this {@link EitherDouble}
+	 */
+	Either<A, Double> toEither();
+}
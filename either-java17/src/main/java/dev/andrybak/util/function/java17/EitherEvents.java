@@ -0,0 +1,102 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java17;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Helper functions to make {@link Left} results visible in recordings of Java Flight Recorder.
+ * <p>
+ * Results passed to {@link #record(String, Either)} and results of functions wrapped by
+ * {@link #instrument(String, Function)} emit a {@link LeftProduced} event for each {@link Left}.  The event is
+ * disabled by default, and can be enabled, with or without stack traces, via JFR settings, for example:
+ * <pre>{@code
+ * jcmd <pid> JFR.start settings=default +dev.andrybak.either.LeftProduced#enabled=true
+ * }</pre>
+ * or
+ * <pre>{@code
+ * recording.enable("dev.andrybak.either.LeftProduced").withStackTrace();
+ * }</pre>
+ * While the event is disabled, recording a result costs only a type check and a check of the state of the event, and
+ * doesn't allocate.
+ */
+public class EitherEvents {
+	private EitherEvents() {
+		throw new AssertionError();
+	}
+
+	/**
+	 * Emits a {@link LeftProduced} event, if the given {@link Either} is a {@link Left} and the event is enabled, and
+	 * returns the {@link Either}.
+	 *
+	 * @param site   label of the call site, which produced the result
+	 * @param either the result
+	 * @param <E>    type of the result
+	 * @return {@code either}
+	 */
+	public static <E extends Either<?, ?>> E record(String site, E either) {
+		if (either instanceof Left<?, ?> left) {
+			LeftProduced event = new LeftProduced();
+			if (event.shouldCommit()) {
+				event.site = site;
+				event.valueClass = left.a() != null ? left.a().getClass() : null;
+				event.commit();
+			}
+		}
+		return either;
+	}
+
+	/**
+	 * Returns a function, which applies the given function and passes its result to {@link #record(String, Either)}.
+	 *
+	 * @param site label of the call site
+	 * @param f    function to instrument
+	 * @param <T>  type of the argument of the function
+	 * @param <A>  type for {@link Left}
+	 * @param <B>  type for {@link Right}
+	 * @return an instrumented function
+	 */
+	public static <T, A, B> Function<T, Either<A, B>> instrument(String site,
+			Function<? super T, ? extends Either<A, B>> f)
+	{
+		Objects.requireNonNull(site, "site");
+		Objects.requireNonNull(f, "f");
+		return t -> record(site, f.apply(t));
+	}
+
+	/**
+	 * Event of Java Flight Recorder, which is emitted for a {@link Left} result.  It is disabled and records no stack
+	 * traces by default.
+	 */
+	@Name(LeftProduced.NAME)
+	@Label("Left Produced")
+	@Category("Either")
+	@Description("A Left result was produced")
+	@Enabled(false)
+	@StackTrace(false)
+	public static final class LeftProduced extends Event {
+		/**
+		 * Name of this event type in JFR settings and recordings.
+		 */
+		public static final String NAME = "dev.andrybak.either.LeftProduced";
+
+		@Label("Site")
+		@Description("Label of the call site, which produced the result")
+		String site;
+
+		@Label("Value Class")
+		@Description("Class of the value of the Left, or null if the value is null")
+		Class<?> valueClass;
+
+		LeftProduced() {
+		}
+	}
+}
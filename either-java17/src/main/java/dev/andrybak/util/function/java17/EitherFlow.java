@@ -0,0 +1,386 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java17;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Helper functions to use {@link Either} with reactive streams of {@link Flow}.
+ */
+public class EitherFlow {
+	private EitherFlow() {
+		throw new AssertionError();
+	}
+
+	/**
+	 * Same as {@link #splitter(int)} with {@link Flow#defaultBufferSize()}.
+	 *
+	 * @param <A> type for {@link Left}
+	 * @param <B> type for {@link Right}
+	 * @return a new splitter
+	 */
+	public static <A, B> Splitter<A, B> splitter() {
+		return splitter(Flow.defaultBufferSize());
+	}
+
+	/**
+	 * Creates a {@link Flow.Subscriber}, which splits a stream of {@link Either} items into two publishers: one of
+	 * values of {@link Left}s and one of values of {@link Right}s.
+	 * <p>
+	 * Each of the publishers has its own buffer of the given size and its own demand, so a slow subscriber of one side
+	 * doesn't slow down the other side, as long as the buffer of the slow side isn't full.  Items are requested from
+	 * upstream only when there is space for them in both buffers, so neither of the buffers can grow beyond
+	 * {@code bufferSize} items.
+	 *
+	 * @param bufferSize maximum number of items buffered for each side
+	 * @param <A>        type for {@link Left}
+	 * @param <B>        type for {@link Right}
+	 * @return a new splitter
+	 * @throws IllegalArgumentException if {@code bufferSize} is not positive
+	 */
+	public static <A, B> Splitter<A, B> splitter(int bufferSize) {
+		if (bufferSize <= 0) {
+			throw new IllegalArgumentException("Buffer size must be positive: " + bufferSize);
+		}
+		return new Splitter<>(bufferSize);
+	}
+
+	/**
+	 * {@link Flow.Subscriber} of {@link Either} items, which republishes values of {@link Left}s via {@link #lefts()}
+	 * and values of {@link Right}s via {@link #rights()}.
+	 * <p>
+	 * Each of the publishers accepts a single subscriber.  Items, which arrive before a subscriber subscribes, are
+	 * buffered.  Completion and errors of upstream are delivered to both subscribers after their buffered items.
+	 * Items of a side, whose subscriber has cancelled its subscription, are dropped.  When both subscribers have
+	 * cancelled their subscriptions, the subscription to upstream is cancelled too.
+	 * <p>
+	 * Values {@code null} cannot be published, so an {@link Either} with a value {@code null} cancels the subscription
+	 * to upstream and fails both publishers with a {@link NullPointerException}.
+	 *
+	 * @param <A> type for {@link Left}
+	 * @param <B> type for {@link Right}
+	 */
+	public static final class Splitter<A, B> implements Flow.Subscriber<Either<? extends A, ? extends B>> {
+		private final Object lock = new Object();
+		private final int bufferSize;
+		/**
+		 * Minimal number of items to request from upstream, while some requested items haven't arrived yet.
+		 */
+		private final int replenishThreshold;
+		private final Output<A> lefts;
+		private final Output<B> rights;
+		private Flow.Subscription upstream;
+		/**
+		 * Number of items requested from upstream, which haven't arrived yet.
+		 */
+		private long pending;
+		private boolean upstreamDone;
+
+		private Splitter(int bufferSize) {
+			this.bufferSize = bufferSize;
+			this.replenishThreshold = Math.max(1, bufferSize / 4);
+			this.lefts = new Output<>(this);
+			this.rights = new Output<>(this);
+		}
+
+		/**
+		 * Returns the publisher of values of {@link Left} items.
+		 *
+		 * @return publisher of values of {@link Left} items
+		 */
+		public Flow.Publisher<A> lefts() {
+			return lefts;
+		}
+
+		/**
+		 * Returns the publisher of values of {@link Right} items.
+		 *
+		 * @return publisher of values of {@link Right} items
+		 */
+		public Flow.Publisher<B> rights() {
+			return rights;
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			Objects.requireNonNull(subscription, "subscription");
+			boolean cancel;
+			synchronized (lock) {
+				cancel = upstream != null || upstreamDone || (lefts.cancelled && rights.cancelled);
+				if (upstream == null) {
+					upstream = subscription;
+				}
+			}
+			if (cancel) {
+				subscription.cancel();
+				return;
+			}
+			requestUpstream();
+		}
+
+		@Override
+		public void onNext(Either<? extends A, ? extends B> item) {
+			Objects.requireNonNull(item, "item");
+			if (item instanceof Left<? extends A, ? extends B> left) {
+				onNext(lefts, left.a());
+			} else {
+				onNext(rights, ((Right<? extends A, ? extends B>) item).b());
+			}
+		}
+
+		private <T> void onNext(Output<T> output, T value) {
+			if (value == null) {
+				failOnNull();
+				return;
+			}
+			synchronized (lock) {
+				pending--;
+				output.offer(value);
+			}
+			output.drain();
+			requestUpstream();
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			Objects.requireNonNull(throwable, "throwable");
+			terminate(throwable);
+		}
+
+		@Override
+		public void onComplete() {
+			terminate(null);
+		}
+
+		private void failOnNull() {
+			Flow.Subscription s;
+			synchronized (lock) {
+				if (upstreamDone) {
+					return;
+				}
+				s = upstream;
+			}
+			if (s != null) {
+				s.cancel();
+			}
+			terminate(new NullPointerException("Either item with a null value"));
+		}
+
+		private void terminate(Throwable error) {
+			synchronized (lock) {
+				if (upstreamDone) {
+					return;
+				}
+				upstreamDone = true;
+				lefts.complete(error);
+				rights.complete(error);
+			}
+			lefts.drain();
+			rights.drain();
+		}
+
+		/**
+		 * Requests from upstream as many items, as would fit into both buffers.
+		 */
+		private void requestUpstream() {
+			Flow.Subscription s;
+			long n;
+			synchronized (lock) {
+				s = upstream;
+				if (s == null || upstreamDone || (lefts.cancelled && rights.cancelled)) {
+					return;
+				}
+				n = Math.min(lefts.free(), rights.free()) - pending;
+				if (n <= 0 || (n < replenishThreshold && pending > 0)) {
+					return;
+				}
+				pending += n;
+			}
+			s.request(n);
+		}
+
+		private void outputCancelled() {
+			Flow.Subscription s;
+			synchronized (lock) {
+				if (!lefts.cancelled || !rights.cancelled) {
+					s = null;
+				} else {
+					s = upstream;
+					upstreamDone = true;
+				}
+			}
+			if (s != null) {
+				s.cancel();
+			} else {
+				requestUpstream();
+			}
+		}
+	}
+
+	/**
+	 * One of the outputs of a {@link Splitter}.  Fields are guarded by {@link Splitter#lock}.  Signals to the
+	 * subscriber are serialized by {@link #wip} and are sent without holding the lock.
+	 */
+	private static final class Output<T> implements Flow.Publisher<T>, Flow.Subscription {
+		private final Splitter<?, ?> splitter;
+		private final ArrayDeque<T> buffer = new ArrayDeque<>();
+		private final AtomicInteger wip = new AtomicInteger();
+		private Flow.Subscriber<? super T> subscriber;
+		/**
+		 * Whether {@link Flow.Subscriber#onSubscribe} of {@link #subscriber} has returned.
+		 */
+		private boolean subscribed;
+		private long demand;
+		private boolean cancelled;
+		private boolean done;
+		private Throwable error;
+		private boolean terminated;
+		/**
+		 * Whether the subscriber has requested a non-positive number of items, which cancels the subscription.
+		 */
+		private boolean invalidRequest;
+
+		private Output(Splitter<?, ?> splitter) {
+			this.splitter = splitter;
+		}
+
+		@Override
+		public void subscribe(Flow.Subscriber<? super T> s) {
+			Objects.requireNonNull(s, "subscriber");
+			boolean accepted;
+			synchronized (splitter.lock) {
+				accepted = subscriber == null && !cancelled && !terminated;
+				if (accepted) {
+					subscriber = s;
+				}
+			}
+			if (!accepted) {
+				s.onSubscribe(new Flow.Subscription() {
+					@Override
+					public void request(long n) {
+					}
+
+					@Override
+					public void cancel() {
+					}
+				});
+				s.onError(new IllegalStateException("Only one subscriber is allowed"));
+				return;
+			}
+			s.onSubscribe(this);
+			synchronized (splitter.lock) {
+				subscribed = true;
+			}
+			drain();
+		}
+
+		@Override
+		public void request(long n) {
+			synchronized (splitter.lock) {
+				if (cancelled || terminated) {
+					return;
+				}
+				if (n <= 0) {
+					buffer.clear();
+					done = true;
+					invalidRequest = true;
+					error = new IllegalArgumentException("Non-positive request: " + n);
+				} else {
+					demand += n;
+					if (demand < 0) {
+						demand = Long.MAX_VALUE;
+					}
+				}
+			}
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			synchronized (splitter.lock) {
+				if (cancelled) {
+					return;
+				}
+				cancelled = true;
+				buffer.clear();
+				subscriber = null;
+			}
+			splitter.outputCancelled();
+		}
+
+		private long free() {
+			return cancelled ? splitter.bufferSize : splitter.bufferSize - buffer.size();
+		}
+
+		private void offer(T value) {
+			if (!cancelled && !done) {
+				buffer.add(value);
+			}
+		}
+
+		private void complete(Throwable failure) {
+			if (!done) {
+				done = true;
+				error = failure;
+			}
+		}
+
+		private void drain() {
+			if (wip.getAndIncrement() != 0) {
+				return;
+			}
+			int missed = 1;
+			do {
+				boolean emitted = false;
+				while (true) {
+					Flow.Subscriber<? super T> s;
+					T value = null;
+					Throwable failure = null;
+					boolean cancelAfterFailure = false;
+					synchronized (splitter.lock) {
+						s = subscriber;
+						if (s == null || !subscribed || cancelled || terminated) {
+							break;
+						}
+						if (!buffer.isEmpty() && demand > 0) {
+							value = buffer.poll();
+							if (demand != Long.MAX_VALUE) {
+								demand--;
+							}
+						} else if (done && buffer.isEmpty()) {
+							terminated = true;
+							failure = error;
+							subscriber = null;
+							if (invalidRequest) {
+								cancelled = true;
+								cancelAfterFailure = true;
+							}
+						} else {
+							break;
+						}
+					}
+					if (value != null) {
+						s.onNext(value);
+						emitted = true;
+					} else {
+						if (failure != null) {
+							s.onError(failure);
+						} else {
+							s.onComplete();
+						}
+						if (cancelAfterFailure) {
+							splitter.outputCancelled();
+						}
+						break;
+					}
+				}
+				if (emitted) {
+					splitter.requestUpstream();
+				}
+				missed = wip.addAndGet(-missed);
+			} while (missed != 0);
+		}
+	}
+}
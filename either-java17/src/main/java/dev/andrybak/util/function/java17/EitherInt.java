@@ -0,0 +1,97 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java17;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+/**
+ * Specialization of {@link Either} for values of primitive type {@code int} in the {@link IntRight}
+ * alternative.
+ * <p>
+ * Objects of type {@code EitherInt<A>} contain either a value of type {@code A} ({@link IntLeft} alternative)
+ * or a value of type {@code int} ({@link IntRight} alternative).  Unlike {@code Either<A, Integer>}, the
+ * {@code int} value is stored and passed to functions and consumers without boxing.
+ * </p>
+ * <p>
+ * If type {@code A} is {@link Serializable} then {@code EitherInt<A>} can be serialized.
+ * </p>
+ *
+ * @param <A> type for {@link IntLeft}
+ * @see Either
+ */
+public sealed interface EitherInt<A> extends Serializable permits IntLeft, IntRight {
+	/**
+	 * Returns an {@link IntLeft} containing given value of type {@code A}.
+	 *
+	 * @param <A> type for returned {@link IntLeft}
+	 * @param a   value to be stored in the returned {@link IntLeft}
+	 * @return an {@link IntLeft} with the given value
+	 */
+	static <A> EitherInt<A> left(A a) {
+		return new IntLeft<>(a);
+	}
+
+	/**
+	 * Returns an {@link IntRight} containing given {@code int} value.
+	 *
+	 * @param <A> type for corresponding {@link IntLeft}
+	 * @param b   value to be stored in the returned {@link IntRight}
+	 * @return an {@link IntRight} with the given value
+	 */
+	static <A> EitherInt<A> right(int b) {
+		return new IntRight<>(b);
+	}
+
+	/**
+	 * Converts given {@link Either} into an {@link EitherInt}, unboxing the value of {@link Right}.
+	 *
+	 * @param <A> type for {@link IntLeft}
+	 * @param e   an {@link Either} to convert
+	 * @return an {@link EitherInt} with the same value as the given {@link Either}
+	 * @throws NullPointerException if the given {@link Either} is a {@link Right} containing {@code null}
+	 */
+	static <A> EitherInt<A> fromEither(Either<? extends A, ? extends Integer> e) {
+		return e.match(EitherInt::left, b -> right(Objects.requireNonNull(b, "right value")));
+	}
+
+	/**
+	 * Pattern matches on this {@link EitherInt} and returns result of applying the corresponding function.
+	 *
+	 * @param f   function to apply to a value of {@link IntLeft}
+	 * @param g   function to apply to a value of {@link IntRight}
+	 * @param <R> return type of functions
+	 * @return result of applying one of the functions to this {@link EitherInt}
+	 */
+	<R> R match(Function<? super A, ? extends R> f, IntFunction<? extends R> g);
+
+	/**
+	 * If this {@link EitherInt} is {@link IntLeft}, performs the first given action with its value.
+	 * If this {@link EitherInt} is {@link IntRight}, performs the second given action with its value.
+	 *
+	 * @param f consumer to apply to a value of {@link IntLeft}
+	 * @param g consumer to apply to a value of {@link IntRight}
+	 */
+	void accept(Consumer<? super A> f, IntConsumer g);
+
+	/**
+	 * If this {@link EitherInt} is an {@link IntLeft}, performs the first given action with its value and returns this
+	 * {@link EitherInt}.  If this {@link EitherInt} is an {@link IntRight}, performs the second given action with its
+	 * value and returns this {@link EitherInt}.
+	 *
+	 * @param f consumer to apply to {@link IntLeft}
+	 * @param g consumer to apply to {@link IntRight}
+	 * @return this {@link EitherInt}
+	 */
+	EitherInt<A> peek(Consumer<? super A> f, IntConsumer g);
+
+	/**
+	 * Converts this {@link EitherInt} into an {@link Either}, boxing the value of {@link IntRight}.
+	 *
+	 * @return an {@link Either} with the same value as this {@link EitherInt}
+	 */
+	Either<A, Integer> toEither();
+}
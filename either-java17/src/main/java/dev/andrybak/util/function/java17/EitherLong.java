@@ -0,0 +1,97 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java17;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+
+/**
+ * Specialization of {@link Either} for values of primitive type {@code long} in the {@link LongRight}
+ * alternative.
+ * <p>
+ * Objects of type {@code EitherLong<A>} contain either a value of type {@code A} ({@link LongLeft} alternative)
+ * or a value of type {@code long} ({@link LongRight} alternative).  Unlike {@code Either<A, Long>}, the
+ * {@code long} value is stored and passed to functions and consumers without boxing.
+ * </p>
+ * <p>
+ * If type {@code A} is {@link Serializable} then {@code EitherLong<A>} can be serialized.
+ * </p>
+ *
+ * @param <A> type for {@link LongLeft}
+ * @see Either
+ */
+public sealed interface EitherLong<A> extends Serializable permits LongLeft, LongRight {
+	/**
+	 * Returns a {@link LongLeft} containing given value of type {@code A}.
+	 *
+	 * @param <A> type for returned {@link LongLeft}
+	 * @param a   value to be stored in the returned {@link LongLeft}
+	 * @return a {@link LongLeft} with the given value
+	 */
+	static <A> EitherLong<A> left(A a) {
+		return new LongLeft<>(a);
+	}
+
+	/**
+	 * Returns a {@link LongRight} containing given {@code long} value.
+	 *
+	 * @param <A> type for corresponding {@link LongLeft}
+	 * @param b   value to be stored in the returned {@link LongRight}
+	 * @return a {@link LongRight} with the given value
+	 */
+	static <A> EitherLong<A> right(long b) {
+		return new LongRight<>(b);
+	}
+
+	/**
+	 * Converts given {@link Either} into an {@link EitherLong}, unboxing the value of {@link Right}.
+	 *
+	 * @param <A> type for {@link LongLeft}
+	 * @param e   an {@link Either} to convert
+	 * @return an {@link EitherLong} with the same value as the given {@link Either}
+	 * @throws NullPointerException if the given {@link Either} is a {@link Right} containing {@code null}
+	 */
+	static <A> EitherLong<A> fromEither(Either<? extends A, ? extends Long> e) {
+		return e.match(EitherLong::left, b -> right(Objects.requireNonNull(b, "right value")));
+	}
+
+	/**
+	 * Pattern matches on this {@link EitherLong} and returns result of applying the corresponding function.
+	 *
+	 * @param f   function to apply to a value of {@link LongLeft}
+	 * @param g   function to apply to a value of {@link LongRight}
+	 * @param <R> return type of functions
+	 * @return result of applying one of the functions to this {@link EitherLong}
+	 */
+	<R> R match(Function<? super A, ? extends R> f, LongFunction<? extends R> g);
+
+	/**
+	 * If this {@link EitherLong} is {@link LongLeft}, performs the first given action with its value.
+	 * If this {@link EitherLong} is {@link LongRight}, performs the second given action with its value.
+	 *
+	 * @param f consumer to apply to a value of {@link LongLeft}
+	 * @param g consumer to apply to a value of {@link LongRight}
+	 */
+	void accept(Consumer<? super A> f, LongConsumer g);
+
+	/**
+	 * If this {@link EitherLong} is a {@link LongLeft}, performs the first given action with its value and returns this
+	 * {@link EitherLong}.  If this {@link EitherLong} is a {@link LongRight}, performs the second given action with its
+	 * value and returns this {@link EitherLong}.
+	 *
+	 * @param f consumer to apply to {@link LongLeft}
+	 * @param g consumer to apply to {@link LongRight}
+	 * @return this {@link EitherLong}
+	 */
+	EitherLong<A> peek(Consumer<? super A> f, LongConsumer g);
+
+	/**
+	 * Converts this {@link EitherLong} into an {@link Either}, boxing the value of {@link LongRight}.
+	 *
+	 * @return an {@link Either} with the same value as this {@link EitherLong}
+	 */
+	Either<A, Long> toEither();
+}
@@ -0,0 +1,299 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java17;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Registry of counters of {@link Left} and {@link Right} results per named call site.
+ * <p>
+ * Counters are backed by {@link LongAdder}s, so threads, which record results at the same site, don't contend on a
+ * single memory location.  Counters are meant to be looked up once and stored in a field:
+ * <pre>{@code
+ * private static final EitherMetrics.Counter PARSE_METRICS = METRICS.counter("parse");
+ * ...
+ * return PARSE_METRICS.record(parse(input));
+ * }</pre>
+ * <p>
+ * A registry created by {@link #disabled()} returns counters, which do nothing, and returns functions passed to
+ * {@link #instrument(String, Function)} as is.  When a call site only ever sees such a counter, the JIT compiler
+ * inlines the empty method, so disabled instrumentation costs next to nothing.
+ */
+public final class EitherMetrics {
+	private static final EitherMetrics DISABLED = new EitherMetrics(false);
+
+	private final boolean enabled;
+	private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+	private EitherMetrics(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Creates a new registry, which counts results.
+	 *
+	 * @return a new registry
+	 */
+	public static EitherMetrics create() {
+		return new EitherMetrics(true);
+	}
+
+	/**
+	 * Returns a registry, which doesn't count anything.
+	 *
+	 * @return a shared disabled registry
+	 */
+	public static EitherMetrics disabled() {
+		return DISABLED;
+	}
+
+	/**
+	 * Returns {@code true} if this registry counts results.
+	 *
+	 * @return {@code false} for the registry returned by {@link #disabled()}, {@code true} otherwise
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Returns the counter for the given call site, creating it if needed.  All calls with the same name return the
+	 * same counter.
+	 *
+	 * @param site name of the call site
+	 * @return the counter for the call site
+	 */
+	public Counter counter(String site) {
+		Objects.requireNonNull(site, "site");
+		if (!enabled) {
+			return NoOpCounter.INSTANCE;
+		}
+		Counter counter = counters.get(site);
+		if (counter != null) {
+			return counter;
+		}
+		return counters.computeIfAbsent(site, AddingCounter::new);
+	}
+
+	/**
+	 * Returns a function, which applies the given function and records its result with the counter for the given
+	 * call site.  If this registry is disabled, the given function is returned as is.
+	 *
+	 * @param site name of the call site
+	 * @param f    function to instrument
+	 * @param <T>  type of the argument of the function
+	 * @param <A>  type for {@link Left}
+	 * @param <B>  type for {@link Right}
+	 * @return an instrumented function
+	 */
+	@SuppressWarnings("unchecked")
+	public <T, A, B> Function<T, Either<A, B>> instrument(String site,
+			Function<? super T, ? extends Either<A, B>> f)
+	{
+		Objects.requireNonNull(f, "f");
+		Counter counter = counter(site);
+		if (!enabled) {
+			// the function is only read from, so it's safe to use it with narrower argument and wider result types
+			return (Function<T, Either<A, B>>) f;
+		}
+		return t -> counter.record(f.apply(t));
+	}
+
+	/**
+	 * Returns snapshots of all counters of this registry, sorted by names of call sites.
+	 *
+	 * @return an unmodifiable map from names of call sites to snapshots of their counters
+	 */
+	public Map<String, Snapshot> snapshot() {
+		Map<String, Snapshot> result = new TreeMap<>();
+		for (Counter counter : counters.values()) {
+			Snapshot snapshot = counter.snapshot();
+			result.put(snapshot.getSite(), snapshot);
+		}
+		return Collections.unmodifiableMap(result);
+	}
+
+	/**
+	 * Counter of {@link Left} and {@link Right} results at a single call site.
+	 */
+	public abstract static class Counter {
+		private Counter() {
+		}
+
+		/**
+		 * Counts the given {@link Either} and returns it.
+		 *
+		 * @param either the result to count
+		 * @param <E>    type of the result
+		 * @return {@code either}
+		 * @throws NullPointerException if {@code either} is {@code null}, even if the registry is disabled
+		 */
+		public abstract <E extends Either<?, ?>> E record(E either);
+
+		/**
+		 * Counts a {@link Left} result.
+		 */
+		public abstract void recordLeft();
+
+		/**
+		 * Counts a {@link Right} result.
+		 */
+		public abstract void recordRight();
+
+		/**
+		 * Returns current counts of this counter.  Counts, which are recorded concurrently with this call, may or may
+		 * not be included, and the two counts are not read atomically.
+		 *
+		 * @return a snapshot of this counter
+		 */
+		public abstract Snapshot snapshot();
+	}
+
+	private static final class AddingCounter extends Counter {
+		private final String site;
+		private final LongAdder lefts = new LongAdder();
+		private final LongAdder rights = new LongAdder();
+
+		private AddingCounter(String site) {
+			this.site = site;
+		}
+
+		@Override
+		public <E extends Either<?, ?>> E record(E either) {
+			Objects.requireNonNull(either, "either");
+			if (either instanceof Left) {
+				lefts.increment();
+			} else {
+				rights.increment();
+			}
+			return either;
+		}
+
+		@Override
+		public void recordLeft() {
+			lefts.increment();
+		}
+
+		@Override
+		public void recordRight() {
+			rights.increment();
+		}
+
+		@Override
+		public Snapshot snapshot() {
+			return new Snapshot(site, lefts.sum(), rights.sum());
+		}
+	}
+
+	private static final class NoOpCounter extends Counter {
+		private static final NoOpCounter INSTANCE = new NoOpCounter();
+		private static final Snapshot EMPTY = new Snapshot("", 0, 0);
+
+		@Override
+		public <E extends Either<?, ?>> E record(E either) {
+			Objects.requireNonNull(either, "either");
+			return either;
+		}
+
+		@Override
+		public void recordLeft() {
+		}
+
+		@Override
+		public void recordRight() {
+		}
+
+		@Override
+		public Snapshot snapshot() {
+			return EMPTY;
+		}
+	}
+
+	/**
+	 * Counts of {@link Left} and {@link Right} results at a call site at some point in time.
+	 */
+	public static final class Snapshot {
+		private final String site;
+		private final long lefts;
+		private final long rights;
+
+		private Snapshot(String site, long lefts, long rights) {
+			this.site = site;
+			this.lefts = lefts;
+			this.rights = rights;
+		}
+
+		/**
+		 * Returns the name of the call site.
+		 *
+		 * @return the name of the call site
+		 */
+		public String getSite() {
+			return site;
+		}
+
+		/**
+		 * Returns the number of {@link Left} results.
+		 *
+		 * @return the number of {@link Left} results
+		 */
+		public long getLefts() {
+			return lefts;
+		}
+
+		/**
+		 * Returns the number of {@link Right} results.
+		 *
+		 * @return the number of {@link Right} results
+		 */
+		public long getRights() {
+			return rights;
+		}
+
+		/**
+		 * Returns the total number of results.
+		 *
+		 * @return the total number of results
+		 */
+		public long getTotal() {
+			return lefts + rights;
+		}
+
+		/**
+		 * Returns the fraction of {@link Left} results, or zero if there are no results.
+		 *
+		 * @return the fraction of {@link Left} results
+		 */
+		public double getLeftRatio() {
+			long total = getTotal();
+			return total == 0 ? 0.0 : (double) lefts / total;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Snapshot other)) {
+				return false;
+			}
+			return lefts == other.lefts && rights == other.rights && site.equals(other.site);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(site, lefts, rights);
+		}
+
+		@Override
+		public String toString() {
+			return "Snapshot{site='" + site + "', lefts=" + lefts + ", rights=" + rights + '}';
+		}
+	}
+}
@@ -1,6 +1,11 @@
 // SPDX-License-Identifier: MIT
 package dev.andrybak.util.function.java17;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -22,14 +27,11 @@ private EitherStreams() {
 	 * @return {@link Stream Stream&lt;A&gt;} from {@link Left} values of given {@link Stream}
 	 */
 	public static <A, B> Stream<A> lefts(Stream<? extends Either<? extends A, ? extends B>> eitherStream) {
-		return eitherStream
-				.filter(e -> e.match(left -> true, right -> false))
-				.map(Either.either(
-						Function.identity(),
-						right -> {
-							throw new IllegalStateException("Got a right value after filtering");
-						}
-				));
+		return eitherStream.mapMulti((e, sink) -> {
+			if (e instanceof Left<? extends A, ? extends B> left) {
+				sink.accept(left.a());
+			}
+		});
 	}
 
 	/**
@@ -42,13 +44,86 @@ public static <A, B> Stream<A> lefts(Stream<? extends Either<? extends A, ? exte
 	 * @return {@link Stream Stream&lt;B&gt;} from {@link Right} values of given {@link Stream}
 	 */
 	public static <A, B> Stream<B> rights(Stream<? extends Either<? extends A, ? extends B>> eitherStream) {
-		return eitherStream
-				.filter(e -> e.match(left -> false, right -> true))
-				.map(Either.either(
-						left -> {
-							throw new IllegalStateException("Got a left value after filtering");
-						},
-						Function.identity()
-				));
+		return eitherStream.mapMulti((e, sink) -> {
+			if (e instanceof Right<? extends A, ? extends B> right) {
+				sink.accept(right.b());
+			}
+		});
+	}
+
+	/**
+	 * Returns a {@link Right} with values of all elements of the given stream, if all of them are {@link Right}, or
+	 * the first {@link Left} element otherwise.  Elements after the first {@link Left} are not pulled from the
+	 * stream, so that the work of upstream stages for them is not done.
+	 * <p>
+	 * This is a terminal operation.
+	 * </p>
+	 *
+	 * @param <A>          type for {@link Left}
+	 * @param <B>          type for {@link Right}
+	 * @param eitherStream a {@link Stream} of {@link Either Either&lt;A, B&gt;}
+	 * @return a {@link Right} with a {@link List} of all {@link Right} values in encounter order, or a {@link Left}
+	 * with the value of the first {@link Left}
+	 */
+	public static <A, B> Either<A, List<B>> sequence(Stream<? extends Either<? extends A, ? extends B>> eitherStream) {
+		return traverse(eitherStream, Function.identity());
+	}
+
+	/**
+	 * Applies the given function to elements of the given stream, and returns a {@link Right} with results of the
+	 * function, if all of them are {@link Right}, or the first {@link Left} result otherwise.  Elements after the
+	 * first {@link Left} result are not pulled from the stream, and the function is not applied to them.
+	 * <p>
+	 * This is a terminal operation.
+	 * </p>
+	 *
+	 * @param <T>    type of elements of the stream
+	 * @param <A>    type for {@link Left}
+	 * @param <B>    type for {@link Right}
+	 * @param stream a {@link Stream} of elements to traverse
+	 * @param f      function to apply to the elements
+	 * @return a {@link Right} with a {@link List} of all {@link Right} values in encounter order, or a {@link Left}
+	 * with the value of the first {@link Left}
+	 */
+	public static <T, A, B> Either<A, List<B>> traverse(Stream<T> stream,
+			Function<? super T, ? extends Either<? extends A, ? extends B>> f)
+	{
+		Objects.requireNonNull(f, "f");
+		Traversal<T, A, B> traversal = new Traversal<>(f);
+		Spliterator<T> spliterator = stream.spliterator();
+		while (traversal.failure == null && spliterator.tryAdvance(traversal)) {
+			// keep pulling elements until the first Left
+		}
+		if (traversal.failure != null) {
+			return traversal.failure;
+		}
+		return Either.right(traversal.rights);
+	}
+
+	/**
+	 * State of {@link #traverse(Stream, Function)}.
+	 *
+	 * @param <T> type of elements of the source
+	 * @param <A> type for {@link Left}
+	 * @param <B> type for {@link Right}
+	 */
+	private static final class Traversal<T, A, B> implements Consumer<T> {
+		private final Function<? super T, ? extends Either<? extends A, ? extends B>> f;
+		private final List<B> rights = new ArrayList<>();
+		private Either<A, List<B>> failure;
+
+		private Traversal(Function<? super T, ? extends Either<? extends A, ? extends B>> f) {
+			this.f = f;
+		}
+
+		@Override
+		public void accept(T t) {
+			Either<? extends A, ? extends B> either = f.apply(t);
+			if (either instanceof Left<? extends A, ? extends B> left) {
+				failure = Either.left(left.a());
+			} else {
+				rights.add(((Right<? extends A, ? extends B>) either).b());
+			}
+		}
 	}
 }
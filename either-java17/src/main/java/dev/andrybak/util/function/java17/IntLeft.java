@@ -0,0 +1,42 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java17;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+/**
+ * Left alternative of the {@link EitherInt EitherInt&lt;A&gt;} type, containing a value of type {@code A}.
+ *
+ * @param <A> type of the value in this {@link IntLeft}
+ * @param a   the {@code A} value stored in this {@link IntLeft}
+ */
+record IntLeft<A>(A a) implements EitherInt<A> {
+	@Override
+	public <R> R match(Function<? super A, ? extends R> f, IntFunction<? extends R> g) {
+		return f.apply(a);
+	}
+
+	@Override
+	public void accept(Consumer<? super A> f, IntConsumer g) {
+		f.accept(a);
+	}
+
+	@Override
+	public EitherInt<A> peek(Consumer<? super A> f, IntConsumer g) {
+		f.accept(a);
+		return this;
+	}
+
+	@Override
+	public Either<A, Integer> toEither() {
+		return Either.left(a);
+	}
+
+	@Override
+	public int hashCode() {
+		return Hashing.left(Objects.hashCode(a));
+	}
+}
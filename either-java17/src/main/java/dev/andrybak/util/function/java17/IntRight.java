@@ -0,0 +1,41 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java17;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+/**
+ * Right alternative of the {@link EitherInt EitherInt&lt;A&gt;} type, containing a value of type {@code int}.
+ *
+ * @param <A> type of the value in the corresponding {@link IntLeft}
+ * @param b   the {@code int} value stored in this {@link IntRight}
+ */
+record IntRight<A>(int b) implements EitherInt<A> {
+	@Override
+	public <R> R match(Function<? super A, ? extends R> f, IntFunction<? extends R> g) {
+		return g.apply(b);
+	}
+
+	@Override
+	public void accept(Consumer<? super A> f, IntConsumer g) {
+		g.accept(b);
+	}
+
+	@Override
+	public EitherInt<A> peek(Consumer<? super A> f, IntConsumer g) {
+		g.accept(b);
+		return this;
+	}
+
+	@Override
+	public Either<A, Integer> toEither() {
+		return Either.right(b);
+	}
+
+	@Override
+	public int hashCode() {
+		return Hashing.right(Integer.hashCode(b));
+	}
+}
@@ -1,8 +1,15 @@
 // SPDX-License-Identifier: MIT
 package dev.andrybak.util.function.java17;
 
+import java.io.Serial;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Left alternative of the {@link Either Either&lt;A, B&gt;} type, containing a value of type {@code A}.
@@ -12,11 +19,53 @@
  * @param a   the {@code A} value stored in this {@link Left}
  */
 record Left<A, B>(A a) implements Either<A, B> {
+	static final Left<?, ?> NULL = new Left<>(null);
+	static final Left<?, ?> TRUE = new Left<>(Boolean.TRUE);
+	static final Left<?, ?> FALSE = new Left<>(Boolean.FALSE);
+	static final Left<?, ?> EMPTY = new Left<>(Optional.empty());
+	/**
+	 * Shared instances for integer values in range of {@code byte}.
+	 */
+	private static final Left<?, ?>[] INTEGERS = new Left<?, ?>[1 << Byte.SIZE];
+
+	static {
+		for (int i = 0; i < INTEGERS.length; i++) {
+			INTEGERS[i] = new Left<>(Byte.MIN_VALUE + i);
+		}
+	}
+
+	static Left<?, ?> ofInteger(int a) {
+		if (a == (byte) a) {
+			return INTEGERS[a - Byte.MIN_VALUE];
+		}
+		return new Left<>(a);
+	}
+
 	@Override
 	public <R> R match(Function<? super A, ? extends R> f, Function<? super B, ? extends R> g) {
 		return f.apply(a);
 	}
 
+	@Override
+	public int matchInt(ToIntFunction<? super A> f, ToIntFunction<? super B> g) {
+		return f.applyAsInt(a);
+	}
+
+	@Override
+	public long matchLong(ToLongFunction<? super A> f, ToLongFunction<? super B> g) {
+		return f.applyAsLong(a);
+	}
+
+	@Override
+	public double matchDouble(ToDoubleFunction<? super A> f, ToDoubleFunction<? super B> g) {
+		return f.applyAsDouble(a);
+	}
+
+	@Override
+	public boolean matchBoolean(Predicate<? super A> f, Predicate<? super B> g) {
+		return f.test(a);
+	}
+
 	@Override
 	public void accept(Consumer<? super A> f, Consumer<? super B> g) {
 		f.accept(a);
@@ -27,4 +76,58 @@ public Either<A, B> peek(Consumer<? super A> f, Consumer<? super B> g) {
 		f.accept(a);
 		return this;
 	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <C> Either<A, C> map(Function<? super B, ? extends C> g) {
+		// a Left doesn't contain values of type B, so it's safe to reuse it
+		return (Either<A, C>) this;
+	}
+
+	@Override
+	public <C> Either<C, B> mapLeft(Function<? super A, ? extends C> f) {
+		return new Left<>(f.apply(a));
+	}
+
+	@Override
+	public <C, D> Either<C, D> bimap(Function<? super A, ? extends C> f, Function<? super B, ? extends D> g) {
+		return new Left<>(f.apply(a));
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <C> Either<A, C> flatMap(Function<? super B, ? extends Either<? extends A, ? extends C>> g) {
+		return (Either<A, C>) this;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <C> Either<C, B> flatMapLeft(Function<? super A, ? extends Either<? extends C, ? extends B>> f) {
+		// Either is immutable, so it's safe to use it with wider types
+		return (Either<C, B>) f.apply(a);
+	}
+
+	@Override
+	public int hashCode() {
+		return Hashing.left(Objects.hashCode(a));
+	}
+
+	/**
+	 * Replaces deserialized values, which are equal to one of the shared instances, with the shared instance.
+	 *
+	 * @return this {@link Left} or an equal shared instance
+	 */
+	@Serial
+	private Object readResolve() {
+		if (a == null) {
+			return NULL;
+		}
+		if (a instanceof Boolean bool) {
+			return bool ? TRUE : FALSE;
+		}
+		if (a instanceof Integer i && i == i.byteValue()) {
+			return INTEGERS[i - Byte.MIN_VALUE];
+		}
+		return this;
+	}
 }
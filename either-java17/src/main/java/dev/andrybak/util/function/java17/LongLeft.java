@@ -0,0 +1,42 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java17;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+
+/**
+ * Left alternative of the {@link EitherLong EitherLong&lt;A&gt;} type, containing a value of type {@code A}.
+ *
+ * @param <A> type of the value in this {@link LongLeft}
+ * @param a   the {@code A} value stored in this {@link LongLeft}
+ */
+record LongLeft<A>(A a) implements EitherLong<A> {
+	@Override
+	public <R> R match(Function<? super A, ? extends R> f, LongFunction<? extends R> g) {
+		return f.apply(a);
+	}
+
+	@Override
+	public void accept(Consumer<? super A> f, LongConsumer g) {
+		f.accept(a);
+	}
+
+	@Override
+	public EitherLong<A> peek(Consumer<? super A> f, LongConsumer g) {
+		f.accept(a);
+		return this;
+	}
+
+	@Override
+	public Either<A, Long> toEither() {
+		return Either.left(a);
+	}
+
+	@Override
+	public int hashCode() {
+		return Hashing.left(Objects.hashCode(a));
+	}
+}
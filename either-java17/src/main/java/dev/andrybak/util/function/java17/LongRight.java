@@ -0,0 +1,41 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java17;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+
+/**
+ * Right alternative of the {@link EitherLong EitherLong&lt;A&gt;} type, containing a value of type {@code long}.
+ *
+ * @param <A> type of the value in the corresponding {@link LongLeft}
+ * @param b   the {@code long} value stored in this {@link LongRight}
+ */
+record LongRight<A>(long b) implements EitherLong<A> {
+	@Override
+	public <R> R match(Function<? super A, ? extends R> f, LongFunction<? extends R> g) {
+		return g.apply(b);
+	}
+
+	@Override
+	public void accept(Consumer<? super A> f, LongConsumer g) {
+		g.accept(b);
+	}
+
+	@Override
+	public EitherLong<A> peek(Consumer<? super A> f, LongConsumer g) {
+		g.accept(b);
+		return this;
+	}
+
+	@Override
+	public Either<A, Long> toEither() {
+		return Either.right(b);
+	}
+
+	@Override
+	public int hashCode() {
+		return Hashing.right(Long.hashCode(b));
+	}
+}
@@ -0,0 +1,122 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java17;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EitherCatcherTest {
+	private static final IOException NOT_FOUND = new IOException("not found");
+
+	private static final EitherCatcher CATCHER = EitherCatcher.builder()
+			.stackless(NoSuchElementException.class)
+			.preallocated(FileNotFoundException.class, NOT_FOUND)
+			.build();
+
+	private static Exception left(Either<Exception, ?> either) {
+		return either.match(e -> e, b -> null);
+	}
+
+	@Test
+	void testThatSuccessIsRight() {
+		assertEquals(Either.right("foo"), CATCHER.get(() -> "foo"));
+	}
+
+	@Test
+	void testThatSelectedExceptionsBecomeStackless() {
+		Exception actual = left(CATCHER.get(() -> {
+			throw new NoSuchElementException("no user 42");
+		}));
+		assertTrue(actual instanceof EitherCatcher.StacklessException, String.valueOf(actual));
+		EitherCatcher.StacklessException stackless = (EitherCatcher.StacklessException) actual;
+		assertAll(
+				() -> assertEquals(NoSuchElementException.class, stackless.getOriginalType()),
+				() -> assertEquals("no user 42", stackless.getMessage()),
+				() -> assertEquals("java.util.NoSuchElementException: no user 42", stackless.toString()),
+				() -> assertEquals(0, stackless.getStackTrace().length),
+				() -> assertNull(stackless.getCause())
+		);
+	}
+
+	@Test
+	void testThatStacklessExceptionKeepsCause() {
+		IOException cause = new IOException("connection reset");
+		EitherCatcher catcher = EitherCatcher.builder()
+				.stackless(IllegalStateException.class)
+				.build();
+		Exception actual = left(catcher.get(() -> {
+			throw new IllegalStateException("lookup failed", cause);
+		}));
+		assertTrue(actual instanceof EitherCatcher.StacklessException, String.valueOf(actual));
+		assertAll(
+				() -> assertSame(cause, actual.getCause()),
+				() -> assertEquals(0, actual.getStackTrace().length)
+		);
+	}
+
+	@Test
+	void testThatPreallocatedExceptionIsShared() {
+		Function<String, Either<Exception, String>> read = CATCHER.function(path -> {
+			throw new FileNotFoundException(path);
+		});
+		assertAll(
+				() -> assertSame(NOT_FOUND, left(read.apply("foo"))),
+				() -> assertSame(NOT_FOUND, left(read.apply("bar")))
+		);
+	}
+
+	@Test
+	void testThatOtherExceptionsAreKept() {
+		IOException failure = new IOException();
+		assertSame(failure, left(CATCHER.get(() -> {
+			throw failure;
+		})));
+		assertSame(failure, CATCHER.replace(failure));
+	}
+
+	@Test
+	void testThatFirstMatchingReplacementIsUsed() {
+		Exception instance = new Exception("first");
+		EitherCatcher catcher = EitherCatcher.builder()
+				.preallocated(IOException.class, instance)
+				.stackless(FileNotFoundException.class)
+				.build();
+		assertSame(instance, catcher.replace(new FileNotFoundException()));
+	}
+
+	@Test
+	void testThatInterruptStatusIsRestored() {
+		InterruptedException interrupted = new InterruptedException("cancelled");
+		try {
+			assertSame(interrupted, left(CATCHER.get(() -> {
+				throw interrupted;
+			})));
+			assertTrue(Thread.currentThread().isInterrupted());
+			Thread.interrupted();
+			Function<String, Either<Exception, String>> f = CATCHER.function(s -> {
+				throw interrupted;
+			});
+			assertSame(interrupted, left(f.apply("foo")));
+			assertTrue(Thread.currentThread().isInterrupted());
+		} finally {
+			Thread.interrupted();
+		}
+	}
+
+	@Test
+	void testThatErrorsAreNotCaught() {
+		assertThrows(AssertionError.class, () -> CATCHER.get(() -> {
+			throw new AssertionError();
+		}));
+	}
+}
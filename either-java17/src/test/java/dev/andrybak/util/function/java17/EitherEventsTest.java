@@ -0,0 +1,121 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java17;
+
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EitherEventsTest {
+	private static Either<String, Integer> parse(String s) {
+		try {
+			return Either.right(Integer.parseInt(s));
+		} catch (NumberFormatException e) {
+			return Either.left(s);
+		}
+	}
+
+	private static List<RecordedEvent> leftProducedEvents(Recording recording) throws IOException {
+		Path file = Files.createTempFile("either-events", ".jfr");
+		try {
+			recording.dump(file);
+			return RecordingFile.readAllEvents(file).stream()
+					.filter(e -> e.getEventType().getName().equals(EitherEvents.LeftProduced.NAME))
+					.collect(Collectors.toList());
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	@Test
+	void testThatRecordReturnsArgument() {
+		Either<String, Integer> left = Either.left("foo");
+		Either<String, Integer> right = Either.right(42);
+		assertSame(left, EitherEvents.record("site", left));
+		assertSame(right, EitherEvents.record("site", right));
+	}
+
+	@Test
+	void testThatEventIsDisabledByDefault() {
+		EventType type = EventType.getEventType(EitherEvents.LeftProduced.class);
+		assertEquals(EitherEvents.LeftProduced.NAME, type.getName());
+		assertFalse(type.isEnabled());
+	}
+
+	@Test
+	void testThatLeftsAreRecorded() throws IOException {
+		try (Recording recording = new Recording()) {
+			recording.enable(EitherEvents.LeftProduced.NAME).withStackTrace();
+			recording.start();
+			Function<String, Either<String, Integer>> f = EitherEvents.instrument("parse", EitherEventsTest::parse);
+			assertEquals(Either.right(1), f.apply("1"));
+			assertEquals(Either.left("x"), f.apply("x"));
+			EitherEvents.record("explicit", Either.left(null));
+			EitherEvents.record("explicit", Either.right(2));
+			recording.stop();
+			List<RecordedEvent> events = leftProducedEvents(recording);
+			assertEquals(2, events.size());
+			RecordedEvent parse = events.stream()
+					.filter(e -> e.getString("site").equals("parse"))
+					.findAny()
+					.orElseThrow();
+			RecordedClass valueClass = parse.getClass("valueClass");
+			assertEquals(String.class.getName(), valueClass.getName());
+			assertNotNull(parse.getStackTrace());
+			RecordedEvent explicit = events.stream()
+					.filter(e -> e.getString("site").equals("explicit"))
+					.findAny()
+					.orElseThrow();
+			assertNull(explicit.getClass("valueClass"));
+		}
+	}
+
+	@Test
+	void testThatStackTracesAreOffByDefault() throws IOException {
+		try (Recording recording = new Recording()) {
+			recording.enable(EitherEvents.LeftProduced.NAME);
+			recording.start();
+			EitherEvents.record("site", Either.left(1));
+			recording.stop();
+			List<RecordedEvent> events = leftProducedEvents(recording);
+			assertEquals(1, events.size());
+			assertEquals(Integer.class.getName(), events.get(0).getClass("valueClass").getName());
+			assertNull(events.get(0).getStackTrace());
+		}
+	}
+
+	@Test
+	void testThatNothingIsRecordedWhenDisabled() throws IOException {
+		assertTrue(FlightRecorder.isAvailable());
+		try (Recording recording = new Recording()) {
+			recording.start();
+			EitherEvents.record("site", Either.left(1));
+			recording.stop();
+			assertTrue(leftProducedEvents(recording).isEmpty());
+		}
+	}
+
+	@Test
+	void testThatNullsAreRejected() {
+		assertThrows(NullPointerException.class, () -> EitherEvents.instrument(null, EitherEventsTest::parse));
+		assertThrows(NullPointerException.class, () -> EitherEvents.instrument("site", null));
+	}
+}
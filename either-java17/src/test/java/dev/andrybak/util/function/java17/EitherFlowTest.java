@@ -0,0 +1,317 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java17;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EitherFlowTest {
+	/**
+	 * Synchronous publisher of items of a list, which honors demand.
+	 */
+	private static final class ListPublisher<T> implements Flow.Publisher<T>, Flow.Subscription {
+		private final List<T> items;
+		private final Throwable failure;
+		private Flow.Subscriber<? super T> subscriber;
+		private int index;
+		private long demand;
+		private long requested;
+		private boolean emitting;
+		private boolean cancelled;
+		private boolean terminated;
+
+		ListPublisher(List<T> items, Throwable failure) {
+			this.items = items;
+			this.failure = failure;
+		}
+
+		ListPublisher(List<T> items) {
+			this(items, null);
+		}
+
+		@Override
+		public void subscribe(Flow.Subscriber<? super T> s) {
+			subscriber = s;
+			s.onSubscribe(this);
+			emit();
+		}
+
+		@Override
+		public void request(long n) {
+			requested += n;
+			demand += n;
+			emit();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+		}
+
+		private void emit() {
+			if (emitting) {
+				return;
+			}
+			emitting = true;
+			while (demand > 0 && index < items.size() && !cancelled) {
+				demand--;
+				subscriber.onNext(items.get(index++));
+			}
+			if (index == items.size() && !cancelled && !terminated) {
+				terminated = true;
+				if (failure != null) {
+					subscriber.onError(failure);
+				} else {
+					subscriber.onComplete();
+				}
+			}
+			emitting = false;
+		}
+	}
+
+	private static final class TestSubscriber<T> implements Flow.Subscriber<T> {
+		private final long initialRequest;
+		private final List<T> items = new ArrayList<>();
+		private Flow.Subscription subscription;
+		private Throwable error;
+		private boolean completed;
+
+		TestSubscriber(long initialRequest) {
+			this.initialRequest = initialRequest;
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription s) {
+			subscription = s;
+			if (initialRequest > 0) {
+				s.request(initialRequest);
+			}
+		}
+
+		@Override
+		public void onNext(T item) {
+			assertFalse(completed || error != null, "onNext after a terminal signal");
+			items.add(item);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			error = throwable;
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+		}
+	}
+
+	private static List<Either<String, Integer>> mixed(int size) {
+		return IntStream.range(0, size)
+				.mapToObj(i -> i % 3 == 0 ? Either.<String, Integer>left("e" + i) : Either.<String, Integer>right(i))
+				.toList();
+	}
+
+	@Test
+	void testThatItemsAreSplitInOrder() {
+		EitherFlow.Splitter<String, Integer> splitter = EitherFlow.splitter(8);
+		TestSubscriber<String> lefts = new TestSubscriber<>(Long.MAX_VALUE);
+		TestSubscriber<Integer> rights = new TestSubscriber<>(Long.MAX_VALUE);
+		splitter.lefts().subscribe(lefts);
+		splitter.rights().subscribe(rights);
+		new ListPublisher<>(mixed(100)).subscribe(splitter);
+		assertEquals(IntStream.range(0, 100).filter(i -> i % 3 == 0).mapToObj(i -> "e" + i).toList(), lefts.items);
+		assertEquals(IntStream.range(0, 100).filter(i -> i % 3 != 0).boxed().toList(), rights.items);
+		assertTrue(lefts.completed);
+		assertTrue(rights.completed);
+	}
+
+	@Test
+	void testThatItemsAreBufferedBeforeSubscription() {
+		EitherFlow.Splitter<String, Integer> splitter = EitherFlow.splitter(100);
+		new ListPublisher<>(mixed(10)).subscribe(splitter);
+		TestSubscriber<String> lefts = new TestSubscriber<>(Long.MAX_VALUE);
+		TestSubscriber<Integer> rights = new TestSubscriber<>(Long.MAX_VALUE);
+		splitter.lefts().subscribe(lefts);
+		splitter.rights().subscribe(rights);
+		assertEquals(List.of("e0", "e3", "e6", "e9"), lefts.items);
+		assertEquals(List.of(1, 2, 4, 5, 7, 8), rights.items);
+		assertTrue(lefts.completed);
+		assertTrue(rights.completed);
+	}
+
+	@Test
+	void testThatSlowSideLimitsUpstreamDemand() {
+		int bufferSize = 4;
+		EitherFlow.Splitter<String, Integer> splitter = EitherFlow.splitter(bufferSize);
+		TestSubscriber<String> lefts = new TestSubscriber<>(0);
+		TestSubscriber<Integer> rights = new TestSubscriber<>(Long.MAX_VALUE);
+		splitter.lefts().subscribe(lefts);
+		splitter.rights().subscribe(rights);
+		ListPublisher<Either<String, Integer>> publisher = new ListPublisher<>(mixed(100));
+		publisher.subscribe(splitter);
+		assertEquals(List.of(), lefts.items);
+		assertTrue(publisher.index <= 3 * bufferSize, () -> "Too many items emitted: " + publisher.index);
+		assertTrue(rights.items.size() < 3 * bufferSize);
+		assertFalse(rights.completed);
+
+		lefts.subscription.request(Long.MAX_VALUE);
+		assertEquals(34, lefts.items.size());
+		assertEquals(66, rights.items.size());
+		assertTrue(lefts.completed);
+		assertTrue(rights.completed);
+	}
+
+	@Test
+	void testThatSlowSideDoesNotBlockOtherSideWhileBufferHasSpace() {
+		EitherFlow.Splitter<String, Integer> splitter = EitherFlow.splitter(4);
+		TestSubscriber<String> lefts = new TestSubscriber<>(0);
+		TestSubscriber<Integer> rights = new TestSubscriber<>(Long.MAX_VALUE);
+		splitter.lefts().subscribe(lefts);
+		splitter.rights().subscribe(rights);
+		List<Either<String, Integer>> items = IntStream.range(0, 1000)
+				.mapToObj(i -> i % 400 == 0 ? Either.<String, Integer>left("e" + i) : Either.<String, Integer>right(i))
+				.toList();
+		new ListPublisher<>(items).subscribe(splitter);
+		assertEquals(997, rights.items.size());
+		assertTrue(rights.completed);
+		assertFalse(lefts.completed);
+
+		lefts.subscription.request(1);
+		assertEquals(List.of("e0"), lefts.items);
+		assertFalse(lefts.completed);
+		lefts.subscription.request(2);
+		assertEquals(List.of("e0", "e400", "e800"), lefts.items);
+		assertTrue(lefts.completed);
+	}
+
+	@Test
+	void testThatDemandIsIndependent() {
+		EitherFlow.Splitter<String, Integer> splitter = EitherFlow.splitter(16);
+		TestSubscriber<String> lefts = new TestSubscriber<>(2);
+		TestSubscriber<Integer> rights = new TestSubscriber<>(3);
+		splitter.lefts().subscribe(lefts);
+		splitter.rights().subscribe(rights);
+		new ListPublisher<>(mixed(12)).subscribe(splitter);
+		assertEquals(List.of("e0", "e3"), lefts.items);
+		assertEquals(List.of(1, 2, 4), rights.items);
+		rights.subscription.request(1);
+		assertEquals(List.of("e0", "e3"), lefts.items);
+		assertEquals(List.of(1, 2, 4, 5), rights.items);
+	}
+
+	@Test
+	void testThatErrorIsDeliveredAfterBufferedItems() {
+		IllegalStateException failure = new IllegalStateException("foo");
+		EitherFlow.Splitter<String, Integer> splitter = EitherFlow.splitter(16);
+		TestSubscriber<String> lefts = new TestSubscriber<>(0);
+		TestSubscriber<Integer> rights = new TestSubscriber<>(Long.MAX_VALUE);
+		splitter.lefts().subscribe(lefts);
+		splitter.rights().subscribe(rights);
+		new ListPublisher<>(mixed(4), failure).subscribe(splitter);
+		assertEquals(List.of(1, 2), rights.items);
+		assertEquals(failure, rights.error);
+		assertNull(lefts.error);
+		lefts.subscription.request(10);
+		assertEquals(List.of("e0", "e3"), lefts.items);
+		assertEquals(failure, lefts.error);
+	}
+
+	@Test
+	void testThatCancelledSideDoesNotBlockOtherSide() {
+		EitherFlow.Splitter<String, Integer> splitter = EitherFlow.splitter(2);
+		TestSubscriber<String> lefts = new TestSubscriber<>(0);
+		TestSubscriber<Integer> rights = new TestSubscriber<>(Long.MAX_VALUE);
+		splitter.lefts().subscribe(lefts);
+		splitter.rights().subscribe(rights);
+		lefts.subscription.cancel();
+		ListPublisher<Either<String, Integer>> publisher = new ListPublisher<>(mixed(100));
+		publisher.subscribe(splitter);
+		assertEquals(66, rights.items.size());
+		assertTrue(rights.completed);
+		assertEquals(List.of(), lefts.items);
+		assertFalse(lefts.completed);
+		assertFalse(publisher.cancelled);
+	}
+
+	@Test
+	void testThatUpstreamIsCancelledWhenBothSidesCancel() {
+		EitherFlow.Splitter<String, Integer> splitter = EitherFlow.splitter(4);
+		TestSubscriber<String> lefts = new TestSubscriber<>(1);
+		TestSubscriber<Integer> rights = new TestSubscriber<>(1);
+		splitter.lefts().subscribe(lefts);
+		splitter.rights().subscribe(rights);
+		ListPublisher<Either<String, Integer>> publisher = new ListPublisher<>(mixed(100));
+		publisher.subscribe(splitter);
+		lefts.subscription.cancel();
+		assertFalse(publisher.cancelled);
+		rights.subscription.cancel();
+		assertTrue(publisher.cancelled);
+	}
+
+	@Test
+	void testThatSecondSubscriberIsRejected() {
+		EitherFlow.Splitter<String, Integer> splitter = EitherFlow.splitter();
+		splitter.rights().subscribe(new TestSubscriber<>(1));
+		TestSubscriber<Integer> second = new TestSubscriber<>(1);
+		splitter.rights().subscribe(second);
+		assertInstanceOf(IllegalStateException.class, second.error);
+	}
+
+	@Test
+	void testThatSubscriberAfterCompletionIsRejected() {
+		EitherFlow.Splitter<String, Integer> splitter = EitherFlow.splitter();
+		TestSubscriber<Integer> first = new TestSubscriber<>(Long.MAX_VALUE);
+		splitter.rights().subscribe(first);
+		new ListPublisher<>(mixed(5)).subscribe(splitter);
+		assertTrue(first.completed);
+		TestSubscriber<Integer> late = new TestSubscriber<>(Long.MAX_VALUE);
+		splitter.rights().subscribe(late);
+		assertInstanceOf(IllegalStateException.class, late.error);
+		assertTrue(late.items.isEmpty());
+	}
+
+	@Test
+	void testThatNonPositiveRequestIsAnError() {
+		EitherFlow.Splitter<String, Integer> splitter = EitherFlow.splitter(4);
+		TestSubscriber<String> lefts = new TestSubscriber<>(0);
+		TestSubscriber<Integer> rights = new TestSubscriber<>(Long.MAX_VALUE);
+		splitter.lefts().subscribe(lefts);
+		splitter.rights().subscribe(rights);
+		lefts.subscription.request(0);
+		assertInstanceOf(IllegalArgumentException.class, lefts.error);
+		new ListPublisher<>(mixed(30)).subscribe(splitter);
+		assertEquals(20, rights.items.size());
+		assertTrue(rights.completed);
+	}
+
+	@Test
+	void testThatNullValuesFailBothSides() {
+		EitherFlow.Splitter<String, Integer> splitter = EitherFlow.splitter(4);
+		TestSubscriber<String> lefts = new TestSubscriber<>(Long.MAX_VALUE);
+		TestSubscriber<Integer> rights = new TestSubscriber<>(Long.MAX_VALUE);
+		splitter.lefts().subscribe(lefts);
+		splitter.rights().subscribe(rights);
+		ListPublisher<Either<String, Integer>> publisher = new ListPublisher<>(
+				List.of(Either.right(1), Either.rightNull(), Either.right(2)));
+		publisher.subscribe(splitter);
+		assertEquals(List.of(1), rights.items);
+		assertInstanceOf(NullPointerException.class, rights.error);
+		assertInstanceOf(NullPointerException.class, lefts.error);
+		assertTrue(publisher.cancelled);
+	}
+
+	@Test
+	void testThatInvalidBufferSizeIsRejected() {
+		assertThrows(IllegalArgumentException.class, () -> EitherFlow.splitter(0));
+	}
+}
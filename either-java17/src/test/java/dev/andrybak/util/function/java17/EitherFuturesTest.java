@@ -0,0 +1,149 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java17;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EitherFuturesTest {
+	private static final Duration SHORT = Duration.ofMillis(20);
+
+	private static <T> CompletableFuture<T> failed(Throwable failure) {
+		return CompletableFuture.failedFuture(failure);
+	}
+
+	private static <T> T get(CompletableFuture<T> future) throws Exception {
+		return future.get(10, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void testThatToEitherOfSuccessIsRight() throws Exception {
+		assertEquals(Either.right("foo"), get(EitherFutures.toEither(CompletableFuture.completedFuture("foo"))));
+	}
+
+	@Test
+	void testThatToEitherOfFailureIsLeft() throws Exception {
+		IllegalStateException failure = new IllegalStateException();
+		assertEquals(Either.left(failure), get(EitherFutures.toEither(failed(failure))));
+	}
+
+	@Test
+	void testThatCompletionExceptionIsUnwrapped() throws Exception {
+		IllegalStateException failure = new IllegalStateException();
+		CompletableFuture<String> dependent = CompletableFuture.<String>completedFuture("foo")
+				.thenApply(s -> {
+					throw failure;
+				});
+		CompletableFuture<String> wrapped = failed(new CompletionException(failure));
+		assertAll(
+				() -> assertEquals(Either.left(failure), get(EitherFutures.toEither(dependent))),
+				() -> assertEquals(Either.left(failure), get(EitherFutures.toEither(wrapped)))
+		);
+	}
+
+	@Test
+	void testThatTimeoutIsLeft() throws Exception {
+		Either<Throwable, String> actual = get(EitherFutures.toEither(new CompletableFuture<String>(), SHORT));
+		Throwable failure = actual.match(t -> t, s -> null);
+		assertTrue(failure instanceof EitherFutures.Timeout, String.valueOf(failure));
+		assertEquals(SHORT, ((EitherFutures.Timeout) failure).getTimeout());
+		assertEquals(0, failure.getStackTrace().length);
+	}
+
+	@Test
+	void testThatCompletionBeforeTimeoutIsRight() throws Exception {
+		CompletableFuture<String> future = new CompletableFuture<>();
+		CompletableFuture<Either<Throwable, String>> actual = EitherFutures.toEither(future, Duration.ofSeconds(10));
+		assertFalse(actual.isDone());
+		future.complete("foo");
+		assertEquals(Either.right("foo"), get(actual));
+	}
+
+	@Test
+	void testThatAllOfKeepsOrder() throws Exception {
+		IllegalStateException failure = new IllegalStateException();
+		CompletableFuture<String> late = new CompletableFuture<>();
+		List<CompletableFuture<String>> futures = List.of(
+				late,
+				failed(failure),
+				CompletableFuture.completedFuture("bar")
+		);
+		CompletableFuture<List<Either<Throwable, String>>> actual = EitherFutures.allOf(futures);
+		assertFalse(actual.isDone());
+		late.complete("foo");
+		assertEquals(List.of(Either.right("foo"), Either.left(failure), Either.right("bar")), get(actual));
+	}
+
+	@Test
+	void testThatAllOfWithTimeoutWorks() throws Exception {
+		List<CompletableFuture<String>> futures = List.of(
+				CompletableFuture.completedFuture("foo"),
+				new CompletableFuture<>()
+		);
+		List<Either<Throwable, String>> actual = get(EitherFutures.allOf(futures, SHORT));
+		assertEquals(Either.right("foo"), actual.get(0));
+		assertTrue(actual.get(1).match(t -> t instanceof EitherFutures.Timeout, s -> false));
+	}
+
+	@Test
+	void testThatSequenceOfSuccessesIsRight() throws Exception {
+		List<CompletableFuture<Integer>> futures = List.of(
+				CompletableFuture.completedFuture(1),
+				CompletableFuture.completedFuture(2)
+		);
+		assertEquals(Either.right(List.of(1, 2)), get(EitherFutures.sequence(futures)));
+		assertEquals(Either.right(List.of()), get(EitherFutures.sequence(List.of())));
+	}
+
+	@Test
+	void testThatSequenceFailsFast() throws Exception {
+		IllegalStateException failure = new IllegalStateException();
+		List<CompletableFuture<Integer>> futures = List.of(new CompletableFuture<>(), failed(failure));
+		assertEquals(Either.left(failure), get(EitherFutures.sequence(futures)));
+	}
+
+	@Test
+	void testThatSequenceWithTimeoutFails() throws Exception {
+		List<CompletableFuture<Integer>> futures = List.of(
+				CompletableFuture.completedFuture(1),
+				new CompletableFuture<>()
+		);
+		Either<Throwable, List<Integer>> actual = get(EitherFutures.sequence(futures, SHORT));
+		assertTrue(actual.match(t -> t instanceof EitherFutures.Timeout, list -> false));
+	}
+
+	@Test
+	void testThatAnyRightReturnsFirstSuccess() throws Exception {
+		CompletableFuture<String> never = new CompletableFuture<>();
+		List<CompletableFuture<String>> futures = List.of(
+				failed(new IllegalStateException()),
+				never,
+				CompletableFuture.completedFuture("foo")
+		);
+		assertEquals(Either.right("foo"), get(EitherFutures.anyRight(futures)));
+	}
+
+	@Test
+	void testThatAnyRightCollectsAllFailures() throws Exception {
+		IllegalStateException first = new IllegalStateException();
+		IllegalArgumentException second = new IllegalArgumentException();
+		List<CompletableFuture<String>> futures = List.of(failed(first), new CompletableFuture<>());
+		Either<List<Throwable>, String> actual = get(EitherFutures.anyRight(futures, SHORT));
+		List<Throwable> failures = actual.match(l -> l, s -> List.of());
+		assertEquals(2, failures.size());
+		assertSame(first, failures.get(0));
+		assertTrue(failures.get(1) instanceof EitherFutures.Timeout);
+		assertEquals(Either.left(List.of(second)),
+				get(EitherFutures.anyRight(List.of(failed(second)))));
+	}
+}
@@ -3,11 +3,15 @@
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -40,4 +44,60 @@ void test() {
 		assertTrue(m.containsKey(rightValue));
 		assertEquals(1, m.size());
 	}
-}
\ No newline at end of file
+
+	@Test
+	void testThatHashCodesAreTheSameInAllModules() {
+		assertEquals(-718376080, Either.left("foo").hashCode());
+		assertEquals(-1940526053, Either.left(42).hashCode());
+		assertEquals(-49785941, Either.right(42).hashCode());
+		assertEquals(167010153, Either.leftNull().hashCode());
+		assertEquals(-1378916746, Either.rightNull().hashCode());
+	}
+
+	@Test
+	void testThatHashCodesDependOnAlternative() {
+		assertNotEquals(Either.leftNull().hashCode(), Either.rightNull().hashCode());
+		for (int i = -1000; i < 1000; i++) {
+			assertNotEquals(Either.left(i).hashCode(), Either.right(i).hashCode());
+		}
+	}
+
+	@Test
+	void testThatLowBitsAreWellDistributed() {
+		// sequential ids are the typical keys, which have poor distribution with multiplication by a small constant
+		int buckets = 1 << 10;
+		int[] leftCounts = new int[buckets];
+		int[] rightCounts = new int[buckets];
+		for (int i = 0; i < buckets * 16; i++) {
+			leftCounts[Either.left(i * 64).hashCode() & (buckets - 1)]++;
+			rightCounts[Either.right(i * 64).hashCode() & (buckets - 1)]++;
+		}
+		for (int i = 0; i < buckets; i++) {
+			int left = leftCounts[i];
+			int right = rightCounts[i];
+			assertTrue(left > 0 && left < 48, () -> "Unbalanced left bucket: " + left);
+			assertTrue(right > 0 && right < 48, () -> "Unbalanced right bucket: " + right);
+		}
+	}
+
+	@Test
+	void testThatStridedIdsDoNotCollideInHashMap() {
+		// ids allocated in blocks of 16 with a stride, as produced by sequences with caching or by sharded generators
+		for (long stride : new long[]{1, 1024, 65536}) {
+			Set<Either<Integer, Long>> keys = new HashSet<>();
+			for (int i = 0; i < 65536; i++) {
+				keys.add(i % 16 == 0 ? Either.left(i / 16 % 64) : Either.right((i / 16) * stride * 16 + i % 16));
+			}
+			// bucket index of HashMap after resizing to fit all keys
+			int buckets = Integer.highestOneBit(keys.size() * 4 / 3 - 1) << 1;
+			Map<Integer, Integer> chains = new HashMap<>();
+			for (Either<Integer, Long> key : keys) {
+				int h = key.hashCode();
+				chains.merge((h ^ (h >>> 16)) & (buckets - 1), 1, Integer::sum);
+			}
+			int longest = Collections.max(chains.values());
+			long s = stride;
+			assertTrue(longest <= 10, () -> "Longest chain " + longest + " for stride " + s);
+		}
+	}
+}
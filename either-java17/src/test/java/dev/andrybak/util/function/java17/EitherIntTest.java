@@ -0,0 +1,139 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java17;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class EitherIntTest {
+	@Test
+	void testThatLeftCanBeConstructed() {
+		EitherInt<String> leftValue = EitherInt.left("Left value");
+		assertEquals(IntLeft.class, leftValue.getClass());
+	}
+
+	@Test
+	void testThatRightCanBeConstructed() {
+		EitherInt<String> rightValue = EitherInt.right(42);
+		assertEquals(IntRight.class, rightValue.getClass());
+	}
+
+	@Test
+	void testThatLeftCanBeMatched() {
+		EitherInt<String> leftValue = EitherInt.left("bar");
+		assertEquals("foobar", leftValue.match(
+				a -> "foo" + a,
+				b -> "Right value " + b
+		));
+	}
+
+	@Test
+	void testThatRightCanBeMatched() {
+		EitherInt<String> rightValue = EitherInt.right(42);
+		assertEquals("Right value " + 42, rightValue.match(
+				a -> "foo" + a,
+				b -> "Right value " + b
+		));
+	}
+
+	@Test
+	void testAcceptOnLeft() {
+		EitherInt<String> leftValue = EitherInt.left("foo");
+		final int[] leftCount = {0};
+		leftValue.accept(
+				a -> {
+					leftCount[0]++;
+					assertEquals("foo", a);
+				},
+				b -> fail("unexpected Right")
+		);
+		assertEquals(1, leftCount[0]);
+	}
+
+	@Test
+	void testAcceptOnRight() {
+		EitherInt<String> rightValue = EitherInt.right(42);
+		final int[] rightCount = {0};
+		rightValue.accept(
+				a -> fail("unexpected Left"),
+				b -> {
+					rightCount[0]++;
+					assertEquals(42, b);
+				}
+		);
+		assertEquals(1, rightCount[0]);
+	}
+
+	@Test
+	void testPeekOnLeft() {
+		EitherInt<String> leftValue = EitherInt.left("foo");
+		final int[] leftCount = {0};
+		EitherInt<String> res = leftValue.peek(
+				a -> leftCount[0]++,
+				b -> fail("unexpected Right")
+		);
+		assertEquals(1, leftCount[0]);
+		assertSame(leftValue, res);
+	}
+
+	@Test
+	void testPeekOnRight() {
+		EitherInt<String> rightValue = EitherInt.right(42);
+		final int[] rightCount = {0};
+		EitherInt<String> res = rightValue.peek(
+				a -> fail("unexpected Left"),
+				b -> rightCount[0]++
+		);
+		assertEquals(1, rightCount[0]);
+		assertSame(rightValue, res);
+	}
+
+	@Test
+	void testThatConversionToEitherWorks() {
+		assertEquals(Either.left("foo"), EitherInt.left("foo").toEither());
+		assertEquals(Either.right(42), EitherInt.<String>right(42).toEither());
+	}
+
+	@Test
+	void testThatConversionFromEitherWorks() {
+		assertEquals(EitherInt.left("foo"), EitherInt.fromEither(Either.<String, Integer>left("foo")));
+		assertEquals(EitherInt.right(42), EitherInt.fromEither(Either.<String, Integer>right(42)));
+	}
+
+	@Test
+	void testThatConversionFromEitherWithNullRightThrows() {
+		assertThrows(NullPointerException.class, () -> EitherInt.fromEither(Either.<String, Integer>right(null)));
+	}
+
+	@Test
+	void testThatEqualsWorks() {
+		assertEquals(EitherInt.left("foo"), EitherInt.left("foo"));
+		assertEquals(EitherInt.left(null), EitherInt.left(null));
+		assertEquals(EitherInt.right(42), EitherInt.right(42));
+		assertEquals(EitherInt.right(42).hashCode(), EitherInt.right(42).hashCode());
+		assertNotEquals(EitherInt.right(42), EitherInt.right(43));
+		assertNotEquals(EitherInt.left("foo"), EitherInt.left("bar"));
+		assertNotEquals(EitherInt.left(42), EitherInt.right(42));
+		assertNotEquals(Either.right(42), EitherInt.right(42));
+	}
+
+	@Test
+	void testThatRightCanBeSerialized() throws IOException, ClassNotFoundException {
+		ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+		ObjectOutputStream output = new ObjectOutputStream(byteStream);
+		output.writeObject(EitherInt.right(42));
+		output.flush();
+		ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(byteStream.toByteArray()));
+		assertEquals(EitherInt.right(42), input.readObject());
+	}
+}
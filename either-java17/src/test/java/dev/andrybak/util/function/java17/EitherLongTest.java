@@ -0,0 +1,139 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java17;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class EitherLongTest {
+	@Test
+	void testThatLeftCanBeConstructed() {
+		EitherLong<String> leftValue = EitherLong.left("Left value");
+		assertEquals(LongLeft.class, leftValue.getClass());
+	}
+
+	@Test
+	void testThatRightCanBeConstructed() {
+		EitherLong<String> rightValue = EitherLong.right(42L);
+		assertEquals(LongRight.class, rightValue.getClass());
+	}
+
+	@Test
+	void testThatLeftCanBeMatched() {
+		EitherLong<String> leftValue = EitherLong.left("bar");
+		assertEquals("foobar", leftValue.match(
+				a -> "foo" + a,
+				b -> "Right value " + b
+		));
+	}
+
+	@Test
+	void testThatRightCanBeMatched() {
+		EitherLong<String> rightValue = EitherLong.right(42L);
+		assertEquals("Right value " + 42L, rightValue.match(
+				a -> "foo" + a,
+				b -> "Right value " + b
+		));
+	}
+
+	@Test
+	void testAcceptOnLeft() {
+		EitherLong<String> leftValue = EitherLong.left("foo");
+		final int[] leftCount = {0};
+		leftValue.accept(
+				a -> {
+					leftCount[0]++;
+					assertEquals("foo", a);
+				},
+				b -> fail("unexpected Right")
+		);
+		assertEquals(1, leftCount[0]);
+	}
+
+	@Test
+	void testAcceptOnRight() {
+		EitherLong<String> rightValue = EitherLong.right(42L);
+		final int[] rightCount = {0};
+		rightValue.accept(
+				a -> fail("unexpected Left"),
+				b -> {
+					rightCount[0]++;
+					assertEquals(42L, b);
+				}
+		);
+		assertEquals(1, rightCount[0]);
+	}
+
+	@Test
+	void testPeekOnLeft() {
+		EitherLong<String> leftValue = EitherLong.left("foo");
+		final int[] leftCount = {0};
+		EitherLong<String> res = leftValue.peek(
+				a -> leftCount[0]++,
+				b -> fail("unexpected Right")
+		);
+		assertEquals(1, leftCount[0]);
+		assertSame(leftValue, res);
+	}
+
+	@Test
+	void testPeekOnRight() {
+		EitherLong<String> rightValue = EitherLong.right(42L);
+		final int[] rightCount = {0};
+		EitherLong<String> res = rightValue.peek(
+				a -> fail("unexpected Left"),
+				b -> rightCount[0]++
+		);
+		assertEquals(1, rightCount[0]);
+		assertSame(rightValue, res);
+	}
+
+	@Test
+	void testThatConversionToEitherWorks() {
+		assertEquals(Either.left("foo"), EitherLong.left("foo").toEither());
+		assertEquals(Either.right(42L), EitherLong.<String>right(42L).toEither());
+	}
+
+	@Test
+	void testThatConversionFromEitherWorks() {
+		assertEquals(EitherLong.left("foo"), EitherLong.fromEither(Either.<String, Long>left("foo")));
+		assertEquals(EitherLong.right(42L), EitherLong.fromEither(Either.<String, Long>right(42L)));
+	}
+
+	@Test
+	void testThatConversionFromEitherWithNullRightThrows() {
+		assertThrows(NullPointerException.class, () -> EitherLong.fromEither(Either.<String, Long>right(null)));
+	}
+
+	@Test
+	void testThatEqualsWorks() {
+		assertEquals(EitherLong.left("foo"), EitherLong.left("foo"));
+		assertEquals(EitherLong.left(null), EitherLong.left(null));
+		assertEquals(EitherLong.right(42L), EitherLong.right(42L));
+		assertEquals(EitherLong.right(42L).hashCode(), EitherLong.right(42L).hashCode());
+		assertNotEquals(EitherLong.right(42L), EitherLong.right(43L));
+		assertNotEquals(EitherLong.left("foo"), EitherLong.left("bar"));
+		assertNotEquals(EitherLong.left(42L), EitherLong.right(42L));
+		assertNotEquals(Either.right(42L), EitherLong.right(42L));
+	}
+
+	@Test
+	void testThatRightCanBeSerialized() throws IOException, ClassNotFoundException {
+		ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+		ObjectOutputStream output = new ObjectOutputStream(byteStream);
+		output.writeObject(EitherLong.right(42L));
+		output.flush();
+		ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(byteStream.toByteArray()));
+		assertEquals(EitherLong.right(42L), input.readObject());
+	}
+}
@@ -11,7 +11,10 @@
 import java.io.ObjectOutputStream;
 import java.util.function.Function;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class EitherSerializationTest {
@@ -38,6 +41,19 @@ private static void testSerializationRoundTrip(Either<String, Integer> original,
 		}
 	}
 
+	private static Object serializeAndDeserialize(Object original) {
+		try {
+			ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+			ObjectOutputStream output = new ObjectOutputStream(byteStream);
+			output.writeObject(original);
+			output.flush();
+			ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(byteStream.toByteArray()));
+			return input.readObject();
+		} catch (IOException | ClassNotFoundException e) {
+			throw new AssertionError(e);
+		}
+	}
+
 	private static <A, B> void testNonSerializable(Either<A, B> original) {
 		assertThrows(NotSerializableException.class, () -> {
 			ObjectOutputStream output = new ObjectOutputStream(new ByteArrayOutputStream());
@@ -68,6 +84,28 @@ void testThatRightCanBeSerialized() {
 		);
 	}
 
+	@Test
+	void testThatSharedInstancesAreResolvedAfterDeserialization() {
+		assertAll(
+				() -> assertSame(Either.leftNull(), serializeAndDeserialize(Either.leftNull())),
+				() -> assertSame(Either.rightNull(), serializeAndDeserialize(Either.rightNull())),
+				() -> assertSame(Either.leftNull(), serializeAndDeserialize(Either.left(null))),
+				() -> assertSame(Either.rightBoolean(true), serializeAndDeserialize(Either.right(true))),
+				() -> assertSame(Either.leftBoolean(false), serializeAndDeserialize(Either.leftBoolean(false))),
+				() -> assertSame(Either.rightInteger(42), serializeAndDeserialize(Either.right(42))),
+				() -> assertSame(Either.leftInteger(-128), serializeAndDeserialize(Either.left(-128)))
+		);
+	}
+
+	@Test
+	void testThatOtherValuesAreNotResolvedToSharedInstances() {
+		Either<String, Integer> rightValue = Either.right(1000);
+		Object deserialized = serializeAndDeserialize(rightValue);
+		assertEquals(rightValue, deserialized);
+		assertNotSame(rightValue, deserialized);
+		assertEquals(Either.left("foo"), serializeAndDeserialize(Either.left("foo")));
+	}
+
 	@Test
 	void testThatNonSerializableLeftThrows() {
 		Either<NonSerializable, String> leftValue = Either.left(new NonSerializable(42, "foo"));
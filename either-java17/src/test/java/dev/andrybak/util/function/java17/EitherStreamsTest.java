@@ -4,10 +4,15 @@
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class EitherStreamsTest {
 	@Test
@@ -65,4 +70,100 @@ void testThatRightsAcceptsStreamsOfSubclass() {
 		List<Number> actual = rights.collect(toList());
 		assertEquals(List.of(0, 1, 2), actual);
 	}
-}
\ No newline at end of file
+
+	@Test
+	void testThatLeftsOfParallelStreamKeepsOrder() {
+		List<Integer> actual = EitherStreams.lefts(IntStream.range(0, 10_000)
+				.parallel()
+				.mapToObj(i -> i % 3 == 0 ? Either.<Integer, Integer>left(i) : Either.<Integer, Integer>right(i))
+		).toList();
+		assertEquals(IntStream.range(0, 10_000).filter(i -> i % 3 == 0).boxed().toList(), actual);
+	}
+
+	@Test
+	void testThatRightsOfParallelStreamKeepsOrder() {
+		List<Integer> actual = EitherStreams.rights(IntStream.range(0, 10_000)
+				.parallel()
+				.mapToObj(i -> i % 3 == 0 ? Either.<Integer, Integer>left(i) : Either.<Integer, Integer>right(i))
+		).toList();
+		assertEquals(IntStream.range(0, 10_000).filter(i -> i % 3 != 0).boxed().toList(), actual);
+	}
+
+	@Test
+	void testThatLeftsIsLazy() {
+		Stream<Either<Integer, Integer>> infinite = Stream.iterate(0, i -> i + 1)
+				.map(i -> i % 2 == 0 ? Either.left(i) : Either.right(i));
+		assertEquals(Optional.of(4), EitherStreams.lefts(infinite).skip(2).findFirst());
+	}
+
+	@Test
+	void testThatRightsIsLazy() {
+		Stream<Either<Integer, Integer>> infinite = Stream.iterate(0, i -> i + 1)
+				.map(i -> i % 2 == 0 ? Either.left(i) : Either.right(i));
+		assertEquals(Optional.of(5), EitherStreams.rights(infinite).skip(2).findFirst());
+	}
+
+	@Test
+	void testThatClosingProjectionClosesSource() {
+		AtomicBoolean closed = new AtomicBoolean();
+		Stream<Either<String, Integer>> input = Stream.<Either<String, Integer>>of(Either.left("foo"))
+				.onClose(() -> closed.set(true));
+		try (Stream<String> lefts = EitherStreams.lefts(input)) {
+			assertEquals(1, lefts.count());
+		}
+		assertTrue(closed.get());
+	}
+
+	@Test
+	void testThatSequenceOfRightsWorks() {
+		Stream<Either<String, Integer>> input = Stream.of(Either.right(0), Either.right(1), Either.right(2));
+		assertEquals(Either.right(List.of(0, 1, 2)), EitherStreams.sequence(input));
+	}
+
+	@Test
+	void testThatSequenceOfEmptyStreamWorks() {
+		assertEquals(Either.right(List.of()), EitherStreams.sequence(Stream.empty()));
+	}
+
+	@Test
+	void testThatSequenceReturnsFirstLeft() {
+		Stream<Either<String, Integer>> input = Stream.of(
+				Either.right(0),
+				Either.left("foo"),
+				Either.right(1),
+				Either.left("bar")
+		);
+		assertEquals(Either.left("foo"), EitherStreams.sequence(input));
+	}
+
+	@Test
+	void testThatSequenceStopsAtFirstLeft() {
+		Stream<Either<Integer, Integer>> infinite = Stream.iterate(0, i -> i + 1)
+				.map(i -> i < 3 ? Either.right(i) : Either.left(i));
+		assertEquals(Either.left(3), EitherStreams.sequence(infinite));
+	}
+
+	@Test
+	void testThatTraverseDoesNotApplyFunctionAfterFirstLeft() {
+		AtomicInteger applied = new AtomicInteger();
+		AtomicInteger pulled = new AtomicInteger();
+		Stream<Integer> input = IntStream.range(0, 100).boxed().peek(i -> pulled.incrementAndGet());
+		Either<String, List<Integer>> actual = EitherStreams.traverse(input, i -> {
+			applied.incrementAndGet();
+			return i == 10 ? Either.left("ten") : Either.right(i);
+		});
+		assertEquals(Either.left("ten"), actual);
+		assertEquals(11, applied.get());
+		assertEquals(11, pulled.get());
+	}
+
+	@Test
+	void testThatTraverseOfParallelStreamKeepsOrder() {
+		Either<String, List<Integer>> actual = EitherStreams.traverse(
+				IntStream.range(0, 10_000).boxed().parallel(),
+				i -> Either.right(i * 2)
+		);
+		List<Integer> expected = IntStream.range(0, 10_000).map(i -> i * 2).boxed().toList();
+		assertEquals(Either.right(expected), actual);
+	}
+}
@@ -0,0 +1,33 @@
+// SPDX-License-Identifier: MIT
+plugins {
+	id("either-jvm-build.java-library-conventions")
+	id("either-jvm-build.license-check")
+	id("either-jvm-build.maven-publish-conventions")
+	id("me.champeau.jmh") version "0.7.2"
+}
+
+version = "0.3-SNAPSHOT"
+description = "Type Either for Java 21+"
+
+java {
+	toolchain {
+		languageVersion.set(JavaLanguageVersion.of(21))
+	}
+}
+
+dependencies {
+	testImplementation(platform(libs.junitBom))
+	testImplementation(libs.junitApi)
+	testImplementation(libs.junitParams)
+	testRuntimeOnly(libs.junitJupiter)
+}
+
+/*
+ * Benchmarks of this module live here instead of in `either-benchmarks`, because Kotlin 1.8 used there can't
+ * target Java 21.
+ */
+jmh {
+	jmhVersion.set(libs.versions.jmh)
+	profilers.add("gc")
+	resultFormat.set("JSON")
+}
@@ -0,0 +1,101 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java21;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares dispatch on {@link Either} via {@code switch} with record patterns with dispatch via
+ * {@link Either#match(Function, Function)}, both with non-capturing lambdas and with lambdas, which capture a
+ * local variable and are allocated on every call, unless escape analysis removes them.
+ * <p>
+ * {@link #leftPercentage} controls the mix of {@link Left} and {@link Right} values, which are shuffled, so that
+ * values {@code 0} and {@code 100} produce monomorphic call sites, and other values bimorphic ones.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SwitchDispatchBenchmark {
+	@Param("1024")
+	public int size;
+
+	@Param({"0", "50", "100"})
+	public int leftPercentage;
+
+	private Either<String, Integer>[] values;
+	private int offset;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		SplittableRandom random = new SplittableRandom(42);
+		values = new Either[size];
+		for (int i = 0; i < size; i++) {
+			if (random.nextInt(100) < leftPercentage) {
+				values[i] = Either.left("left-" + i);
+			} else {
+				values[i] = Either.right(1000 + i);
+			}
+		}
+		offset = 1000;
+	}
+
+	@Benchmark
+	public long switchPatterns() {
+		int offset = this.offset;
+		long sum = 0;
+		for (Either<String, Integer> e : values) {
+			sum += switch (e) {
+				case Left(var a) -> a.length() + offset;
+				case Right(var b) -> b - offset;
+			};
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long matchNonCapturing() {
+		long sum = 0;
+		for (Either<String, Integer> e : values) {
+			sum += e.matchLong(a -> a.length() + 1000, b -> b - 1000);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long matchCapturing() {
+		int offset = this.offset;
+		long sum = 0;
+		for (Either<String, Integer> e : values) {
+			sum += e.matchLong(a -> a.length() + offset, b -> b - offset);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long matchBoxed() {
+		int offset = this.offset;
+		long sum = 0;
+		for (Either<String, Integer> e : values) {
+			sum += e.<Integer>match(a -> a.length() + offset, b -> b - offset);
+		}
+		return sum;
+	}
+}
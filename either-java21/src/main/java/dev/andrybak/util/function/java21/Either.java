@@ -0,0 +1,465 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java21;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Implementation of functional programming abstraction {@code Either} for Java 21 and later versions.
+ * <p>
+ * Objects of type {@code Either<A, B>} represent values with two possibilities: they contain either a value
+ * of type {@code A} ({@link Left} alternative) or of type {@code B} ({@link Right} alternative).
+ * This type is often used to represent a result of an operation that may result in an error,
+ * for example, {@code Either<Exception, Result>}.
+ * </p>
+ * <p>
+ * The most basic and most important part of API of this class is instance method {@link #match(Function, Function)}.
+ * It allows to structurally pattern match on the left and right alternatives and to access the values stored in
+ * objects of type {@code Either}.
+ * </p>
+ * <p>
+ * Records {@link Left} and {@link Right} are public, so that values of type {@code Either} can also be matched by
+ * {@code switch} with record patterns (<a href="https://openjdk.org/jeps/440">JEP 440</a> and
+ * <a href="https://openjdk.org/jeps/441">JEP 441</a>).  The compiler checks that such {@code switch} is
+ * exhaustive.  Unlike {@link #match(Function, Function)}, it doesn't need lambdas, which may capture variables:
+ * </p>
+ * <pre>{@code
+ * String message = switch (result) {
+ *     case Left(var error) -> "Failed " + request + ": " + error;
+ *     case Right(var value) -> "Got " + value;
+ * };
+ * }</pre>
+ * <p>
+ * If both types {@code A} and {@code B} are {@link Serializable} then {@code Either<A, B>} can be serialized.
+ * </p>
+ * <p>
+ * Values, which are always the same, such as {@code null} or {@link Boolean#TRUE}, can be wrapped into an
+ * {@code Either} without allocation using shared instances, for example, {@link #rightNull()} or
+ * {@link #rightBoolean(boolean)}.  Deserialization of such values returns the shared instances.
+ * </p>
+ * <p>
+ * Inspired by
+ * <a href="https://hackage.haskell.org/package/base/docs/Data-Either.html">Haskell's type {@code Either}</a>.
+ * </p>
+ *
+ * @param <A> type for {@link Left}
+ * @param <B> type for {@link Right}
+ */
+public sealed interface Either<A, B> extends Serializable permits Left, Right {
+	/**
+	 * Returns a {@link Left} containing given value of type {@code A}.
+	 *
+	 * @param <A> type for returned {@link Left}
+	 * @param <B> type for corresponding {@link Right}
+	 * @param a   value to be stored in the returned {@link Left}
+	 * @return a {@link Left} with the given value
+	 */
+	static <A, B> Either<A, B> left(A a) {
+		return new Left<>(a);
+	}
+
+	/**
+	 * Returns a {@link Right} containing given value of type {@code B}.
+	 *
+	 * @param <A> type for corresponding {@link Left}
+	 * @param <B> type for returned {@link Right}
+	 * @param b   value to be stored in the returned {@link Right}
+	 * @return a {@link Right} with the given value
+	 */
+	static <A, B> Either<A, B> right(B b) {
+		return new Right<>(b);
+	}
+
+	/**
+	 * Returns a shared instance of {@link Left} containing {@code null}.
+	 *
+	 * @param <A> type for returned {@link Left}
+	 * @param <B> type for corresponding {@link Right}
+	 * @return a {@link Left} with {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	static <A, B> Either<A, B> leftNull() {
+		return (Either<A, B>) Left.NULL;
+	}
+
+	/**
+	 * Returns a shared instance of {@link Right} containing {@code null}.  This is useful for operations which
+	 * don't produce a result in case of success, for example, {@code Either<Exception, Void>}.
+	 *
+	 * @param <A> type for corresponding {@link Left}
+	 * @param <B> type for returned {@link Right}
+	 * @return a {@link Right} with {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	static <A, B> Either<A, B> rightNull() {
+		return (Either<A, B>) Right.NULL;
+	}
+
+	/**
+	 * Returns a shared instance of {@link Left} containing given boolean value.
+	 *
+	 * @param <B> type for corresponding {@link Right}
+	 * @param a   value to be stored in the returned {@link Left}
+	 * @return a {@link Left} with the given value
+	 */
+	@SuppressWarnings("unchecked")
+	static <B> Either<Boolean, B> leftBoolean(boolean a) {
+		return (Either<Boolean, B>) (a ? Left.TRUE : Left.FALSE);
+	}
+
+	/**
+	 * Returns a shared instance of {@link Right} containing given boolean value.
+	 *
+	 * @param <A> type for corresponding {@link Left}
+	 * @param b   value to be stored in the returned {@link Right}
+	 * @return a {@link Right} with the given value
+	 */
+	@SuppressWarnings("unchecked")
+	static <A> Either<A, Boolean> rightBoolean(boolean b) {
+		return (Either<A, Boolean>) (b ? Right.TRUE : Right.FALSE);
+	}
+
+	/**
+	 * Returns a {@link Left} containing given integer value.  For values in range from {@code -128} to {@code 127},
+	 * inclusive, the same as in {@link Integer#valueOf(int)}, returned instances are shared.
+	 *
+	 * @param <B> type for corresponding {@link Right}
+	 * @param a   value to be stored in the returned {@link Left}
+	 * @return a {@link Left} with the given value
+	 */
+	@SuppressWarnings("unchecked")
+	static <B> Either<Integer, B> leftInteger(int a) {
+		return (Either<Integer, B>) Left.ofInteger(a);
+	}
+
+	/**
+	 * Returns a {@link Right} containing given integer value.  For values in range from {@code -128} to
+	 * {@code 127}, inclusive, the same as in {@link Integer#valueOf(int)}, returned instances are shared.
+	 *
+	 * @param <A> type for corresponding {@link Left}
+	 * @param b   value to be stored in the returned {@link Right}
+	 * @return a {@link Right} with the given value
+	 */
+	@SuppressWarnings("unchecked")
+	static <A> Either<A, Integer> rightInteger(int b) {
+		return (Either<A, Integer>) Right.ofInteger(b);
+	}
+
+	/**
+	 * Returns a shared instance of {@link Left} containing {@link Optional#empty()}.
+	 *
+	 * @param <T> type of the value of the {@link Optional} in the returned {@link Left}
+	 * @param <B> type for corresponding {@link Right}
+	 * @return a {@link Left} with an empty {@link Optional}
+	 */
+	@SuppressWarnings("unchecked")
+	static <T, B> Either<Optional<T>, B> leftEmpty() {
+		return (Either<Optional<T>, B>) Left.EMPTY;
+	}
+
+	/**
+	 * Returns a shared instance of {@link Right} containing {@link Optional#empty()}.
+	 *
+	 * @param <A> type for corresponding {@link Left}
+	 * @param <T> type of the value of the {@link Optional} in the returned {@link Right}
+	 * @return a {@link Right} with an empty {@link Optional}
+	 */
+	@SuppressWarnings("unchecked")
+	static <A, T> Either<A, Optional<T>> rightEmpty() {
+		return (Either<A, Optional<T>>) Right.EMPTY;
+	}
+
+	/**
+	 * Converts two functions, one which takes {@code A} and returns {@code C} and another which takes {@code B} and
+	 * returns {@code C}, into a {@link Function} that takes an {@code Either<A, B>} and returns {@code C}.
+	 * This can be useful for usage with {@link java.util.stream.Stream} API.
+	 * <p>
+	 * Implementation of
+	 * <a href="https://hackage.haskell.org/package/base/docs/Data-Either.html#v:either">Haskell function
+	 * {@code either}</a> in Java.
+	 *
+	 * @param f   function to apply to a value of {@link Left}
+	 * @param g   function to apply to a value of {@link Right}
+	 * @param <A> type for {@link Left}
+	 * @param <B> type for {@link Right}
+	 * @param <C> return type of functions
+	 * @return function which takes an {@link Either} and returns result of applying one of the given functions
+	 * corresponding to the type of given {@link Either}.
+	 */
+	static <A, B, C> Function<Either<? extends A, ? extends B>, C> either(
+			Function<? super A, ? extends C> f,
+			Function<? super B, ? extends C> g)
+	{
+		return e -> e.match(f, g);
+	}
+
+	/**
+	 * If given {@link Either} is {@link Left Left}, returns result of applying the first given function to its value.
+	 * If given {@link Either} is {@link Right Right}, returns result of applying the second given function to its
+	 * value.
+	 *
+	 * @param f   function to apply to a value of {@link Left}
+	 * @param g   function to apply to a value of {@link Right}
+	 * @param e   an {@link Either} to apply the given functions to
+	 * @param <A> type for {@link Left}
+	 * @param <B> type for {@link Right}
+	 * @param <C> return type of functions
+	 * @return result of applying one of the given functions to given {@link Either} value.
+	 * @implNote second implementation of function {@code either} is needed because Java doesn't support partial
+	 * application of functions.
+	 */
+	static <A, B, C> C either(
+			Function<? super A, ? extends C> f,
+			Function<? super B, ? extends C> g,
+			Either<? extends A, ? extends B> e)
+	{
+		return e.match(f, g);
+	}
+
+	/**
+	 * Calls the given supplier and returns its result as a {@link Right}, or the exception, which it has thrown, as
+	 * a {@link Left}.  Instances of {@link Error} are not caught.
+	 * <p>
+	 * Example:
+	 * <pre>{@code
+	 * Either<Exception, Config> config = Either.catching(() -> Config.parse(path));
+	 * }</pre>
+	 * <p>
+	 * If an {@link InterruptedException} is caught, the interrupt status of the current thread is restored, so
+	 * that the interruption isn't lost.
+	 *
+	 * @param supplier supplier to call
+	 * @param <B>      type for {@link Right}
+	 * @return a {@link Right} with the result of the supplier or a {@link Left} with the exception
+	 */
+	static <B> Either<Exception, B> catching(ThrowingSupplier<? extends B> supplier) {
+		try {
+			return right(supplier.get());
+		} catch (Exception e) {
+			if (e instanceof InterruptedException) {
+				Thread.currentThread().interrupt();
+			}
+			return left(e);
+		}
+	}
+
+	/**
+	 * Converts a function, which may throw exceptions, into a {@link Function}, which returns its result as a
+	 * {@link Right}, or the exception, which it has thrown, as a {@link Left}.  Instances of {@link Error} are not
+	 * caught.
+	 * <p>
+	 * Example:
+	 * <pre>{@code
+	 * List<Either<Exception, Config>> configs = paths.stream()
+	 *     .map(Either.catching(Config::parse))
+	 *     .collect(Collectors.toList());
+	 * }</pre>
+	 * <p>
+	 * If an {@link InterruptedException} is caught, the interrupt status of the current thread is restored, so
+	 * that the interruption isn't lost.
+	 *
+	 * @param f   function to convert
+	 * @param <T> type of the argument of the function
+	 * @param <B> type for {@link Right}
+	 * @return a function, which catches exceptions of the given function
+	 * @see #catching(ThrowingSupplier)
+	 */
+	static <T, B> Function<T, Either<Exception, B>> catching(ThrowingFunction<? super T, ? extends B> f) {
+		Objects.requireNonNull(f, "f");
+		return t -> {
+			try {
+				return right(f.apply(t));
+			} catch (Exception e) {
+				if (e instanceof InterruptedException) {
+					Thread.currentThread().interrupt();
+				}
+				return left(e);
+			}
+		};
+	}
+
+	/**
+	 * Pattern matches on this {@link Either} and returns result of applying the corresponding function.
+	 *
+	 * @param f   function to apply to a value of {@link Left}
+	 * @param g   function to apply to a value of {@link Right}
+	 * @param <R> return type of functions
+	 * @return result of applying one of the functions to this {@link Either}
+	 */
+	<R> R match(Function<? super A, ? extends R> f, Function<? super B, ? extends R> g);
+
+	/**
+	 * Pattern matches on this {@link Either} and returns result of applying the corresponding function.  Unlike
+	 * {@link #match(Function, Function)}, the result is not boxed.
+	 *
+	 * @param f function to apply to a value of {@link Left}
+	 * @param g function to apply to a value of {@link Right}
+	 * @return result of applying one of the functions to this {@link Either}
+	 */
+	int matchInt(ToIntFunction<? super A> f, ToIntFunction<? super B> g);
+
+	/**
+	 * Pattern matches on this {@link Either} and returns result of applying the corresponding function.  Unlike
+	 * {@link #match(Function, Function)}, the result is not boxed.
+	 *
+	 * @param f function to apply to a value of {@link Left}
+	 * @param g function to apply to a value of {@link Right}
+	 * @return result of applying one of the functions to this {@link Either}
+	 */
+	long matchLong(ToLongFunction<? super A> f, ToLongFunction<? super B> g);
+
+	/**
+	 * Pattern matches on this {@link Either} and returns result of applying the corresponding function.  Unlike
+	 * {@link #match(Function, Function)}, the result is not boxed.
+	 *
+	 * @param f function to apply to a value of {@link Left}
+	 * @param g function to apply to a value of {@link Right}
+	 * @return result of applying one of the functions to this {@link Either}
+	 */
+	double matchDouble(ToDoubleFunction<? super A> f, ToDoubleFunction<? super B> g);
+
+	/**
+	 * Pattern matches on this {@link Either} and returns result of applying the corresponding predicate.  Unlike
+	 * {@link #match(Function, Function)}, the result is not boxed.
+	 *
+	 * @param f predicate to apply to a value of {@link Left}
+	 * @param g predicate to apply to a value of {@link Right}
+	 * @return result of applying one of the predicates to this {@link Either}
+	 */
+	boolean matchBoolean(Predicate<? super A> f, Predicate<? super B> g);
+
+	/**
+	 * If this {@link Either} is {@link Left Left}, performs the first given action with its value.
+	 * If this {@link Either} is {@link Right Right}, performs the second given action with its value.
+	 *
+	 * @param f consumer to apply to a value of {@link Left}
+	 * @param g consumer to apply to a value of {@link Right}
+	 */
+	void accept(Consumer<? super A> f, Consumer<? super B> g);
+
+	/**
+	 * If this {@link Either} is {@link Left Left}, performs the first given action with its value and returns this
+	 * {@link Either}. If this {@link Either} is a {@link Right Right}, performs the second given action with its
+	 * value and returns this {@link Either}.
+	 * <p>
+	 * This method is useful for adding logging or debugging statements in the middle of invocation of method
+	 * {@link #match(Function, Function)}:
+	 *
+	 * <pre>{@code
+	 * return getEither()
+	 *     .peek(a -> System.out.println("Got left " + a), b -> System.out.println("Got right " + b));
+	 *     .match(...);
+	 * }</pre>
+	 *
+	 * @param f consumer to apply to {@link Left}
+	 * @param g consumer to apply to {@link Right}
+	 * @return this {@link Either}
+	 */
+	Either<A, B> peek(Consumer<? super A> f, Consumer<? super B> g);
+
+	/**
+	 * If this {@link Either} is {@link Right Right}, returns a {@link Right Right} with the result of applying the
+	 * given function to its value.  If this {@link Either} is {@link Left Left}, returns this {@link Either}
+	 * without allocating a new object.
+	 *
+	 * @param g   function to apply to a value of {@link Right}
+	 * @param <C> new type for {@link Right}
+	 * @return an {@link Either} with the mapped {@link Right} value
+	 */
+	<C> Either<A, C> map(Function<? super B, ? extends C> g);
+
+	/**
+	 * If this {@link Either} is {@link Left Left}, returns a {@link Left Left} with the result of applying the
+	 * given function to its value.  If this {@link Either} is {@link Right Right}, returns this {@link Either}
+	 * without allocating a new object.
+	 *
+	 * @param f   function to apply to a value of {@link Left}
+	 * @param <C> new type for {@link Left}
+	 * @return an {@link Either} with the mapped {@link Left} value
+	 */
+	<C> Either<C, B> mapLeft(Function<? super A, ? extends C> f);
+
+	/**
+	 * Returns an {@link Either} of the same alternative as this one, with the result of applying the corresponding
+	 * function to its value.
+	 *
+	 * @param f   function to apply to a value of {@link Left}
+	 * @param g   function to apply to a value of {@link Right}
+	 * @param <C> new type for {@link Left}
+	 * @param <D> new type for {@link Right}
+	 * @return an {@link Either} with the mapped value
+	 */
+	<C, D> Either<C, D> bimap(Function<? super A, ? extends C> f, Function<? super B, ? extends D> g);
+
+	/**
+	 * If this {@link Either} is {@link Right Right}, returns the result of applying the given function to its
+	 * value.  If this {@link Either} is {@link Left Left}, returns this {@link Either} without allocating a new
+	 * object.
+	 * <p>
+	 * Example:
+	 * <pre>{@code
+	 * Either<Error, Response> response = parseRequest(input)
+	 *     .flatMap(this::validate)
+	 *     .flatMap(this::handle);
+	 * }</pre>
+	 *
+	 * @param g   function to apply to a value of {@link Right}
+	 * @param <C> new type for {@link Right}
+	 * @return the result of the function or this {@link Left}
+	 */
+	<C> Either<A, C> flatMap(Function<? super B, ? extends Either<? extends A, ? extends C>> g);
+
+	/**
+	 * If this {@link Either} is {@link Left Left}, returns the result of applying the given function to its value.
+	 * If this {@link Either} is {@link Right Right}, returns this {@link Either} without allocating a new object.
+	 * This is useful to recover from some of the errors.
+	 *
+	 * @param f   function to apply to a value of {@link Left}
+	 * @param <C> new type for {@link Left}
+	 * @return the result of the function or this {@link Right}
+	 */
+	<C> Either<C, B> flatMapLeft(Function<? super A, ? extends Either<? extends C, ? extends B>> f);
+
+	/**
+	 * A supplier of results, which may throw an exception.
+	 *
+	 * @param <B> type of results
+	 * @see #catching(ThrowingSupplier)
+	 */
+	@FunctionalInterface
+	interface ThrowingSupplier<B> {
+		/**
+		 * Gets a result.
+		 *
+		 * @return a result
+		 * @throws Exception if the result can't be produced
+		 */
+		B get() throws Exception;
+	}
+
+	/**
+	 * A function, which may throw an exception.
+	 *
+	 * @param <T> type of the argument
+	 * @param <B> type of the result
+	 * @see #catching(ThrowingFunction)
+	 */
+	@FunctionalInterface
+	interface ThrowingFunction<T, B> {
+		/**
+		 * Applies this function to the given argument.
+		 *
+		 * @param t the argument
+		 * @return the result
+		 * @throws Exception if the result can't be produced
+		 */
+		B apply(T t) throws Exception;
+	}
+}
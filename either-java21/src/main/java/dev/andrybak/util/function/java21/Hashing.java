@@ -0,0 +1,49 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java21;
+
+/**
+ * Hash function of the left and right alternatives.
+ * <p>
+ * Hash code of the value is combined with a seed, which differs between the alternatives, and then mixed with the
+ * finalizer of MurmurHash3.  The finalizer is a bijection with good avalanche behavior, so the left and the right
+ * alternative of the same value, including {@code null}, get different hash codes, and all bits of the hash code of
+ * the value affect the low bits, which are used to pick buckets of hash tables.  All modules of the library use the
+ * same function, so that hash codes don't depend on the module.
+ */
+final class Hashing {
+	private static final int LEFT_SEED = 0x6A09E667;
+	private static final int RIGHT_SEED = 0xBB67AE85;
+
+	private Hashing() {
+		throw new AssertionError();
+	}
+
+	/**
+	 * Returns hash code of the left alternative, which contains a value with the given hash code.
+	 *
+	 * @param h hash code of the value
+	 * @return hash code of the left alternative
+	 */
+	static int left(int h) {
+		return mix(h ^ LEFT_SEED);
+	}
+
+	/**
+	 * Returns hash code of the right alternative, which contains a value with the given hash code.
+	 *
+	 * @param h hash code of the value
+	 * @return hash code of the right alternative
+	 */
+	static int right(int h) {
+		return mix(h ^ RIGHT_SEED);
+	}
+
+	private static int mix(int h) {
+		h ^= h >>> 16;
+		h *= 0x85EBCA6B;
+		h ^= h >>> 13;
+		h *= 0xC2B2AE35;
+		h ^= h >>> 16;
+		return h;
+	}
+}
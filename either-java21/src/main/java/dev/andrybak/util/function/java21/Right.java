@@ -0,0 +1,133 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java21;
+
+import java.io.Serial;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Right alternative of the {@link Either Either&lt;A, B&gt;} type, containing a value of type {@code B}.
+ *
+ * @param <A> type of the value in the corresponding {@link Left}
+ * @param <B> type of the value in this {@link Right}
+ * @param b   the {@code B} value stored in this {@link Left}
+ */
+public record Right<A, B>(B b) implements Either<A, B> {
+	static final Right<?, ?> NULL = new Right<>(null);
+	static final Right<?, ?> TRUE = new Right<>(Boolean.TRUE);
+	static final Right<?, ?> FALSE = new Right<>(Boolean.FALSE);
+	static final Right<?, ?> EMPTY = new Right<>(Optional.empty());
+	/**
+	 * Shared instances for integer values in range of {@code byte}.
+	 */
+	private static final Right<?, ?>[] INTEGERS = new Right<?, ?>[1 << Byte.SIZE];
+
+	static {
+		for (int i = 0; i < INTEGERS.length; i++) {
+			INTEGERS[i] = new Right<>(Byte.MIN_VALUE + i);
+		}
+	}
+
+	static Right<?, ?> ofInteger(int b) {
+		if (b == (byte) b) {
+			return INTEGERS[b - Byte.MIN_VALUE];
+		}
+		return new Right<>(b);
+	}
+
+	@Override
+	public <R> R match(Function<? super A, ? extends R> f, Function<? super B, ? extends R> g) {
+		return g.apply(b);
+	}
+
+	@Override
+	public int matchInt(ToIntFunction<? super A> f, ToIntFunction<? super B> g) {
+		return g.applyAsInt(b);
+	}
+
+	@Override
+	public long matchLong(ToLongFunction<? super A> f, ToLongFunction<? super B> g) {
+		return g.applyAsLong(b);
+	}
+
+	@Override
+	public double matchDouble(ToDoubleFunction<? super A> f, ToDoubleFunction<? super B> g) {
+		return g.applyAsDouble(b);
+	}
+
+	@Override
+	public boolean matchBoolean(Predicate<? super A> f, Predicate<? super B> g) {
+		return g.test(b);
+	}
+
+	@Override
+	public void accept(Consumer<? super A> f, Consumer<? super B> g) {
+		g.accept(b);
+	}
+
+	@Override
+	public Either<A, B> peek(Consumer<? super A> f, Consumer<? super B> g) {
+		g.accept(b);
+		return this;
+	}
+
+	@Override
+	public <C> Either<A, C> map(Function<? super B, ? extends C> g) {
+		return new Right<>(g.apply(b));
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <C> Either<C, B> mapLeft(Function<? super A, ? extends C> f) {
+		// a Right doesn't contain values of type A, so it's safe to reuse it
+		return (Either<C, B>) this;
+	}
+
+	@Override
+	public <C, D> Either<C, D> bimap(Function<? super A, ? extends C> f, Function<? super B, ? extends D> g) {
+		return new Right<>(g.apply(b));
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <C> Either<A, C> flatMap(Function<? super B, ? extends Either<? extends A, ? extends C>> g) {
+		// Either is immutable, so it's safe to use it with wider types
+		return (Either<A, C>) g.apply(b);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <C> Either<C, B> flatMapLeft(Function<? super A, ? extends Either<? extends C, ? extends B>> f) {
+		return (Either<C, B>) this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Hashing.right(Objects.hashCode(b));
+	}
+
+	/**
+	 * Replaces deserialized values, which are equal to one of the shared instances, with the shared instance.
+	 *
+	 * @return this {@link Right} or an equal shared instance
+	 */
+	@Serial
+	private Object readResolve() {
+		if (b == null) {
+			return NULL;
+		}
+		if (b instanceof Boolean bool) {
+			return bool ? TRUE : FALSE;
+		}
+		if (b instanceof Integer i && i == i.byteValue()) {
+			return INTEGERS[i - Byte.MIN_VALUE];
+		}
+		return this;
+	}
+}
@@ -0,0 +1,79 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java21;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EitherHashCodeTest {
+	@Test
+	void test() {
+		Map<Either<String, Integer>, String> m = new HashMap<>();
+		Either<String, Integer> leftValue = Either.left("foo");
+		Either<String, Integer> rightValue = Either.right(42);
+		assertNull(m.put(leftValue, "bar"));
+		assertNull(m.put(rightValue, "hello"));
+		assertEquals(2, m.size());
+
+		assertTrue(m.containsKey(Either.left("foo")));
+		assertTrue(m.containsKey(leftValue));
+		assertEquals("bar", m.get(Either.left("foo")));
+		assertEquals("bar", m.get(leftValue));
+		assertEquals("bar", m.remove(Either.left("foo")));
+		assertFalse(m.containsKey(leftValue));
+		assertNull(m.get(leftValue));
+
+		assertTrue(m.containsKey(Either.right(42)));
+		assertTrue(m.containsKey(rightValue));
+		assertEquals("hello", m.get(Either.right(42)));
+		assertEquals("hello", m.get(rightValue));
+		assertEquals("hello", m.put(Either.right(42), "world"));
+		assertEquals("world", m.get(Either.right(42)));
+		assertEquals("world", m.get(rightValue));
+		assertTrue(m.containsKey(Either.right(42)));
+		assertTrue(m.containsKey(rightValue));
+		assertEquals(1, m.size());
+	}
+
+	@Test
+	void testThatHashCodesAreTheSameInAllModules() {
+		assertEquals(-718376080, Either.left("foo").hashCode());
+		assertEquals(-1940526053, Either.left(42).hashCode());
+		assertEquals(-49785941, Either.right(42).hashCode());
+		assertEquals(167010153, Either.leftNull().hashCode());
+		assertEquals(-1378916746, Either.rightNull().hashCode());
+	}
+
+	@Test
+	void testThatHashCodesDependOnAlternative() {
+		assertNotEquals(Either.leftNull().hashCode(), Either.rightNull().hashCode());
+		for (int i = -1000; i < 1000; i++) {
+			assertNotEquals(Either.left(i).hashCode(), Either.right(i).hashCode());
+		}
+	}
+
+	@Test
+	void testThatLowBitsAreWellDistributed() {
+		// sequential ids are the typical keys, which have poor distribution with multiplication by a small constant
+		int buckets = 1 << 10;
+		int[] leftCounts = new int[buckets];
+		int[] rightCounts = new int[buckets];
+		for (int i = 0; i < buckets * 16; i++) {
+			leftCounts[Either.left(i * 64).hashCode() & (buckets - 1)]++;
+			rightCounts[Either.right(i * 64).hashCode() & (buckets - 1)]++;
+		}
+		for (int i = 0; i < buckets; i++) {
+			int left = leftCounts[i];
+			int right = rightCounts[i];
+			assertTrue(left > 0 && left < 48, () -> "Unbalanced left bucket: " + left);
+			assertTrue(right > 0 && right < 48, () -> "Unbalanced right bucket: " + right);
+		}
+	}
+}
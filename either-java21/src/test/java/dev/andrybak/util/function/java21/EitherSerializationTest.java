@@ -0,0 +1,123 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java21;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class EitherSerializationTest {
+	@SuppressWarnings("unchecked")
+	private static void testSerializationRoundTrip(Either<String, Integer> original, String expected,
+			Function<String, String> a, Function<Integer, String> b)
+	{
+		byte[] bytes;
+		try {
+			ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+			ObjectOutputStream output = new ObjectOutputStream(byteStream);
+			output.writeObject(original);
+			output.flush();
+			bytes = byteStream.toByteArray();
+		} catch (IOException e) {
+			throw new AssertionError(e);
+		}
+		try {
+			ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes));
+			Either<String, Integer> deserialized = (Either<String, Integer>) input.readObject();
+			assertEquals(expected, deserialized.match(a, b));
+		} catch (IOException | ClassNotFoundException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static Object serializeAndDeserialize(Object original) {
+		try {
+			ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+			ObjectOutputStream output = new ObjectOutputStream(byteStream);
+			output.writeObject(original);
+			output.flush();
+			ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(byteStream.toByteArray()));
+			return input.readObject();
+		} catch (IOException | ClassNotFoundException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static <A, B> void testNonSerializable(Either<A, B> original) {
+		assertThrows(NotSerializableException.class, () -> {
+			ObjectOutputStream output = new ObjectOutputStream(new ByteArrayOutputStream());
+			output.writeObject(original);
+		});
+	}
+
+	@Test
+	void testThatLeftCanBeSerialized() {
+		testSerializationRoundTrip(Either.left("foo"),
+				"foobar",
+				s -> s + "bar",
+				ignored -> {
+					throw new AssertionError("Deserialized Right value");
+				}
+		);
+	}
+
+	@Test
+	void testThatRightCanBeSerialized() {
+		testSerializationRoundTrip(
+				Either.right(42),
+				"Right value: 42",
+				ignored -> {
+					throw new AssertionError("Deserialized Left value");
+				},
+				i -> "Right value: " + i
+		);
+	}
+
+	@Test
+	void testThatSharedInstancesAreResolvedAfterDeserialization() {
+		assertAll(
+				() -> assertSame(Either.leftNull(), serializeAndDeserialize(Either.leftNull())),
+				() -> assertSame(Either.rightNull(), serializeAndDeserialize(Either.rightNull())),
+				() -> assertSame(Either.leftNull(), serializeAndDeserialize(Either.left(null))),
+				() -> assertSame(Either.rightBoolean(true), serializeAndDeserialize(Either.right(true))),
+				() -> assertSame(Either.leftBoolean(false), serializeAndDeserialize(Either.leftBoolean(false))),
+				() -> assertSame(Either.rightInteger(42), serializeAndDeserialize(Either.right(42))),
+				() -> assertSame(Either.leftInteger(-128), serializeAndDeserialize(Either.left(-128)))
+		);
+	}
+
+	@Test
+	void testThatOtherValuesAreNotResolvedToSharedInstances() {
+		Either<String, Integer> rightValue = Either.right(1000);
+		Object deserialized = serializeAndDeserialize(rightValue);
+		assertEquals(rightValue, deserialized);
+		assertNotSame(rightValue, deserialized);
+		assertEquals(Either.left("foo"), serializeAndDeserialize(Either.left("foo")));
+	}
+
+	@Test
+	void testThatNonSerializableLeftThrows() {
+		Either<NonSerializable, String> leftValue = Either.left(new NonSerializable(42, "foo"));
+		testNonSerializable(leftValue);
+	}
+
+	@Test
+	void testThatNonSerializableRightThrows() {
+		Either<String, NonSerializable> rightValue = Either.right(new NonSerializable(100, "bar"));
+		testNonSerializable(rightValue);
+	}
+
+	record NonSerializable(int i, String s) {
+	}
+}
@@ -1,10 +1,20 @@
 // SPDX-License-Identifier: MIT
 package dev.andrybak.util.function.java8;
 
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import java.io.Serializable;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Implementation of functional programming abstraction {@code Either} for Java 8 and later versions.
@@ -25,12 +35,24 @@
  * </p>
  * <p>
  * If both types {@code A} and {@code B} are {@link Serializable} then {@code Either<A, B>} can be serialized.
+ * The serialized form consists of a one-byte tag and the value.
+ * </p>
+ * <p>
+ * Values, which are always the same, such as {@code null} or {@link Boolean#TRUE}, can be wrapped into an
+ * {@code Either} without allocation using shared instances, for example, {@link #rightNull()} or
+ * {@link #rightBoolean(boolean)}.  Deserialization of such values returns the shared instances.
  * </p>
  *
  * @param <A> type for {@link Left}
  * @param <B> type for {@link Right}
  */
 public abstract class Either<A, B> implements Serializable {
+	/**
+	 * Same as the default {@code serialVersionUID} of versions before introduction of {@link Ser}, so that streams
+	 * written by them can still be read.
+	 */
+	private static final long serialVersionUID = -152624026446504469L;
+
 	/**
 	 * Private to prevent inheritance from outside.
 	 */
@@ -61,6 +83,105 @@ public static <A, B> Either<A, B> right(B b) {
 		return new Right<>(b);
 	}
 
+	/**
+	 * Returns a shared instance of {@link Left} containing {@code null}.
+	 *
+	 * @param <A> type for returned {@link Left}
+	 * @param <B> type for corresponding {@link Right}
+	 * @return a {@link Left} with {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A, B> Either<A, B> leftNull() {
+		return (Either<A, B>) Left.NULL;
+	}
+
+	/**
+	 * Returns a shared instance of {@link Right} containing {@code null}.  This is useful for operations which
+	 * don't produce a result in case of success, for example, {@code Either<Exception, Void>}.
+	 *
+	 * @param <A> type for corresponding {@link Left}
+	 * @param <B> type for returned {@link Right}
+	 * @return a {@link Right} with {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A, B> Either<A, B> rightNull() {
+		return (Either<A, B>) Right.NULL;
+	}
+
+	/**
+	 * Returns a shared instance of {@link Left} containing given boolean value.
+	 *
+	 * @param <B> type for corresponding {@link Right}
+	 * @param a   value to be stored in the returned {@link Left}
+	 * @return a {@link Left} with the given value
+	 */
+	@SuppressWarnings("unchecked")
+	public static <B> Either<Boolean, B> leftBoolean(boolean a) {
+		return (Either<Boolean, B>) (a ? Left.TRUE : Left.FALSE);
+	}
+
+	/**
+	 * Returns a shared instance of {@link Right} containing given boolean value.
+	 *
+	 * @param <A> type for corresponding {@link Left}
+	 * @param b   value to be stored in the returned {@link Right}
+	 * @return a {@link Right} with the given value
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A> Either<A, Boolean> rightBoolean(boolean b) {
+		return (Either<A, Boolean>) (b ? Right.TRUE : Right.FALSE);
+	}
+
+	/**
+	 * Returns a {@link Left} containing given integer value.  For values in range from {@code -128} to {@code 127},
+	 * inclusive, the same as in {@link Integer#valueOf(int)}, returned instances are shared.
+	 *
+	 * @param <B> type for corresponding {@link Right}
+	 * @param a   value to be stored in the returned {@link Left}
+	 * @return a {@link Left} with the given value
+	 */
+	@SuppressWarnings("unchecked")
+	public static <B> Either<Integer, B> leftInteger(int a) {
+		return (Either<Integer, B>) Left.ofInteger(a);
+	}
+
+	/**
+	 * Returns a {@link Right} containing given integer value.  For values in range from {@code -128} to
+	 * {@code 127}, inclusive, the same as in {@link Integer#valueOf(int)}, returned instances are shared.
+	 *
+	 * @param <A> type for corresponding {@link Left}
+	 * @param b   value to be stored in the returned {@link Right}
+	 * @return a {@link Right} with the given value
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A> Either<A, Integer> rightInteger(int b) {
+		return (Either<A, Integer>) Right.ofInteger(b);
+	}
+
+	/**
+	 * Returns a shared instance of {@link Left} containing {@link Optional#empty()}.
+	 *
+	 * @param <T> type of the value of the {@link Optional} in the returned {@link Left}
+	 * @param <B> type for corresponding {@link Right}
+	 * @return a {@link Left} with an empty {@link Optional}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T, B> Either<Optional<T>, B> leftEmpty() {
+		return (Either<Optional<T>, B>) Left.EMPTY;
+	}
+
+	/**
+	 * Returns a shared instance of {@link Right} containing {@link Optional#empty()}.
+	 *
+	 * @param <A> type for corresponding {@link Left}
+	 * @param <T> type of the value of the {@link Optional} in the returned {@link Right}
+	 * @return a {@link Right} with an empty {@link Optional}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A, T> Either<A, Optional<T>> rightEmpty() {
+		return (Either<A, Optional<T>>) Right.EMPTY;
+	}
+
 	/**
 	 * Converts two functions, one which takes {@code A} and returns {@code C} and another which takes {@code B} and
 	 * returns {@code C}, into a {@link Function} that takes an {@code Either<A, B>} and returns {@code C}.
@@ -108,6 +229,70 @@ public static <A, B, C> C either(
 		return e.match(f, g);
 	}
 
+	/**
+	 * Calls the given supplier and returns its result as a {@link Right}, or the exception, which it has thrown, as
+	 * a {@link Left}.  Instances of {@link Error} are not caught.
+	 * <p>
+	 * Example:
+	 * <pre>{@code
+	 * Either<Exception, Config> config = Either.catching(() -> Config.parse(path));
+	 * }</pre>
+	 * <p>
+	 * To avoid keeping stack traces of expected exceptions in {@link Left} values, see {@link EitherCatcher}.
+	 * <p>
+	 * If an {@link InterruptedException} is caught, the interrupt status of the current thread is restored, so
+	 * that the interruption isn't lost.
+	 *
+	 * @param supplier supplier to call
+	 * @param <B>      type for {@link Right}
+	 * @return a {@link Right} with the result of the supplier or a {@link Left} with the exception
+	 */
+	public static <B> Either<Exception, B> catching(ThrowingSupplier<? extends B> supplier) {
+		try {
+			return right(supplier.get());
+		} catch (Exception e) {
+			if (e instanceof InterruptedException) {
+				Thread.currentThread().interrupt();
+			}
+			return left(e);
+		}
+	}
+
+	/**
+	 * Converts a function, which may throw exceptions, into a {@link Function}, which returns its result as a
+	 * {@link Right}, or the exception, which it has thrown, as a {@link Left}.  Instances of {@link Error} are not
+	 * caught.
+	 * <p>
+	 * Example:
+	 * <pre>{@code
+	 * List<Either<Exception, Config>> configs = paths.stream()
+	 *     .map(Either.catching(Config::parse))
+	 *     .collect(Collectors.toList());
+	 * }</pre>
+	 * <p>
+	 * If an {@link InterruptedException} is caught, the interrupt status of the current thread is restored, so
+	 * that the interruption isn't lost.
+	 *
+	 * @param f   function to convert
+	 * @param <T> type of the argument of the function
+	 * @param <B> type for {@link Right}
+	 * @return a function, which catches exceptions of the given function
+	 * @see #catching(ThrowingSupplier)
+	 */
+	public static <T, B> Function<T, Either<Exception, B>> catching(ThrowingFunction<? super T, ? extends B> f) {
+		Objects.requireNonNull(f, "f");
+		return t -> {
+			try {
+				return right(f.apply(t));
+			} catch (Exception e) {
+				if (e instanceof InterruptedException) {
+					Thread.currentThread().interrupt();
+				}
+				return left(e);
+			}
+		};
+	}
+
 	/**
 	 * Pattern matches on this {@link Either} and returns result of applying the corresponding function.
 	 *
@@ -118,6 +303,46 @@ public static <A, B, C> C either(
 	 */
 	public abstract <R> R match(Function<? super A, ? extends R> f, Function<? super B, ? extends R> g);
 
+	/**
+	 * Pattern matches on this {@link Either} and returns result of applying the corresponding function.  Unlike
+	 * {@link #match(Function, Function)}, the result is not boxed.
+	 *
+	 * @param f function to apply to a value of {@link Left}
+	 * @param g function to apply to a value of {@link Right}
+	 * @return result of applying one of the functions to this {@link Either}
+	 */
+	public abstract int matchInt(ToIntFunction<? super A> f, ToIntFunction<? super B> g);
+
+	/**
+	 * Pattern matches on this {@link Either} and returns result of applying the corresponding function.  Unlike
+	 * {@link #match(Function, Function)}, the result is not boxed.
+	 *
+	 * @param f function to apply to a value of {@link Left}
+	 * @param g function to apply to a value of {@link Right}
+	 * @return result of applying one of the functions to this {@link Either}
+	 */
+	public abstract long matchLong(ToLongFunction<? super A> f, ToLongFunction<? super B> g);
+
+	/**
+	 * Pattern matches on this {@link Either} and returns result of applying the corresponding function.  Unlike
+	 * {@link #match(Function, Function)}, the result is not boxed.
+	 *
+	 * @param f function to apply to a value of {@link Left}
+	 * @param g function to apply to a value of {@link Right}
+	 * @return result of applying one of the functions to this {@link Either}
+	 */
+	public abstract double matchDouble(ToDoubleFunction<? super A> f, ToDoubleFunction<? super B> g);
+
+	/**
+	 * Pattern matches on this {@link Either} and returns result of applying the corresponding predicate.  Unlike
+	 * {@link #match(Function, Function)}, the result is not boxed.
+	 *
+	 * @param f predicate to apply to a value of {@link Left}
+	 * @param g predicate to apply to a value of {@link Right}
+	 * @return result of applying one of the predicates to this {@link Either}
+	 */
+	public abstract boolean matchBoolean(Predicate<? super A> f, Predicate<? super B> g);
+
 	/**
 	 * If this {@link Either} is {@link Left Left}, performs the first given action with its value.
 	 * If this {@link Either} is {@link Right Right}, performs the second given action with its value.
@@ -147,6 +372,105 @@ public static <A, B, C> C either(
 	 */
 	public abstract Either<A, B> peek(Consumer<? super A> f, Consumer<? super B> g);
 
+	/**
+	 * If this {@link Either} is {@link Right Right}, returns a {@link Right Right} with the result of applying the
+	 * given function to its value.  If this {@link Either} is {@link Left Left}, returns this {@link Either}
+	 * without allocating a new object.
+	 *
+	 * @param g   function to apply to a value of {@link Right}
+	 * @param <C> new type for {@link Right}
+	 * @return an {@link Either} with the mapped {@link Right} value
+	 */
+	public abstract <C> Either<A, C> map(Function<? super B, ? extends C> g);
+
+	/**
+	 * If this {@link Either} is {@link Left Left}, returns a {@link Left Left} with the result of applying the
+	 * given function to its value.  If this {@link Either} is {@link Right Right}, returns this {@link Either}
+	 * without allocating a new object.
+	 *
+	 * @param f   function to apply to a value of {@link Left}
+	 * @param <C> new type for {@link Left}
+	 * @return an {@link Either} with the mapped {@link Left} value
+	 */
+	public abstract <C> Either<C, B> mapLeft(Function<? super A, ? extends C> f);
+
+	/**
+	 * Returns an {@link Either} of the same alternative as this one, with the result of applying the corresponding
+	 * function to its value.
+	 *
+	 * @param f   function to apply to a value of {@link Left}
+	 * @param g   function to apply to a value of {@link Right}
+	 * @param <C> new type for {@link Left}
+	 * @param <D> new type for {@link Right}
+	 * @return an {@link Either} with the mapped value
+	 */
+	public abstract <C, D> Either<C, D> bimap(Function<? super A, ? extends C> f, Function<? super B, ? extends D> g);
+
+	/**
+	 * If this {@link Either} is {@link Right Right}, returns the result of applying the given function to its
+	 * value.  If this {@link Either} is {@link Left Left}, returns this {@link Either} without allocating a new
+	 * object.
+	 * <p>
+	 * Example:
+	 * <pre>{@code
+	 * Either<Error, Response> response = parseRequest(input)
+	 *     .flatMap(this::validate)
+	 *     .flatMap(this::handle);
+	 * }</pre>
+	 *
+	 * @param g   function to apply to a value of {@link Right}
+	 * @param <C> new type for {@link Right}
+	 * @return the result of the function or this {@link Left}
+	 */
+	public abstract <C> Either<A, C> flatMap(Function<? super B, ? extends Either<? extends A, ? extends C>> g);
+
+	/**
+	 * If this {@link Either} is {@link Left Left}, returns the result of applying the given function to its value.
+	 * If this {@link Either} is {@link Right Right}, returns this {@link Either} without allocating a new object.
+	 * This is useful to recover from some of the errors.
+	 *
+	 * @param f   function to apply to a value of {@link Left}
+	 * @param <C> new type for {@link Left}
+	 * @return the result of the function or this {@link Right}
+	 */
+	public abstract <C> Either<C, B> flatMapLeft(Function<? super A, ? extends Either<? extends C, ? extends B>> f);
+
+	/**
+	 * A supplier of results, which may throw an exception.
+	 *
+	 * @param <B> type of results
+	 * @see #catching(ThrowingSupplier)
+	 */
+	@FunctionalInterface
+	public interface ThrowingSupplier<B> {
+		/**
+		 * Gets a result.
+		 *
+		 * @return a result
+		 * @throws Exception if the result can't be produced
+		 */
+		B get() throws Exception;
+	}
+
+	/**
+	 * A function, which may throw an exception.
+	 *
+	 * @param <T> type of the argument
+	 * @param <B> type of the result
+	 * @see #catching(ThrowingFunction)
+	 */
+	@FunctionalInterface
+	public interface ThrowingFunction<T, B> {
+		/**
+		 * Applies this function to the given argument.
+		 *
+		 * @param t the argument
+		 * @return the result
+		 * @throws Exception if the result can't be produced
+		 */
+		B apply(T t) throws Exception;
+	}
+
 	/**
 	 * Left alternative of the {@link Either Either&lt;A, B&gt;} type, containing a value of type {@code A}.
 	 *
@@ -154,6 +478,27 @@ public static <A, B, C> C either(
 	 * @param <B> type of the value in the corresponding {@link Right}
 	 */
 	static final class Left<A, B> extends Either<A, B> {
+		private static final Left<?, ?> NULL = new Left<>(null);
+		private static final Left<?, ?> TRUE = new Left<>(Boolean.TRUE);
+		private static final Left<?, ?> FALSE = new Left<>(Boolean.FALSE);
+		private static final Left<?, ?> EMPTY = new Left<>(Optional.empty());
+		/**
+		 * Shared instances for integer values in range of {@code byte}.
+		 */
+		private static final Left<?, ?>[] INTEGERS = new Left<?, ?>[1 << Byte.SIZE];
+
+		static {
+			for (int i = 0; i < INTEGERS.length; i++) {
+				INTEGERS[i] = new Left<>(Byte.MIN_VALUE + i);
+			}
+		}
+
+		/**
+		 * Same as the default {@code serialVersionUID} of versions before introduction of {@link Ser}, so that
+		 * streams written by them can still be read.
+		 */
+		private static final long serialVersionUID = -7897319712792162853L;
+
 		/**
 		 * The value of this {@link Left}.
 		 */
@@ -163,11 +508,69 @@ private Left(A a) {
 			this.a = a;
 		}
 
+		private static Left<?, ?> ofInteger(int a) {
+			if (a == (byte) a) {
+				return INTEGERS[a - Byte.MIN_VALUE];
+			}
+			return new Left<>(a);
+		}
+
+		/**
+		 * Replaces this {@link Left} with its compact serialized form.
+		 *
+		 * @return serialization proxy of this {@link Left}
+		 */
+		private Object writeReplace() {
+			return new Ser(this);
+		}
+
+		/**
+		 * Replaces deserialized values, which are equal to one of the shared instances, with the shared instance.
+		 * This is used both by {@link Ser} and for streams in the old default serialized form.
+		 *
+		 * @return this {@link Left} or an equal shared instance
+		 */
+		private Object readResolve() {
+			if (a == null) {
+				return NULL;
+			}
+			if (a instanceof Boolean) {
+				return (Boolean) a ? TRUE : FALSE;
+			}
+			if (a instanceof Integer) {
+				int i = (Integer) a;
+				if (i == (byte) i) {
+					return INTEGERS[i - Byte.MIN_VALUE];
+				}
+			}
+			return this;
+		}
+
 		@Override
 		public <R> R match(Function<? super A, ? extends R> f, Function<? super B, ? extends R> g) {
 			return f.apply(a);
 		}
 
+		@Override
+		public int matchInt(ToIntFunction<? super A> f, ToIntFunction<? super B> g) {
+			return f.applyAsInt(a);
+		}
+
+		@Override
+		public long matchLong(ToLongFunction<? super A> f, ToLongFunction<? super B> g) {
+			return f.applyAsLong(a);
+		}
+
+		@Override
+		public double matchDouble(ToDoubleFunction<? super A> f, ToDoubleFunction<? super B> g) {
+			return f.applyAsDouble(a);
+		}
+
+		@Override
+		public boolean matchBoolean(Predicate<? super A> f, Predicate<? super B> g) {
+			return f.test(a);
+		}
+
 		@Override
 		public void accept(Consumer<? super A> f, Consumer<? super B> g) {
 			f.accept(a);
@@ -178,6 +581,36 @@ public Either<A, B> peek(Consumer<? super A> f, Consumer<? super B> g) {
 			return this;
 		}
 
+		@Override
+		@SuppressWarnings("unchecked")
+		public <C> Either<A, C> map(Function<? super B, ? extends C> g) {
+			// a Left doesn't contain values of type B, so it's safe to reuse it
+			return (Either<A, C>) this;
+		}
+
+		@Override
+		public <C> Either<C, B> mapLeft(Function<? super A, ? extends C> f) {
+			return new Left<>(f.apply(a));
+		}
+
+		@Override
+		public <C, D> Either<C, D> bimap(Function<? super A, ? extends C> f, Function<? super B, ? extends D> g) {
+			return new Left<>(f.apply(a));
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <C> Either<A, C> flatMap(Function<? super B, ? extends Either<? extends A, ? extends C>> g) {
+			return (Either<A, C>) this;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <C> Either<C, B> flatMapLeft(Function<? super A, ? extends Either<? extends C, ? extends B>> f) {
+			// Either is immutable, so it's safe to use it with wider types
+			return (Either<C, B>) f.apply(a);
+		}
+
 		/**
 		 * Indicates whether some other object is "equal to" this {@code Left}.  The other object is considered equal
 		 * if it is also a {@code Left} and their values are "equal to" each other via {@code equals()}.
@@ -199,7 +632,7 @@ public boolean equals(Object o) {
 
 		@Override
 		public int hashCode() {
-			return a != null ? (31 * a.hashCode()) : 0;
+			return Hashing.left(Objects.hashCode(a));
 		}
 
 		@Override
@@ -215,6 +648,27 @@ public String toString() {
 	 * @param <B> type of the value in this {@link Right}
 	 */
 	static final class Right<A, B> extends Either<A, B> {
+		private static final Right<?, ?> NULL = new Right<>(null);
+		private static final Right<?, ?> TRUE = new Right<>(Boolean.TRUE);
+		private static final Right<?, ?> FALSE = new Right<>(Boolean.FALSE);
+		private static final Right<?, ?> EMPTY = new Right<>(Optional.empty());
+		/**
+		 * Shared instances for integer values in range of {@code byte}.
+		 */
+		private static final Right<?, ?>[] INTEGERS = new Right<?, ?>[1 << Byte.SIZE];
+
+		static {
+			for (int i = 0; i < INTEGERS.length; i++) {
+				INTEGERS[i] = new Right<>(Byte.MIN_VALUE + i);
+			}
+		}
+
+		/**
+		 * Same as the default {@code serialVersionUID} of versions before introduction of {@link Ser}, so that
+		 * streams written by them can still be read.
+		 */
+		private static final long serialVersionUID = 1471392117532843389L;
+
 		/**
 		 * The value of this {@link Right}.
 		 */
@@ -224,11 +678,79 @@ private Right(B b) {
 			this.b = b;
 		}
 
+		/**
+		 * Returns the value of this {@link Right}, for code in this package, which has already checked the type and
+		 * shouldn't pay for the dispatch of {@link #match(Function, Function)}.
+		 *
+		 * @return the value of this {@link Right}
+		 */
+		B b() {
+			return b;
+		}
+
+		private static Right<?, ?> ofInteger(int b) {
+			if (b == (byte) b) {
+				return INTEGERS[b - Byte.MIN_VALUE];
+			}
+			return new Right<>(b);
+		}
+
+		/**
+		 * Replaces this {@link Right} with its compact serialized form.
+		 *
+		 * @return serialization proxy of this {@link Right}
+		 */
+		private Object writeReplace() {
+			return new Ser(this);
+		}
+
+		/**
+		 * Replaces deserialized values, which are equal to one of the shared instances, with the shared instance.
+		 * This is used both by {@link Ser} and for streams in the old default serialized form.
+		 *
+		 * @return this {@link Right} or an equal shared instance
+		 */
+		private Object readResolve() {
+			if (b == null) {
+				return NULL;
+			}
+			if (b instanceof Boolean) {
+				return (Boolean) b ? TRUE : FALSE;
+			}
+			if (b instanceof Integer) {
+				int i = (Integer) b;
+				if (i == (byte) i) {
+					return INTEGERS[i - Byte.MIN_VALUE];
+				}
+			}
+			return this;
+		}
+
 		@Override
 		public <R> R match(Function<? super A, ? extends R> f, Function<? super B, ? extends R> g) {
 			return g.apply(b);
 		}
 
+		@Override
+		public int matchInt(ToIntFunction<? super A> f, ToIntFunction<? super B> g) {
+			return g.applyAsInt(b);
+		}
+
+		@Override
+		public long matchLong(ToLongFunction<? super A> f, ToLongFunction<? super B> g) {
+			return g.applyAsLong(b);
+		}
+
+		@Override
+		public double matchDouble(ToDoubleFunction<? super A> f, ToDoubleFunction<? super B> g) {
+			return g.applyAsDouble(b);
+		}
+
+		@Override
+		public boolean matchBoolean(Predicate<? super A> f, Predicate<? super B> g) {
+			return g.test(b);
+		}
+
 		@Override
 		public void accept(Consumer<? super A> f, Consumer<? super B> g) {
 			g.accept(b);
@@ -240,6 +762,36 @@ public Either<A, B> peek(Consumer<? super A> f, Consumer<? super B> g) {
 			return this;
 		}
 
+		@Override
+		public <C> Either<A, C> map(Function<? super B, ? extends C> g) {
+			return new Right<>(g.apply(b));
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <C> Either<C, B> mapLeft(Function<? super A, ? extends C> f) {
+			// a Right doesn't contain values of type A, so it's safe to reuse it
+			return (Either<C, B>) this;
+		}
+
+		@Override
+		public <C, D> Either<C, D> bimap(Function<? super A, ? extends C> f, Function<? super B, ? extends D> g) {
+			return new Right<>(g.apply(b));
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <C> Either<A, C> flatMap(Function<? super B, ? extends Either<? extends A, ? extends C>> g) {
+			// Either is immutable, so it's safe to use it with wider types
+			return (Either<A, C>) g.apply(b);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <C> Either<C, B> flatMapLeft(Function<? super A, ? extends Either<? extends C, ? extends B>> f) {
+			return (Either<C, B>) this;
+		}
+
 		/**
 		 * Indicates whether some other object is "equal to" this {@code Right}.  The other object is considered equal
 		 * if it is also a {@code Right} and their values are "equal to" each other via {@code equals()}.
@@ -261,7 +813,7 @@ public boolean equals(Object o) {
 
 		@Override
 		public int hashCode() {
-			return b != null ? (37 * b.hashCode()) : 0;
+			return Hashing.right(Objects.hashCode(b));
 		}
 
 		@Override
@@ -269,4 +821,108 @@ public String toString() {
 			return "Right(" + b + ')';
 		}
 	}
+
+	/**
+	 * Serialization proxy for {@link Left} and {@link Right}.
+	 * <p>
+	 * The default serialized form of {@link Left} and {@link Right} contains descriptors of two classes, including
+	 * the names and types of their fields.  Instead, this proxy writes a single byte tag, followed by the value.
+	 * The name of this class is deliberately short, because it's written into every stream.
+	 * </p>
+	 * <p>
+	 * Bit {@code 0} of the tag is {@code 0} for {@link Left} and {@code 1} for {@link Right}.  Bits {@code 1} and
+	 * {@code 2} define how the value is written:
+	 * </p>
+	 * <ul>
+	 * <li>{@code 0} &ndash; via {@link ObjectOutput#writeObject(Object)},</li>
+	 * <li>{@code 1} &ndash; {@code null}, nothing is written,</li>
+	 * <li>{@code 2} &ndash; {@link Integer} via {@link ObjectOutput#writeInt(int)},</li>
+	 * <li>{@code 3} &ndash; {@link Long} via {@link ObjectOutput#writeLong(long)}.</li>
+	 * </ul>
+	 * <p>
+	 * Other bits are reserved for future versions of the format, and streams with them set are rejected.
+	 * </p>
+	 */
+	private static final class Ser implements Externalizable {
+		private static final long serialVersionUID = 1L;
+
+		private static final int RIGHT = 1;
+		private static final int VALUE_MASK = 0b110;
+		private static final int OBJECT = 0;
+		private static final int NULL = 0b010;
+		private static final int INTEGER = 0b100;
+		private static final int LONG = 0b110;
+
+		private Either<?, ?> either;
+
+		/**
+		 * Public no-arg constructor required by {@link Externalizable}.
+		 */
+		public Ser() {
+		}
+
+		private Ser(Either<?, ?> either) {
+			this.either = either;
+		}
+
+		@Override
+		public void writeExternal(ObjectOutput out) throws IOException {
+			int side;
+			Object value;
+			if (either instanceof Left) {
+				side = 0;
+				value = ((Left<?, ?>) either).a;
+			} else {
+				side = RIGHT;
+				value = ((Right<?, ?>) either).b;
+			}
+			if (value == null) {
+				out.writeByte(side | NULL);
+			} else if (value instanceof Integer) {
+				out.writeByte(side | INTEGER);
+				out.writeInt((Integer) value);
+			} else if (value instanceof Long) {
+				out.writeByte(side | LONG);
+				out.writeLong((Long) value);
+			} else {
+				out.writeByte(side | OBJECT);
+				out.writeObject(value);
+			}
+		}
+
+		@Override
+		public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+			int tag = in.readUnsignedByte();
+			if ((tag & ~(RIGHT | VALUE_MASK)) != 0) {
+				throw new InvalidObjectException("Unknown tag: " + tag);
+			}
+			Object value;
+			switch (tag & VALUE_MASK) {
+			case NULL:
+				value = null;
+				break;
+			case INTEGER:
+				value = in.readInt();
+				break;
+			case LONG:
+				value = in.readLong();
+				break;
+			default:
+				value = in.readObject();
+				break;
+			}
+			if ((tag & RIGHT) == 0) {
+				either = new Left<>(value);
+			} else {
+				either = new Right<>(value);
+			}
+		}
+
+		private Object readResolve() {
+			if (either instanceof Left) {
+				return ((Left<?, ?>) either).readResolve();
+			}
+			return ((Right<?, ?>) either).readResolve();
+		}
+	}
 }
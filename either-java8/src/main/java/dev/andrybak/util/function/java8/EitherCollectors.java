@@ -0,0 +1,364 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java8;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+/**
+ * Implementations of {@link Collector} for {@link Stream}s of {@link Either}.
+ */
+public class EitherCollectors {
+	private EitherCollectors() {
+		throw new AssertionError();
+	}
+
+	/**
+	 * Returns a {@link Collector} which passes values of {@link Either.Left Left} elements to the first given
+	 * downstream collector, values of {@link Either.Right Right} elements to the second given downstream collector,
+	 * and merges their results using the given function.  Each element is inspected only once.
+	 * <p>
+	 * Example:
+	 * <pre>{@code
+	 * Report report = parseResults.collect(EitherCollectors.partitioning(
+	 *     Collectors.toList(),
+	 *     Collectors.counting(),
+	 *     (errors, successCount) -> new Report(errors, successCount)
+	 * ));
+	 * }</pre>
+	 *
+	 * @param leftCollector  collector of {@link Either.Left Left} values
+	 * @param rightCollector collector of {@link Either.Right Right} values
+	 * @param merger         function which merges results of the two given collectors
+	 * @param <A>            type for {@link Either.Left}
+	 * @param <B>            type for {@link Either.Right}
+	 * @param <L>            result type of the collector of {@link Either.Left Left} values
+	 * @param <R>            result type of the collector of {@link Either.Right Right} values
+	 * @param <T>            result type of the merger
+	 * @return a {@link Collector} which partitions elements into lefts and rights in a single pass
+	 */
+	public static <A, B, L, R, T> Collector<Either<? extends A, ? extends B>, ?, T> partitioning(
+			Collector<? super A, ?, L> leftCollector,
+			Collector<? super B, ?, R> rightCollector,
+			BiFunction<? super L, ? super R, T> merger)
+	{
+		Objects.requireNonNull(leftCollector, "leftCollector");
+		Objects.requireNonNull(rightCollector, "rightCollector");
+		Objects.requireNonNull(merger, "merger");
+		return partitioning0(leftCollector, rightCollector, merger);
+	}
+
+	/**
+	 * Returns a {@link Collector} which passes values of {@link Either.Left Left} elements to the first given
+	 * downstream collector and values of {@link Either.Right Right} elements to the second given downstream
+	 * collector.  Each element is inspected only once.
+	 *
+	 * @param leftCollector  collector of {@link Either.Left Left} values
+	 * @param rightCollector collector of {@link Either.Right Right} values
+	 * @param <A>            type for {@link Either.Left}
+	 * @param <B>            type for {@link Either.Right}
+	 * @param <L>            result type of the collector of {@link Either.Left Left} values
+	 * @param <R>            result type of the collector of {@link Either.Right Right} values
+	 * @return a {@link Collector} which partitions elements into lefts and rights in a single pass, with result
+	 * of {@code leftCollector} as the key and result of {@code rightCollector} as the value
+	 * @see #partitioning(Collector, Collector, BiFunction)
+	 */
+	public static <A, B, L, R> Collector<Either<? extends A, ? extends B>, ?, Map.Entry<L, R>> partitioning(
+			Collector<? super A, ?, L> leftCollector,
+			Collector<? super B, ?, R> rightCollector)
+	{
+		return partitioning(leftCollector, rightCollector, AbstractMap.SimpleImmutableEntry::new);
+	}
+
+	/**
+	 * Returns a concurrent {@link Collector}, which collects values of {@link Left Left} elements into one {@link List}
+	 * and values of {@link Right Right} elements into another.
+	 * <p>
+	 * The collector is {@link Collector.Characteristics#CONCURRENT CONCURRENT} and
+	 * {@link Collector.Characteristics#UNORDERED UNORDERED}, so a parallel stream accumulates all elements into a
+	 * single container, instead of creating a container per split and merging them.  The container is striped to
+	 * reduce contention between worker threads: each thread adds elements to one of several lists,
+	 * which are only concatenated once by the finisher.  Order of elements in the resulting lists is unspecified.
+	 *
+	 * @param <A> type for {@link Left Left}
+	 * @param <B> type for {@link Right Right}
+	 * @return a {@link Collector}, with a list of {@link Left Left} values as the key and a list of {@link Right Right}
+	 * values as the value of the result
+	 * @see #partitioning(Collector, Collector)
+	 */
+	public static <A, B> Collector<Either<? extends A, ? extends B>, ?, Map.Entry<List<A>, List<B>>>
+			partitioningConcurrent()
+	{
+		return Collector.of(
+				ConcurrentPartition<A, B>::new,
+				(p, e) -> e.accept(p.leftSink, p.rightSink),
+				ConcurrentPartition::merge,
+				ConcurrentPartition::finish,
+				Collector.Characteristics.CONCURRENT,
+				Collector.Characteristics.UNORDERED
+		);
+	}
+
+	/**
+	 * Returns a concurrent {@link Collector}, which counts {@link Left Left} and {@link Right Right} elements.
+	 * <p>
+	 * The collector is {@link Collector.Characteristics#CONCURRENT CONCURRENT} and
+	 * {@link Collector.Characteristics#UNORDERED UNORDERED}, and counts elements with a pair of {@link LongAdder}s,
+	 * so worker threads of a parallel stream neither create a container per split, nor contend on a single counter.
+	 *
+	 * @return a {@link Collector}, with the number of {@link Left Left} elements as the key and the number of
+	 * {@link Right Right} elements as the value of the result
+	 */
+	public static Collector<Either<?, ?>, ?, Map.Entry<Long, Long>> countingConcurrent() {
+		return Collector.of(
+				Counters::new,
+				Counters::add,
+				Counters::merge,
+				Counters::finish,
+				Collector.Characteristics.CONCURRENT,
+				Collector.Characteristics.UNORDERED
+		);
+	}
+
+	private static <A, B, LC, RC, L, R, T> Collector<Either<? extends A, ? extends B>, ?, T> partitioning0(
+			Collector<? super A, LC, L> leftCollector,
+			Collector<? super B, RC, R> rightCollector,
+			BiFunction<? super L, ? super R, T> merger)
+	{
+		Supplier<LC> leftSupplier = leftCollector.supplier();
+		Supplier<RC> rightSupplier = rightCollector.supplier();
+		BiConsumer<LC, ? super A> leftAccumulator = leftCollector.accumulator();
+		BiConsumer<RC, ? super B> rightAccumulator = rightCollector.accumulator();
+		BinaryOperator<LC> leftCombiner = leftCollector.combiner();
+		BinaryOperator<RC> rightCombiner = rightCollector.combiner();
+		Function<LC, L> leftFinisher = leftCollector.finisher();
+		Function<RC, R> rightFinisher = rightCollector.finisher();
+
+		Set<Collector.Characteristics> leftCharacteristics = leftCollector.characteristics();
+		Set<Collector.Characteristics> rightCharacteristics = rightCollector.characteristics();
+		Set<Collector.Characteristics> characteristics = EnumSet.noneOf(Collector.Characteristics.class);
+		if (leftCharacteristics.contains(Collector.Characteristics.UNORDERED) &&
+				rightCharacteristics.contains(Collector.Characteristics.UNORDERED))
+		{
+			characteristics.add(Collector.Characteristics.UNORDERED);
+		}
+		if (leftCharacteristics.contains(Collector.Characteristics.CONCURRENT) &&
+				rightCharacteristics.contains(Collector.Characteristics.CONCURRENT))
+		{
+			characteristics.add(Collector.Characteristics.CONCURRENT);
+		}
+
+		return Collector.of(
+				() -> new Partition<A, B, LC, RC>(leftSupplier.get(), rightSupplier.get(),
+						leftAccumulator, rightAccumulator),
+				(p, e) -> e.accept(p.leftSink, p.rightSink),
+				(p1, p2) -> new Partition<>(
+						leftCombiner.apply(p1.leftContainer, p2.leftContainer),
+						rightCombiner.apply(p1.rightContainer, p2.rightContainer),
+						leftAccumulator, rightAccumulator
+				),
+				p -> merger.apply(leftFinisher.apply(p.leftContainer), rightFinisher.apply(p.rightContainer)),
+				characteristics.toArray(new Collector.Characteristics[0])
+		);
+	}
+
+	/**
+	 * Intermediate accumulation container of {@link #partitioning(Collector, Collector, BiFunction)}.
+	 * <p>
+	 * The sinks are created once per container, so that accumulation of each element doesn't allocate.
+	 *
+	 * @param <A>  type for {@link Either.Left}
+	 * @param <B>  type for {@link Either.Right}
+	 * @param <LC> type of the intermediate container of the collector of {@link Either.Left Left} values
+	 * @param <RC> type of the intermediate container of the collector of {@link Either.Right Right} values
+	 */
+	private static final class Partition<A, B, LC, RC> {
+		private final LC leftContainer;
+		private final RC rightContainer;
+		private final Consumer<A> leftSink;
+		private final Consumer<B> rightSink;
+
+		private Partition(LC leftContainer, RC rightContainer,
+				BiConsumer<LC, ? super A> leftAccumulator, BiConsumer<RC, ? super B> rightAccumulator)
+		{
+			this.leftContainer = leftContainer;
+			this.rightContainer = rightContainer;
+			this.leftSink = a -> leftAccumulator.accept(leftContainer, a);
+			this.rightSink = b -> rightAccumulator.accept(rightContainer, b);
+		}
+	}
+
+	/**
+	 * Intermediate accumulation container of {@link #partitioningConcurrent()}.
+	 *
+	 * @param <A> type for {@link Left Left}
+	 * @param <B> type for {@link Right Right}
+	 */
+	private static final class ConcurrentPartition<A, B> {
+		private final StripedList<A> lefts = new StripedList<>();
+		private final StripedList<B> rights = new StripedList<>();
+		private final Consumer<A> leftSink = lefts::add;
+		private final Consumer<B> rightSink = rights::add;
+
+		private ConcurrentPartition<A, B> merge(ConcurrentPartition<A, B> other) {
+			lefts.addAll(other.lefts);
+			rights.addAll(other.rights);
+			return this;
+		}
+
+		private Map.Entry<List<A>, List<B>> finish() {
+			return new AbstractMap.SimpleImmutableEntry<>(lefts.toList(), rights.toList());
+		}
+	}
+
+	/**
+	 * Thread-safe list, which only supports additions.  Elements are added to one of several stripes: each thread
+	 * starts with a stripe chosen by its id, and moves on to the next stripe, if the current one is busy.  There are
+	 * twice as many stripes as processors, so a thread usually finds a free stripe without waiting.  If all stripes
+	 * are busy, for example because there are more threads than stripes, or because threads holding stripes have been
+	 * preempted, the thread keeps trying and yields after each full lap over the stripes.
+	 *
+	 * @param <T> type of elements
+	 */
+	private static final class StripedList<T> {
+		private static final int STRIPES = stripeCount();
+
+		private final Stripe<T>[] stripes;
+
+		@SuppressWarnings("unchecked")
+		private StripedList() {
+			stripes = (Stripe<T>[]) new Stripe<?>[STRIPES];
+			for (int i = 0; i < stripes.length; i++) {
+				stripes[i] = new Stripe<>();
+			}
+		}
+
+		private static int stripeCount() {
+			int threads = Math.max(1, Runtime.getRuntime().availableProcessors());
+			// the smallest power of two, which is at least twice the number of processors
+			return Integer.highestOneBit(threads * 2 - 1) << 1;
+		}
+
+		private void add(T t) {
+			int mask = stripes.length - 1;
+			long id = Thread.currentThread().getId();
+			int start = (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+			int i = start;
+			while (true) {
+				Stripe<T> stripe = stripes[i];
+				if (stripe.tryLock()) {
+					try {
+						stripe.items.add(t);
+					} finally {
+						stripe.unlock();
+					}
+					return;
+				}
+				i = (i + 1) & mask;
+				if (i == start) {
+					Thread.yield();
+				}
+			}
+		}
+
+		/**
+		 * Adds all elements of the given list.  Only called by the combiner, when the collector is used
+		 * sequentially, so no synchronization is needed.
+		 */
+		private void addAll(StripedList<T> other) {
+			for (int i = 0; i < stripes.length; i++) {
+				stripes[i].items.addAll(other.stripes[i].items);
+			}
+		}
+
+		private List<T> toList() {
+			int size = 0;
+			for (Stripe<T> stripe : stripes) {
+				size += stripe.items.size();
+			}
+			List<T> result = new ArrayList<>(size);
+			for (Stripe<T> stripe : stripes) {
+				result.addAll(stripe.items);
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Padding before {@link StripeLock#locked}, so that stripes, which are allocated one after another, don't share
+	 * cache lines.
+	 */
+	private static class StripeLeftPadding {
+		long p01, p02, p03, p04, p05, p06, p07;
+	}
+
+	/**
+	 * Lock of a {@link Stripe}.
+	 */
+	private static class StripeLock extends StripeLeftPadding {
+		private static final AtomicIntegerFieldUpdater<StripeLock> LOCKED =
+				AtomicIntegerFieldUpdater.newUpdater(StripeLock.class, "locked");
+
+		/**
+		 * One while a thread is adding an element to the stripe, zero otherwise.
+		 */
+		private volatile int locked;
+
+		final boolean tryLock() {
+			return LOCKED.compareAndSet(this, 0, 1);
+		}
+
+		final void unlock() {
+			// release semantics are enough to publish the added element to the next owner
+			LOCKED.lazySet(this, 0);
+		}
+	}
+
+	/**
+	 * One stripe of a {@link StripedList}.  Fields {@code p11}-{@code p17} are padding after {@link StripeLock#locked}.
+	 */
+	private static final class Stripe<T> extends StripeLock {
+		private final List<T> items = new ArrayList<>();
+		long p11, p12, p13, p14, p15, p16, p17;
+	}
+
+	/**
+	 * Intermediate accumulation container of {@link #countingConcurrent()}.
+	 */
+	private static final class Counters {
+		private final LongAdder lefts = new LongAdder();
+		private final LongAdder rights = new LongAdder();
+
+		private void add(Either<?, ?> e) {
+			if (e instanceof Either.Left) {
+				lefts.increment();
+			} else {
+				rights.increment();
+			}
+		}
+
+		private Counters merge(Counters other) {
+			lefts.add(other.lefts.sum());
+			rights.add(other.rights.sum());
+			return this;
+		}
+
+		private Map.Entry<Long, Long> finish() {
+			return new AbstractMap.SimpleImmutableEntry<>(lefts.sum(), rights.sum());
+		}
+	}
+}
@@ -0,0 +1,245 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java8;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.Function;
+
+/**
+ * Specialization of {@link Either} for values of primitive type {@code double} in the {@link Right Right}
+ * alternative.
+ * <p>
+ * An object of type {@code EitherDouble<A>} contains either a value of type {@code A} ({@link Left Left} alternative)
+ * or a value of type {@code double} ({@link Right Right} alternative).  Unlike {@code Either<A, Double>}, the
+ * {@code double} value is stored and passed to functions and consumers without boxing.
+ * </p>
+ * <p>
+ * If type {@code A} is {@link Serializable} then {@code EitherDouble<A>} can be serialized.
+ * </p>
+ *
+ * @param <A> type for {@link Left}
+ * @see Either
+ */
+public abstract class EitherDouble<A> implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Private to prevent inheritance from outside.
+	 */
+	private EitherDouble() {
+	}
+
+	/**
+	 * Returns a {@link Left} containing given value of type {@code A}.
+	 *
+	 * @param <A> type for returned {@link Left}
+	 * @param a   value to be stored in the returned {@link Left}
+	 * @return a {@link Left} with the given value
+	 */
+	public static <A> EitherDouble<A> left(A a) {
+		return new Left<>(a);
+	}
+
+	/**
+	 * Returns a {@link Right} containing given {@code double} value.
+	 *
+	 * @param <A> type for corresponding {@link Left}
+	 * @param b   value to be stored in the returned {@link Right}
+	 * @return a {@link Right} with the given value
+	 */
+	public static <A> EitherDouble<A> right(double b) {
+		return new Right<>(b);
+	}
+
+	/**
+	 * Converts given {@link Either} into an {@link EitherDouble}, unboxing the value of {@link Either.Right Right}.
+	 *
+	 * @param <A> type for {@link Left}
+	 * @param e   an {@link Either} to convert
+	 * @return an {@link EitherDouble} with the same value as the given {@link Either}
+	 * @throws NullPointerException if the given {@link Either} is a {@link Either.Right Right} containing
+	 *                              {@code null}
+	 */
+	public static <A> EitherDouble<A> fromEither(Either<? extends A, ? extends Double> e) {
+		return e.match(EitherDouble::left, b -> right(Objects.requireNonNull(b, "right value")));
+	}
+
+	/**
+	 * Pattern matches on this {@link EitherDouble} and returns result of applying the corresponding function.
+	 *
+	 * @param f   function to apply to a value of {@link Left}
+	 * @param g   function to apply to a value of {@link Right}
+	 * @param <R> return type of functions
+	 * @return result of applying one of the functions to this {@link EitherDouble}
+	 */
+	public abstract <R> R match(Function<? super A, ? extends R> f, DoubleFunction<? extends R> g);
+
+	/**
+	 * If this {@link EitherDouble} is {@link Left Left}, performs the first given action with its value.
+	 * If this {@link EitherDouble} is {@link Right Right}, performs the second given action with its value.
+	 *
+	 * @param f consumer to apply to a value of {@link Left}
+	 * @param g consumer to apply to a value of {@link Right}
+	 */
+	public abstract void accept(Consumer<? super A> f, DoubleConsumer g);
+
+	/**
+	 * If this {@link EitherDouble} is a {@link Left Left}, performs the first given action with its value and returns
+	 * this {@link EitherDouble}.  If this {@link EitherDouble} is a {@link Right Right}, performs the second given
+	 * action with its value and returns this {@link EitherDouble}.
+	 *
+	 * @param f consumer to apply to {@link Left}
+	 * @param g consumer to apply to {@link Right}
+	 * @return this {@link EitherDouble}
+	 */
+	public abstract EitherDouble<A> peek(Consumer<? super A> f, DoubleConsumer g);
+
+	/**
+	 * Converts this {@link EitherDouble} into an {@link Either}, boxing the value of {@link Right Right}.
+	 *
+	 * @return an {@link Either} with the same value as this {@link EitherDouble}
+	 */
+	public abstract Either<A, Double> toEither();
+
+	/**
+	 * Left alternative of the {@link EitherDouble EitherDouble&lt;A&gt;} type, containing a value of type {@code A}.
+	 *
+	 * @param <A> type of the value in this {@link Left}
+	 */
+	static final class Left<A> extends EitherDouble<A> {
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The value of this {@link Left}.
+		 */
+		private final A a;
+
+		private Left(A a) {
+			this.a = a;
+		}
+
+		@Override
+		public <R> R match(Function<? super A, ? extends R> f, DoubleFunction<? extends R> g) {
+			return f.apply(a);
+		}
+
+		@Override
+		public void accept(Consumer<? super A> f, DoubleConsumer g) {
+			f.accept(a);
+		}
+
+		@Override
+		public EitherDouble<A> peek(Consumer<? super A> f, DoubleConsumer g) {
+			f.accept(a);
+			return this;
+		}
+
+		@Override
+		public Either<A, Double> toEither() {
+			return Either.left(a);
+		}
+
+		/**
+		 * Indicates whether some other object is "equal to" this {@code Left}.  The other object is considered equal
+		 * if it is also a {@code Left} of {@link EitherDouble} and their values are "equal to" each other via
+		 * {@code equals()}.
+		 *
+		 * @param o an object to be tested for equality
+		 * @return {@code true} if the other object is "equal to" this object otherwise {@code false}
+		 */
+		@Override
+		public boolean equals(Object o) {
+			if (this == o)
+				return true;
+			if (o == null || getClass() != o.getClass())
+				return false;
+
+			Left<?> left = (Left<?>) o;
+
+			return Objects.equals(a, left.a);
+		}
+
+		@Override
+		public int hashCode() {
+			return Hashing.left(Objects.hashCode(a));
+		}
+
+		@Override
+		public String toString() {
+			return "Left(" + a + ')';
+		}
+	}
+
+	/**
+	 * Right alternative of the {@link EitherDouble EitherDouble&lt;A&gt;} type, containing a value of type
+	 * {@code double}.
+	 *
+	 * @param <A> type of the value in the corresponding {@link Left}
+	 */
+	static final class Right<A> extends EitherDouble<A> {
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The value of this {@link Right}.
+		 */
+		private final double b;
+
+		private Right(double b) {
+			this.b = b;
+		}
+
+		@Override
+		public <R> R match(Function<? super A, ? extends R> f, DoubleFunction<? extends R> g) {
+			return g.apply(b);
+		}
+
+		@Override
+		public void accept(Consumer<? super A> f, DoubleConsumer g) {
+			g.accept(b);
+		}
+
+		@Override
+		public EitherDouble<A> peek(Consumer<? super A> f, DoubleConsumer g) {
+			g.accept(b);
+			return this;
+		}
+
+		@Override
+		public Either<A, Double> toEither() {
+			return Either.right(b);
+		}
+
+		/**
+		 * Indicates whether some other object is "equal to" this {@code Right}.  The other object is considered
+		 * equal if it is also a {@code Right} of {@link EitherDouble} and their values are equal according to
+		 * {@link Double#compare(double, double)}.
+		 *
+		 * @param o an object to be tested for equality
+		 * @return {@code true} if the other object is "equal to" this object otherwise {@code false}
+		 */
+		@Override
+		public boolean equals(Object o) {
+			if (this == o)
+				return true;
+			if (o == null || getClass() != o.getClass())
+				return false;
+
+			Right<?> right = (Right<?>) o;
+
+			return Double.compare(b, right.b) == 0;
+		}
+
+		@Override
+		public int hashCode() {
+			return Hashing.right(Double.hashCode(b));
+		}
+
+		@Override
+		public String toString() {
+			return "Right(" + b + ')';
+		}
+	}
+}
@@ -0,0 +1,339 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java8;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Helper functions to use {@link Either} with {@link CompletableFuture}s.
+ * <p>
+ * Futures returned by these functions complete normally with an {@link Either}, which contains either the result,
+ * or the {@link Throwable}, with which the original stage has failed.  Wrappers {@link CompletionException} and
+ * {@link ExecutionException} are removed.  Failures can be handled as values in dependent stages, without
+ * rethrowing them from {@link CompletableFuture#exceptionally} or {@link CompletableFuture#handle}.
+ * </p>
+ * <p>
+ * Functions with a {@link Duration} argument complete the returned futures with a {@link Either.Left} of a
+ * {@link Timeout}, if the original stage hasn't completed in time.  The original stage is not cancelled.
+ * </p>
+ */
+public class EitherFutures {
+	private EitherFutures() {
+		throw new AssertionError();
+	}
+
+	/**
+	 * Returns a future, which completes with a {@link Either.Right} of the result of the given stage, or with a
+	 * {@link Either.Left} of the {@link Throwable}, with which the stage has failed.
+	 *
+	 * @param stage the stage to wait for
+	 * @param <T>   type of the result of the stage
+	 * @return a future, which completes normally when the given stage completes
+	 */
+	public static <T> CompletableFuture<Either<Throwable, T>> toEither(CompletionStage<? extends T> stage) {
+		CompletableFuture<Either<Throwable, T>> result = new CompletableFuture<>();
+		stage.whenComplete((t, failure) -> result.complete(either(t, failure)));
+		return result;
+	}
+
+	/**
+	 * Returns a future, which completes with a {@link Either.Right} of the result of the given stage, or with a
+	 * {@link Either.Left} of the {@link Throwable}, with which the stage has failed, or with a {@link Either.Left} of a
+	 * {@link Timeout}, if the stage doesn't complete within the given time.
+	 *
+	 * @param stage   the stage to wait for
+	 * @param timeout how long to wait for the stage
+	 * @param <T>     type of the result of the stage
+	 * @return a future, which completes normally when the given stage completes or the timeout expires
+	 */
+	public static <T> CompletableFuture<Either<Throwable, T>> toEither(CompletionStage<? extends T> stage,
+			Duration timeout)
+	{
+		Objects.requireNonNull(timeout, "timeout");
+		CompletableFuture<Either<Throwable, T>> result = toEither(stage);
+		if (!result.isDone()) {
+			ScheduledFuture<?> timer = Delayer.DELAYER.schedule(
+					() -> result.complete(Either.left(new Timeout(timeout))),
+					timeout.toNanos(),
+					TimeUnit.NANOSECONDS
+			);
+			result.whenComplete((either, failure) -> timer.cancel(false));
+		}
+		return result;
+	}
+
+	/**
+	 * Returns a future, which completes with results of all given stages in order, after all of them complete.
+	 *
+	 * @param stages the stages to wait for
+	 * @param <T>    type of results of the stages
+	 * @return a future of results of the stages as {@link Either} values
+	 */
+	public static <T> CompletableFuture<List<Either<Throwable, T>>> allOf(
+			List<? extends CompletionStage<? extends T>> stages)
+	{
+		return allOf0(mapToEither(stages, null));
+	}
+
+	/**
+	 * Same as {@link #allOf(List)}, but results of stages, which don't complete within the given time, are
+	 * {@link Either.Left Left} of {@link Timeout}.
+	 *
+	 * @param stages  the stages to wait for
+	 * @param timeout how long to wait for each of the stages, measured from this call
+	 * @param <T>     type of results of the stages
+	 * @return a future of results of the stages as {@link Either} values
+	 */
+	public static <T> CompletableFuture<List<Either<Throwable, T>>> allOf(
+			List<? extends CompletionStage<? extends T>> stages,
+			Duration timeout)
+	{
+		Objects.requireNonNull(timeout, "timeout");
+		return allOf0(mapToEither(stages, timeout));
+	}
+
+	/**
+	 * Returns a future, which completes with a {@link Either.Right} of results of all given stages in order, if all of
+	 * them succeed, or with a {@link Either.Left} of the first failure as soon as any of the stages fails.
+	 *
+	 * @param stages the stages to wait for
+	 * @param <T>    type of results of the stages
+	 * @return a future of all results or the first failure
+	 */
+	public static <T> CompletableFuture<Either<Throwable, List<T>>> sequence(
+			List<? extends CompletionStage<? extends T>> stages)
+	{
+		return sequence0(mapToEither(stages, null));
+	}
+
+	/**
+	 * Same as {@link #sequence(List)}, but a stage, which doesn't complete within the given time, fails with a
+	 * {@link Timeout}.
+	 *
+	 * @param stages  the stages to wait for
+	 * @param timeout how long to wait for each of the stages, measured from this call
+	 * @param <T>     type of results of the stages
+	 * @return a future of all results or the first failure
+	 */
+	public static <T> CompletableFuture<Either<Throwable, List<T>>> sequence(
+			List<? extends CompletionStage<? extends T>> stages,
+			Duration timeout)
+	{
+		Objects.requireNonNull(timeout, "timeout");
+		return sequence0(mapToEither(stages, timeout));
+	}
+
+	/**
+	 * Returns a future, which completes with a {@link Either.Right} of the first successful result among the given
+	 * stages, or with a {@link Either.Left} of failures of all stages in order, if all of them fail.
+	 *
+	 * @param stages the stages to wait for
+	 * @param <T>    type of results of the stages
+	 * @return a future of the first successful result or all failures
+	 */
+	public static <T> CompletableFuture<Either<List<Throwable>, T>> anyRight(
+			List<? extends CompletionStage<? extends T>> stages)
+	{
+		return anyRight0(mapToEither(stages, null));
+	}
+
+	/**
+	 * Same as {@link #anyRight(List)}, but a stage, which doesn't complete within the given time, fails with a
+	 * {@link Timeout}.
+	 *
+	 * @param stages  the stages to wait for
+	 * @param timeout how long to wait for each of the stages, measured from this call
+	 * @param <T>     type of results of the stages
+	 * @return a future of the first successful result or all failures
+	 */
+	public static <T> CompletableFuture<Either<List<Throwable>, T>> anyRight(
+			List<? extends CompletionStage<? extends T>> stages,
+			Duration timeout)
+	{
+		Objects.requireNonNull(timeout, "timeout");
+		return anyRight0(mapToEither(stages, timeout));
+	}
+
+	private static <T> List<CompletableFuture<Either<Throwable, T>>> mapToEither(
+			List<? extends CompletionStage<? extends T>> stages,
+			Duration timeout)
+	{
+		List<CompletableFuture<Either<Throwable, T>>> result = new ArrayList<>(stages.size());
+		for (CompletionStage<? extends T> stage : stages) {
+			result.add(timeout == null ? toEither(stage) : toEither(stage, timeout));
+		}
+		return result;
+	}
+
+	private static <T> CompletableFuture<List<Either<Throwable, T>>> allOf0(
+			List<CompletableFuture<Either<Throwable, T>>> futures)
+	{
+		int size = futures.size();
+		CompletableFuture<List<Either<Throwable, T>>> result = new CompletableFuture<>();
+		if (size == 0) {
+			result.complete(Collections.emptyList());
+			return result;
+		}
+		@SuppressWarnings("unchecked")
+		Either<Throwable, T>[] values = (Either<Throwable, T>[]) new Either<?, ?>[size];
+		AtomicInteger remaining = new AtomicInteger(size);
+		for (int i = 0; i < size; i++) {
+			int index = i;
+			futures.get(i).thenAccept(either -> {
+				values[index] = either;
+				// decrementing publishes the write above to the thread which completes the result
+				if (remaining.decrementAndGet() == 0) {
+					result.complete(Collections.unmodifiableList(Arrays.asList(values)));
+				}
+			});
+		}
+		return result;
+	}
+
+	private static <T> CompletableFuture<Either<Throwable, List<T>>> sequence0(
+			List<CompletableFuture<Either<Throwable, T>>> futures)
+	{
+		int size = futures.size();
+		CompletableFuture<Either<Throwable, List<T>>> result = new CompletableFuture<>();
+		if (size == 0) {
+			result.complete(Either.right(Collections.emptyList()));
+			return result;
+		}
+		Object[] values = new Object[size];
+		AtomicInteger remaining = new AtomicInteger(size);
+		for (int i = 0; i < size; i++) {
+			int index = i;
+			futures.get(i).thenAccept(either -> either.accept(
+					failure -> result.complete(Either.left(failure)),
+					t -> {
+						values[index] = t;
+						if (remaining.decrementAndGet() == 0) {
+							result.complete(Either.right(EitherFutures.<T>unmodifiableList(values)));
+						}
+					}
+			));
+		}
+		return result;
+	}
+
+	private static <T> CompletableFuture<Either<List<Throwable>, T>> anyRight0(
+			List<CompletableFuture<Either<Throwable, T>>> futures)
+	{
+		int size = futures.size();
+		CompletableFuture<Either<List<Throwable>, T>> result = new CompletableFuture<>();
+		if (size == 0) {
+			result.complete(Either.left(Collections.emptyList()));
+			return result;
+		}
+		Throwable[] failures = new Throwable[size];
+		AtomicInteger remaining = new AtomicInteger(size);
+		for (int i = 0; i < size; i++) {
+			int index = i;
+			futures.get(i).thenAccept(either -> either.accept(
+					failure -> {
+						failures[index] = failure;
+						if (remaining.decrementAndGet() == 0) {
+							result.complete(Either.left(Collections.unmodifiableList(Arrays.asList(failures))));
+						}
+					},
+					t -> result.complete(Either.right(t))
+			));
+		}
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> List<T> unmodifiableList(Object[] values) {
+		return Collections.unmodifiableList(Arrays.asList((T[]) values));
+	}
+
+	private static <T> Either<Throwable, T> either(T t, Throwable failure) {
+		if (failure == null) {
+			return Either.right(t);
+		}
+		return Either.left(unwrap(failure));
+	}
+
+	private static Throwable unwrap(Throwable failure) {
+		Throwable result = failure;
+		while ((result instanceof CompletionException || result instanceof ExecutionException)
+				&& result.getCause() != null)
+		{
+			result = result.getCause();
+		}
+		return result;
+	}
+
+	/**
+	 * Failure of a stage, which hasn't completed within the given time.  Instances of this exception don't have
+	 * a stack trace, because it would point into the timer thread.
+	 */
+	public static final class Timeout extends TimeoutException {
+		private static final long serialVersionUID = 1L;
+
+		private final Duration timeout;
+
+		/**
+		 * Creates a new {@link Timeout} for the given duration.
+		 *
+		 * @param timeout the time, which has expired
+		 */
+		public Timeout(Duration timeout) {
+			this.timeout = Objects.requireNonNull(timeout, "timeout");
+		}
+
+		/**
+		 * Returns the time, which has expired.
+		 *
+		 * @return the time, which has expired
+		 */
+		public Duration getTimeout() {
+			return timeout;
+		}
+
+		@Override
+		public String getMessage() {
+			return "Timed out after " + timeout;
+		}
+
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			return this;
+		}
+	}
+
+	/**
+	 * Timer for timeouts, which is created on first use.  This is a backport of {@code CompletableFuture.Delayer}
+	 * from Java 9.
+	 */
+	private static final class Delayer {
+		private static final ScheduledThreadPoolExecutor DELAYER;
+
+		static {
+			DELAYER = new ScheduledThreadPoolExecutor(1, r -> {
+				Thread thread = new Thread(r, "EitherFutures-Delayer");
+				thread.setDaemon(true);
+				return thread;
+			});
+			// timers of stages, which complete in time, are cancelled, don't keep them in the queue
+			DELAYER.setRemoveOnCancelPolicy(true);
+		}
+
+		private Delayer() {
+			throw new AssertionError();
+		}
+	}
+}
@@ -0,0 +1,244 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java8;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+/**
+ * Specialization of {@link Either} for values of primitive type {@code int} in the {@link Right Right}
+ * alternative.
+ * <p>
+ * An object of type {@code EitherInt<A>} contains either a value of type {@code A} ({@link Left Left} alternative)
+ * or a value of type {@code int} ({@link Right Right} alternative).  Unlike {@code Either<A, Integer>}, the
+ * {@code int} value is stored and passed to functions and consumers without boxing.
+ * </p>
+ * <p>
+ * If type {@code A} is {@link Serializable} then {@code EitherInt<A>} can be serialized.
+ * </p>
+ *
+ * @param <A> type for {@link Left}
+ * @see Either
+ */
+public abstract class EitherInt<A> implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Private to prevent inheritance from outside.
+	 */
+	private EitherInt() {
+	}
+
+	/**
+	 * Returns a {@link Left} containing given value of type {@code A}.
+	 *
+	 * @param <A> type for returned {@link Left}
+	 * @param a   value to be stored in the returned {@link Left}
+	 * @return a {@link Left} with the given value
+	 */
+	public static <A> EitherInt<A> left(A a) {
+		return new Left<>(a);
+	}
+
+	/**
+	 * Returns a {@link Right} containing given {@code int} value.
+	 *
+	 * @param <A> type for corresponding {@link Left}
+	 * @param b   value to be stored in the returned {@link Right}
+	 * @return a {@link Right} with the given value
+	 */
+	public static <A> EitherInt<A> right(int b) {
+		return new Right<>(b);
+	}
+
+	/**
+	 * Converts given {@link Either} into an {@link EitherInt}, unboxing the value of {@link Either.Right Right}.
+	 *
+	 * @param <A> type for {@link Left}
+	 * @param e   an {@link Either} to convert
+	 * @return an {@link EitherInt} with the same value as the given {@link Either}
+	 * @throws NullPointerException if the given {@link Either} is a {@link Either.Right Right} containing
+	 *                              {@code null}
+	 */
+	public static <A> EitherInt<A> fromEither(Either<? extends A, ? extends Integer> e) {
+		return e.match(EitherInt::left, b -> right(Objects.requireNonNull(b, "right value")));
+	}
+
+	/**
+	 * Pattern matches on this {@link EitherInt} and returns result of applying the corresponding function.
+	 *
+	 * @param f   function to apply to a value of {@link Left}
+	 * @param g   function to apply to a value of {@link Right}
+	 * @param <R> return type of functions
+	 * @return result of applying one of the functions to this {@link EitherInt}
+	 */
+	public abstract <R> R match(Function<? super A, ? extends R> f, IntFunction<? extends R> g);
+
+	/**
+	 * If this {@link EitherInt} is {@link Left Left}, performs the first given action with its value.
+	 * If this {@link EitherInt} is {@link Right Right}, performs the second given action with its value.
+	 *
+	 * @param f consumer to apply to a value of {@link Left}
+	 * @param g consumer to apply to a value of {@link Right}
+	 */
+	public abstract void accept(Consumer<? super A> f, IntConsumer g);
+
+	/**
+	 * If this {@link EitherInt} is a {@link Left Left}, performs the first given action with its value and returns this
+	 * {@link EitherInt}.  If this {@link EitherInt} is a {@link Right Right}, performs the second given action with its
+	 * value and returns this {@link EitherInt}.
+	 *
+	 * @param f consumer to apply to {@link Left}
+	 * @param g consumer to apply to {@link Right}
+	 * @return this {@link EitherInt}
+	 */
+	public abstract EitherInt<A> peek(Consumer<? super A> f, IntConsumer g);
+
+	/**
+	 * Converts this {@link EitherInt} into an {@link Either}, boxing the value of {@link Right Right}.
+	 *
+	 * @return an {@link Either} with the same value as this {@link EitherInt}
+	 */
+	public abstract Either<A, Integer> toEither();
+
+	/**
+	 * Left alternative of the {@link EitherInt EitherInt&lt;A&gt;} type, containing a value of type {@code A}.
+	 *
+	 * @param <A> type of the value in this {@link Left}
+	 */
+	static final class Left<A> extends EitherInt<A> {
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The value of this {@link Left}.
+		 */
+		private final A a;
+
+		private Left(A a) {
+			this.a = a;
+		}
+
+		@Override
+		public <R> R match(Function<? super A, ? extends R> f, IntFunction<? extends R> g) {
+			return f.apply(a);
+		}
+
+		@Override
+		public void accept(Consumer<? super A> f, IntConsumer g) {
+			f.accept(a);
+		}
+
+		@Override
+		public EitherInt<A> peek(Consumer<? super A> f, IntConsumer g) {
+			f.accept(a);
+			return this;
+		}
+
+		@Override
+		public Either<A, Integer> toEither() {
+			return Either.left(a);
+		}
+
+		/**
+		 * Indicates whether some other object is "equal to" this {@code Left}.  The other object is considered equal
+		 * if it is also a {@code Left} of {@link EitherInt} and their values are "equal to" each other via
+		 * {@code equals()}.
+		 *
+		 * @param o an object to be tested for equality
+		 * @return {@code true} if the other object is "equal to" this object otherwise {@code false}
+		 */
+		@Override
+		public boolean equals(Object o) {
+			if (this == o)
+				return true;
+			if (o == null || getClass() != o.getClass())
+				return false;
+
+			Left<?> left = (Left<?>) o;
+
+			return Objects.equals(a, left.a);
+		}
+
+		@Override
+		public int hashCode() {
+			return Hashing.left(Objects.hashCode(a));
+		}
+
+		@Override
+		public String toString() {
+			return "Left(" + a + ')';
+		}
+	}
+
+	/**
+	 * Right alternative of the {@link EitherInt EitherInt&lt;A&gt;} type, containing a value of type {@code int}.
+	 *
+	 * @param <A> type of the value in the corresponding {@link Left}
+	 */
+	static final class Right<A> extends EitherInt<A> {
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The value of this {@link Right}.
+		 */
+		private final int b;
+
+		private Right(int b) {
+			this.b = b;
+		}
+
+		@Override
+		public <R> R match(Function<? super A, ? extends R> f, IntFunction<? extends R> g) {
+			return g.apply(b);
+		}
+
+		@Override
+		public void accept(Consumer<? super A> f, IntConsumer g) {
+			g.accept(b);
+		}
+
+		@Override
+		public EitherInt<A> peek(Consumer<? super A> f, IntConsumer g) {
+			g.accept(b);
+			return this;
+		}
+
+		@Override
+		public Either<A, Integer> toEither() {
+			return Either.right(b);
+		}
+
+		/**
+		 * Indicates whether some other object is "equal to" this {@code Right}.  The other object is considered
+		 * equal if it is also a {@code Right} of {@link EitherInt} and their values are equal
+		 * to each other.
+		 *
+		 * @param o an object to be tested for equality
+		 * @return {@code true} if the other object is "equal to" this object otherwise {@code false}
+		 */
+		@Override
+		public boolean equals(Object o) {
+			if (this == o)
+				return true;
+			if (o == null || getClass() != o.getClass())
+				return false;
+
+			Right<?> right = (Right<?>) o;
+
+			return b == right.b;
+		}
+
+		@Override
+		public int hashCode() {
+			return Hashing.right(Integer.hashCode(b));
+		}
+
+		@Override
+		public String toString() {
+			return "Right(" + b + ')';
+		}
+	}
+}
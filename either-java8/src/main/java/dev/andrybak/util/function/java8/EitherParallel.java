@@ -0,0 +1,216 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java8;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Helper functions to apply functions, which return {@link Either}, to elements of collections on a
+ * {@link ForkJoinPool}.
+ */
+public class EitherParallel {
+	/**
+	 * Value of {@link Traversal#leftIndex} while no {@link Either.Left} has been found.
+	 */
+	private static final int NO_LEFT = Integer.MAX_VALUE;
+	/**
+	 * Value of {@link Traversal#leftIndex} after the function has thrown an exception.
+	 */
+	private static final int ABORTED = -1;
+	/**
+	 * Number of tasks per worker thread, which allows for some load balancing between threads.
+	 */
+	private static final int TASKS_PER_THREAD = 4;
+
+	private EitherParallel() {
+		throw new AssertionError();
+	}
+
+	/**
+	 * Which {@link Either.Left} result is returned by
+	 * {@link #traverse(Collection, Function, ForkJoinPool, LeftSelection)} when there are several of them.
+	 */
+	public enum LeftSelection {
+		/**
+		 * Return any {@link Either.Left} result, usually the one found first.  All workers stop as soon as a
+		 * {@link Either.Left} is found.
+		 */
+		ANY,
+		/**
+		 * Return the {@link Either.Left} result of the element with the lowest index in iteration order of the
+		 * collection, same as sequential traversal would.  After a {@link Either.Left} is found, only workers with
+		 * elements before it continue.
+		 */
+		LOWEST_INDEX,
+	}
+
+	/**
+	 * Same as {@link #traverse(Collection, Function, ForkJoinPool, LeftSelection)} with
+	 * {@link ForkJoinPool#commonPool()} and {@link LeftSelection#LOWEST_INDEX}.
+	 *
+	 * @param <T>   type of elements of the collection
+	 * @param <A>   type for {@link Either.Left}
+	 * @param <B>   type for {@link Either.Right}
+	 * @param input elements to traverse
+	 * @param f     function to apply to the elements
+	 * @return a {@link Either.Right} with a {@link List} of all {@link Either.Right} values in iteration order, or a
+	 * {@link Either.Left} with the value of the first {@link Either.Left}
+	 */
+	public static <T, A, B> Either<A, List<B>> traverse(Collection<? extends T> input,
+			Function<? super T, ? extends Either<? extends A, ? extends B>> f)
+	{
+		return traverse(input, f, ForkJoinPool.commonPool(), LeftSelection.LOWEST_INDEX);
+	}
+
+	/**
+	 * Applies the given function to elements of the given collection in parallel on the given pool, and returns
+	 * a {@link Either.Right Right} with results of the function, if all of them are {@link Either.Right Right}, or
+	 * a {@link Either.Left Left} result otherwise.
+	 * <p>
+	 * As soon as one of the workers gets a {@link Either.Left} result, the other workers stop applying the function to
+	 * their elements, as allowed by {@code leftSelection}.  Cancellation is cooperative: a call of the function,
+	 * which has already started, is not interrupted.  If the function throws an exception, the other workers stop
+	 * too, and the exception is rethrown to the caller.
+	 * </p>
+	 * <p>
+	 * The collection is copied into an array first, and its elements are split into ranges of indices between
+	 * the tasks.  The function must be safe to call from several threads at once.
+	 * </p>
+	 *
+	 * @param <T>           type of elements of the collection
+	 * @param <A>           type for {@link Either.Left}
+	 * @param <B>           type for {@link Either.Right}
+	 * @param input         elements to traverse
+	 * @param f             function to apply to the elements
+	 * @param pool          pool to run the function on
+	 * @param leftSelection which {@link Either.Left} result to return when there are several of them
+	 * @return a {@link Either.Right Right} with an unmodifiable {@link List} of all {@link Either.Right Right} values
+	 * in iteration order of the collection, or a {@link Either.Left Left} with the value of a
+	 * {@link Either.Left Left} result, chosen according to {@code leftSelection}
+	 */
+	public static <T, A, B> Either<A, List<B>> traverse(Collection<? extends T> input,
+			Function<? super T, ? extends Either<? extends A, ? extends B>> f,
+			ForkJoinPool pool,
+			LeftSelection leftSelection)
+	{
+		Objects.requireNonNull(f, "f");
+		Objects.requireNonNull(pool, "pool");
+		Objects.requireNonNull(leftSelection, "leftSelection");
+		Object[] values = input.toArray();
+		if (values.length == 0) {
+			return Either.right(Collections.emptyList());
+		}
+		int granularity = Math.max(1, values.length / (pool.getParallelism() * TASKS_PER_THREAD));
+		Traversal<T, A, B> traversal = new Traversal<>(values, f, granularity, leftSelection);
+		pool.invoke(traversal.new Task(0, values.length));
+		int leftIndex = traversal.leftIndex.get();
+		if (leftIndex != NO_LEFT) {
+			return Either.left(traversal.<A>valueAt(leftIndex));
+		}
+		return Either.right(traversal.rights());
+	}
+
+	/**
+	 * State shared by all tasks of one traversal.  Results of the function are written into {@link #values} in
+	 * place of the elements, each slot by a single task.
+	 *
+	 * @param <T> type of elements of the collection
+	 * @param <A> type for {@link Either.Left}
+	 * @param <B> type for {@link Either.Right}
+	 */
+	private static final class Traversal<T, A, B> {
+		private final Object[] values;
+		private final Function<? super T, ? extends Either<? extends A, ? extends B>> f;
+		private final int granularity;
+		private final boolean anyLeft;
+		/**
+		 * The lowest index of a {@link Either.Left} result found so far, {@link #NO_LEFT}, or {@link #ABORTED}.
+		 */
+		private final AtomicInteger leftIndex = new AtomicInteger(NO_LEFT);
+
+		private Traversal(Object[] values, Function<? super T, ? extends Either<? extends A, ? extends B>> f,
+				int granularity, LeftSelection leftSelection)
+		{
+			this.values = values;
+			this.f = f;
+			this.granularity = granularity;
+			this.anyLeft = leftSelection == LeftSelection.ANY;
+		}
+
+		/**
+		 * Returns {@code true} if the element at the given index no longer needs to be processed.
+		 */
+		private boolean isSkipped(int index) {
+			int left = leftIndex.get();
+			return anyLeft ? left != NO_LEFT : left < index;
+		}
+
+		private void cancelAfter(int index) {
+			int current;
+			do {
+				current = leftIndex.get();
+				if (current <= index) {
+					return;
+				}
+			} while (!leftIndex.compareAndSet(current, index));
+		}
+
+		@SuppressWarnings("unchecked")
+		private <V> V valueAt(int index) {
+			return (V) values[index];
+		}
+
+		@SuppressWarnings("unchecked")
+		private List<B> rights() {
+			return Collections.unmodifiableList(Arrays.asList((B[]) values));
+		}
+
+		@SuppressWarnings("unchecked")
+		private void process(int index) {
+			Either<? extends A, ? extends B> either = f.apply((T) values[index]);
+			values[index] = either.match(Function.identity(), Function.identity());
+			if (either instanceof Either.Left) {
+				cancelAfter(index);
+			}
+		}
+
+		private final class Task extends RecursiveAction {
+			private static final long serialVersionUID = 1L;
+
+			private final int from;
+			private final int to;
+
+			private Task(int from, int to) {
+				this.from = from;
+				this.to = to;
+			}
+
+			@Override
+			protected void compute() {
+				if (isSkipped(from)) {
+					return;
+				}
+				if (to - from > granularity) {
+					int mid = (from + to) >>> 1;
+					invokeAll(new Task(from, mid), new Task(mid, to));
+					return;
+				}
+				try {
+					for (int i = from; i < to && !isSkipped(i); i++) {
+						process(i);
+					}
+				} catch (RuntimeException | Error e) {
+					leftIndex.set(ABORTED);
+					throw e;
+				}
+			}
+		}
+	}
+}
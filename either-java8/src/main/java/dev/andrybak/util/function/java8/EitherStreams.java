@@ -1,13 +1,23 @@
 // SPDX-License-Identifier: MIT
 package dev.andrybak.util.function.java8;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Helper functions to use {@link Either} with {@link Stream}s.
  */
 public class EitherStreams {
+	private static final Consumer<Object> IGNORE = ignored -> {
+	};
+
 	private EitherStreams() {
 		throw new AssertionError();
 	}
@@ -22,14 +32,7 @@ private EitherStreams() {
 	 * @return {@link Stream Stream&lt;A&gt;} from {@link Either.Left Left} values of given {@link Stream}
 	 */
 	public static <A, B> Stream<A> lefts(Stream<? extends Either<? extends A, ? extends B>> eitherStream) {
-		return eitherStream
-				.filter(e -> e.match(left -> true, right -> false))
-				.map(Either.either(
-						Function.identity(),
-						right -> {
-							throw new IllegalStateException("Got a right value after filtering");
-						}
-				));
+		return project(eitherStream, (e, sink) -> e.accept(sink, IGNORE));
 	}
 
 	/**
@@ -42,13 +45,162 @@ public static <A, B> Stream<A> lefts(Stream<? extends Either<? extends A, ? exte
 	 * @return {@link Stream Stream&lt;B&gt;} from {@link Either.Right Right} values of given {@link Stream}
 	 */
 	public static <A, B> Stream<B> rights(Stream<? extends Either<? extends A, ? extends B>> eitherStream) {
-		return eitherStream
-				.filter(e -> e.match(left -> false, right -> true))
-				.map(Either.either(
-						left -> {
-							throw new IllegalStateException("Got a left value after filtering");
-						},
-						Function.identity()
-				));
+		return project(eitherStream, (e, sink) -> e.accept(IGNORE, sink));
+	}
+
+	/**
+	 * Returns a {@link Either.Right Right} with values of all elements of the given stream, if all of them are
+	 * {@link Either.Right Right}, or the first {@link Either.Left Left} element otherwise.  Elements after the first
+	 * {@link Either.Left Left} are not pulled from the stream, so that the work of upstream stages for them is not
+	 * done.
+	 * <p>
+	 * This is a terminal operation.
+	 * </p>
+	 *
+	 * @param <A>          type for {@link Either.Left}
+	 * @param <B>          type for {@link Either.Right}
+	 * @param eitherStream a {@link Stream} of {@link Either Either&lt;A, B&gt;}
+	 * @return a {@link Either.Right Right} with a {@link List} of all {@link Either.Right Right} values in encounter
+	 * order, or a {@link Either.Left Left} with the value of the first {@link Either.Left Left}
+	 */
+	public static <A, B> Either<A, List<B>> sequence(Stream<? extends Either<? extends A, ? extends B>> eitherStream) {
+		return traverse(eitherStream, Function.identity());
+	}
+
+	/**
+	 * Applies the given function to elements of the given stream, and returns a {@link Either.Right Right} with
+	 * results of the function, if all of them are {@link Either.Right Right}, or the first {@link Either.Left Left}
+	 * result otherwise.  Elements after the first {@link Either.Left Left} result are not pulled from the stream, and
+	 * the function is not applied to them.
+	 * <p>
+	 * This is a terminal operation.
+	 * </p>
+	 *
+	 * @param <T>    type of elements of the stream
+	 * @param <A>    type for {@link Either.Left}
+	 * @param <B>    type for {@link Either.Right}
+	 * @param stream a {@link Stream} of elements to traverse
+	 * @param f      function to apply to the elements
+	 * @return a {@link Either.Right Right} with a {@link List} of all {@link Either.Right Right} values in encounter
+	 * order, or a {@link Either.Left Left} with the value of the first {@link Either.Left Left}
+	 */
+	public static <T, A, B> Either<A, List<B>> traverse(Stream<T> stream,
+			Function<? super T, ? extends Either<? extends A, ? extends B>> f)
+	{
+		Objects.requireNonNull(f, "f");
+		Traversal<T, A, B> traversal = new Traversal<>(f);
+		Spliterator<T> spliterator = stream.spliterator();
+		while (traversal.failure == null && spliterator.tryAdvance(traversal)) {
+			// keep pulling elements until the first Left
+		}
+		if (traversal.failure != null) {
+			return traversal.failure;
+		}
+		return Either.right(traversal.rights);
+	}
+
+	private static <E, T> Stream<T> project(Stream<E> stream,
+			BiConsumer<? super E, ? super Consumer<? super T>> projection)
+	{
+		return StreamSupport.stream(new ProjectingSpliterator<>(stream.spliterator(), projection), stream.isParallel())
+				.onClose(stream::close);
+	}
+
+	/**
+	 * {@link Spliterator} which passes each element of the source to a projection function, which may pass zero or
+	 * one value to the sink.  This is a backport of {@code Stream.mapMulti} from Java 16, which allows implementing
+	 * {@link #lefts(Stream)} and {@link #rights(Stream)} with a single dispatch per element.
+	 *
+	 * @param <E> type of elements of the source
+	 * @param <T> type of elements of this {@link Spliterator}
+	 */
+	private static final class ProjectingSpliterator<E, T> implements Spliterator<T>, Consumer<E> {
+		private final Spliterator<E> source;
+		private final BiConsumer<? super E, ? super Consumer<? super T>> projection;
+		/**
+		 * Sink for {@link #tryAdvance(Consumer)}, which records if the projection has produced a value.
+		 */
+		private final Consumer<T> sink = t -> {
+			this.advanced = true;
+			this.action.accept(t);
+		};
+		private Consumer<? super T> action;
+		private boolean advanced;
+
+		private ProjectingSpliterator(Spliterator<E> source,
+				BiConsumer<? super E, ? super Consumer<? super T>> projection)
+		{
+			this.source = source;
+			this.projection = projection;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			this.action = action;
+			this.advanced = false;
+			try {
+				while (!advanced && source.tryAdvance(this)) {
+					// keep pulling elements from the source until the projection produces a value
+				}
+			} finally {
+				this.action = null;
+			}
+			return advanced;
+		}
+
+		@Override
+		public void accept(E e) {
+			projection.accept(e, sink);
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super T> action) {
+			source.forEachRemaining(e -> projection.accept(e, action));
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			Spliterator<E> prefix = source.trySplit();
+			return prefix == null ? null : new ProjectingSpliterator<>(prefix, projection);
+		}
+
+		@Override
+		public long estimateSize() {
+			return source.estimateSize();
+		}
+
+		@Override
+		public int characteristics() {
+			return source.characteristics() & (ORDERED | DISTINCT | IMMUTABLE | CONCURRENT);
+		}
+	}
+
+	/**
+	 * State of {@link #traverse(Stream, Function)}.
+	 *
+	 * @param <T> type of elements of the source
+	 * @param <A> type for {@link Either.Left}
+	 * @param <B> type for {@link Either.Right}
+	 */
+	private static final class Traversal<T, A, B> implements Consumer<T> {
+		private final Function<? super T, ? extends Either<? extends A, ? extends B>> f;
+		private final List<B> rights = new ArrayList<>();
+		private Either<A, List<B>> failure;
+
+		private Traversal(Function<? super T, ? extends Either<? extends A, ? extends B>> f) {
+			this.f = f;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public void accept(T t) {
+			Either<? extends A, ? extends B> either = f.apply(t);
+			Object value = either.match(Function.identity(), Function.identity());
+			if (either instanceof Either.Left) {
+				failure = Either.left((A) value);
+			} else {
+				rights.add((B) value);
+			}
+		}
 	}
 }
@@ -0,0 +1,438 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java8;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.BiFunction;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Helper functions to validate several values at once, which collect all {@link Either.Left} values as
+ * {@link Errors}, instead of stopping at the first one.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * Either<Errors<String>, User> user = EitherValidation.combine(
+ *         validateName(name),
+ *         validateEmail(email),
+ *         validateAge(age),
+ *         User::new
+ * );
+ * }</pre>
+ */
+public class EitherValidation {
+	private EitherValidation() {
+		throw new AssertionError();
+	}
+
+	/**
+	 * Applies the given function to values of the given {@link Either}s, if both of them are {@link Either.Right}.
+	 * Otherwise, returns all {@link Either.Left} values in order of arguments.
+	 *
+	 * @param e1       the first value
+	 * @param e2       the second value
+	 * @param combiner function to apply to values of {@link Either.Right}s
+	 * @param <E>      type of errors
+	 * @param <A>      type of the first value
+	 * @param <B>      type of the second value
+	 * @param <R>      return type of the combiner
+	 * @return a {@link Either.Right} with the result of the combiner, or a {@link Either.Left} with all errors
+	 */
+	public static <E, A, B, R> Either<Errors<E>, R> combine(
+			Either<? extends E, ? extends A> e1,
+			Either<? extends E, ? extends B> e2,
+			BiFunction<? super A, ? super B, ? extends R> combiner)
+	{
+		Objects.requireNonNull(combiner, "combiner");
+		Errors<E> errors = accumulate(accumulate(null, e1), e2);
+		if (errors != null) {
+			return Either.left(errors);
+		}
+		return Either.right(combiner.apply(rightValue(e1), rightValue(e2)));
+	}
+
+	/**
+	 * Applies the given function to values of the given {@link Either}s, if all of them are {@link Either.Right}.
+	 * Otherwise, returns all {@link Either.Left} values in order of arguments.
+	 *
+	 * @param e1       the first value
+	 * @param e2       the second value
+	 * @param e3       the third value
+	 * @param combiner function to apply to values of {@link Either.Right}s
+	 * @param <E>      type of errors
+	 * @param <A>      type of the first value
+	 * @param <B>      type of the second value
+	 * @param <C>      type of the third value
+	 * @param <R>      return type of the combiner
+	 * @return a {@link Either.Right} with the result of the combiner, or a {@link Either.Left} with all errors
+	 */
+	public static <E, A, B, C, R> Either<Errors<E>, R> combine(
+			Either<? extends E, ? extends A> e1,
+			Either<? extends E, ? extends B> e2,
+			Either<? extends E, ? extends C> e3,
+			Function3<? super A, ? super B, ? super C, ? extends R> combiner)
+	{
+		Objects.requireNonNull(combiner, "combiner");
+		Errors<E> errors = accumulate(accumulate(accumulate(null, e1), e2), e3);
+		if (errors != null) {
+			return Either.left(errors);
+		}
+		return Either.right(combiner.apply(rightValue(e1), rightValue(e2), rightValue(e3)));
+	}
+
+	/**
+	 * Applies the given function to values of the given {@link Either}s, if all of them are {@link Either.Right}.
+	 * Otherwise, returns all {@link Either.Left} values in order of arguments.
+	 *
+	 * @param e1       the first value
+	 * @param e2       the second value
+	 * @param e3       the third value
+	 * @param e4       the fourth value
+	 * @param combiner function to apply to values of {@link Either.Right}s
+	 * @param <E>      type of errors
+	 * @param <A>      type of the first value
+	 * @param <B>      type of the second value
+	 * @param <C>      type of the third value
+	 * @param <D>      type of the fourth value
+	 * @param <R>      return type of the combiner
+	 * @return a {@link Either.Right} with the result of the combiner, or a {@link Either.Left} with all errors
+	 */
+	public static <E, A, B, C, D, R> Either<Errors<E>, R> combine(
+			Either<? extends E, ? extends A> e1,
+			Either<? extends E, ? extends B> e2,
+			Either<? extends E, ? extends C> e3,
+			Either<? extends E, ? extends D> e4,
+			Function4<? super A, ? super B, ? super C, ? super D, ? extends R> combiner)
+	{
+		Objects.requireNonNull(combiner, "combiner");
+		Errors<E> errors = accumulate(accumulate(accumulate(accumulate(null, e1), e2), e3), e4);
+		if (errors != null) {
+			return Either.left(errors);
+		}
+		return Either.right(combiner.apply(rightValue(e1), rightValue(e2), rightValue(e3), rightValue(e4)));
+	}
+
+	/**
+	 * Returns a {@link Collector}, which collects values of {@link Either.Right} elements into a {@link List}, if
+	 * there are no {@link Either.Left} elements, or all values of {@link Either.Left} elements into {@link Errors}
+	 * otherwise.  After the first {@link Either.Left}, values of {@link Either.Right}s are no longer kept.
+	 *
+	 * @param <E> type of errors
+	 * @param <A> type for {@link Either.Right}
+	 * @return a {@link Collector}, which accumulates all errors
+	 */
+	public static <E, A> Collector<Either<? extends E, ? extends A>, ?, Either<Errors<E>, List<A>>> collecting() {
+		return Collector.of(
+				Accumulator<E, A>::new,
+				Accumulator::add,
+				Accumulator::merge,
+				Accumulator::finish
+		);
+	}
+
+	private static <E> Errors<E> accumulate(Errors<E> errors, Either<? extends E, ?> e) {
+		return e.match(a -> errors == null ? Errors.of(a) : errors.append(a), b -> errors);
+	}
+
+	private static <B> B rightValue(Either<?, ? extends B> e) {
+		return e.match(a -> null, b -> b);
+	}
+
+	private static final class Accumulator<E, A> {
+		private List<A> values = new ArrayList<>();
+		private Errors<E> errors;
+
+		void add(Either<? extends E, ? extends A> e) {
+			if (errors == null) {
+				e.accept(a -> errors = Errors.of(a), values::add);
+			} else {
+				e.accept(a -> errors = errors.append(a), b -> {});
+			}
+			if (errors != null) {
+				values = null;
+			}
+		}
+
+		Accumulator<E, A> merge(Accumulator<E, A> other) {
+			if (other.errors != null) {
+				errors = errors == null ? other.errors : errors.concat(other.errors);
+				values = null;
+			} else if (errors == null) {
+				values.addAll(other.values);
+			}
+			return this;
+		}
+
+		Either<Errors<E>, List<A>> finish() {
+			if (errors != null) {
+				return Either.left(errors);
+			}
+			return Either.right(values);
+		}
+	}
+
+	/**
+	 * Function of three arguments for {@link #combine(Either, Either, Either, Function3)}.
+	 *
+	 * @param <T1> type of the first argument
+	 * @param <T2> type of the second argument
+	 * @param <T3> type of the third argument
+	 * @param <R>  return type
+	 */
+	@FunctionalInterface
+	public interface Function3<T1, T2, T3, R> {
+		/**
+		 * Applies this function to the given arguments.
+		 *
+		 * @param t1 the first argument
+		 * @param t2 the second argument
+		 * @param t3 the third argument
+		 * @return the result
+		 */
+		R apply(T1 t1, T2 t2, T3 t3);
+	}
+
+	/**
+	 * Function of four arguments for {@link #combine(Either, Either, Either, Either, Function4)}.
+	 *
+	 * @param <T1> type of the first argument
+	 * @param <T2> type of the second argument
+	 * @param <T3> type of the third argument
+	 * @param <T4> type of the fourth argument
+	 * @param <R>  return type
+	 */
+	@FunctionalInterface
+	public interface Function4<T1, T2, T3, T4, R> {
+		/**
+		 * Applies this function to the given arguments.
+		 *
+		 * @param t1 the first argument
+		 * @param t2 the second argument
+		 * @param t3 the third argument
+		 * @param t4 the fourth argument
+		 * @return the result
+		 */
+		R apply(T1 t1, T2 t2, T3 t3, T4 t4);
+	}
+
+	/**
+	 * Immutable non-empty sequence of errors.  Both {@link #append(Object)} and {@link #concat(Errors)} take constant
+	 * time and share structure with their arguments, so accumulating {@code n} errors one by one takes {@code O(n)}
+	 * time in total.  Conversion to a {@link List} and iteration take time linear in {@link #size()}, regardless of
+	 * how the sequence was built.
+	 *
+	 * @param <E> type of errors
+	 */
+	public abstract static class Errors<E> implements Iterable<E> {
+		private final int size;
+
+		private Errors(int size) {
+			this.size = size;
+		}
+
+		/**
+		 * Returns a sequence with a single error.
+		 *
+		 * @param error the error
+		 * @param <E>   type of errors
+		 * @return a new sequence
+		 */
+		public static <E> Errors<E> of(E error) {
+			return new Single<>(error);
+		}
+
+		/**
+		 * Returns a sequence with the given errors.
+		 *
+		 * @param first  the first error
+		 * @param others the other errors
+		 * @param <E>    type of errors
+		 * @return a new sequence
+		 */
+		@SafeVarargs
+		public static <E> Errors<E> of(E first, E... others) {
+			Errors<E> result = of(first);
+			for (E error : others) {
+				result = result.append(error);
+			}
+			return result;
+		}
+
+		/**
+		 * Returns a sequence with the errors of this sequence followed by the given error.  This sequence is not
+		 * changed.
+		 *
+		 * @param error the error to append
+		 * @return a new sequence
+		 */
+		public Errors<E> append(E error) {
+			return new Snoc<>(this, error);
+		}
+
+		/**
+		 * Returns a sequence with the errors of this sequence followed by the errors of the given sequence.  Neither
+		 * of the sequences is changed.
+		 *
+		 * @param other the errors to append
+		 * @return a new sequence
+		 */
+		public Errors<E> concat(Errors<? extends E> other) {
+			return new Concat<>(this, other);
+		}
+
+		/**
+		 * Returns the number of errors in this sequence.
+		 *
+		 * @return the number of errors, always positive
+		 */
+		public int size() {
+			return size;
+		}
+
+		/**
+		 * Returns the errors of this sequence as an unmodifiable {@link List}.
+		 *
+		 * @return a new list
+		 */
+		public List<E> toList() {
+			return new ArrayView<>(flatten());
+		}
+
+		@Override
+		public Iterator<E> iterator() {
+			return toList().iterator();
+		}
+
+		/**
+		 * Returns a sequential {@link Stream} of the errors of this sequence.
+		 *
+		 * @return a new stream
+		 */
+		public Stream<E> stream() {
+			return StreamSupport.stream(toList().spliterator(), false);
+		}
+
+		/**
+		 * Copies the errors into an array in a single pass without recursion, so that sequences built by millions
+		 * of {@link #append(Object)} or {@link #concat(Errors)} calls don't overflow the stack.
+		 */
+		private Object[] flatten() {
+			Object[] result = new Object[size];
+			// right-hand sides of Concat nodes, which are yet to be copied, and their offsets in the result
+			Errors<?>[] stack = new Errors<?>[8];
+			int[] offsets = new int[8];
+			stack[0] = this;
+			int depth = 1;
+			while (depth > 0) {
+				depth--;
+				Errors<?> node = stack[depth];
+				int offset = offsets[depth];
+				stack[depth] = null;
+				while (true) {
+					if (node instanceof Single) {
+						result[offset] = ((Single<?>) node).error;
+						break;
+					} else if (node instanceof Snoc) {
+						Snoc<?> snoc = (Snoc<?>) node;
+						result[offset + snoc.prefix.size] = snoc.error;
+						node = snoc.prefix;
+					} else {
+						Concat<?> concat = (Concat<?>) node;
+						if (depth == stack.length) {
+							stack = Arrays.copyOf(stack, depth * 2);
+							offsets = Arrays.copyOf(offsets, depth * 2);
+						}
+						stack[depth] = concat.right;
+						offsets[depth] = offset + concat.left.size;
+						depth++;
+						node = concat.left;
+					}
+				}
+			}
+			return result;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Errors)) {
+				return false;
+			}
+			Errors<?> other = (Errors<?>) o;
+			return size == other.size && Arrays.equals(flatten(), other.flatten());
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(flatten());
+		}
+
+		@Override
+		public String toString() {
+			return Arrays.toString(flatten());
+		}
+	}
+
+	private static final class Single<E> extends Errors<E> {
+		private final E error;
+
+		private Single(E error) {
+			super(1);
+			this.error = error;
+		}
+	}
+
+	/**
+	 * A sequence of {@link #prefix} followed by a single {@link #error}.  Appending a single error is the most common
+	 * operation, so it needs one object instead of a {@link Concat} with a {@link Single}.
+	 */
+	private static final class Snoc<E> extends Errors<E> {
+		private final Errors<E> prefix;
+		private final E error;
+
+		private Snoc(Errors<E> prefix, E error) {
+			super(Math.addExact(prefix.size(), 1));
+			this.prefix = prefix;
+			this.error = error;
+		}
+	}
+
+	private static final class Concat<E> extends Errors<E> {
+		private final Errors<? extends E> left;
+		private final Errors<? extends E> right;
+
+		private Concat(Errors<? extends E> left, Errors<? extends E> right) {
+			super(Math.addExact(left.size(), right.size()));
+			this.left = left;
+			this.right = right;
+		}
+	}
+
+	private static final class ArrayView<E> extends AbstractList<E> implements RandomAccess {
+		private final Object[] elements;
+
+		private ArrayView(Object[] elements) {
+			this.elements = elements;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public E get(int index) {
+			return (E) elements[index];
+		}
+
+		@Override
+		public int size() {
+			return elements.length;
+		}
+	}
+}
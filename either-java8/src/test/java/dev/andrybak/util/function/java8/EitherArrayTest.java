@@ -0,0 +1,175 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java8;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EitherArrayTest {
+	/**
+	 * Values, which cross several words of the bitset, with lefts at indices divisible by three.
+	 */
+	private static List<Either<String, Integer>> values(int size) {
+		return IntStream.range(0, size)
+				.mapToObj(i -> i % 3 == 0 ? Either.<String, Integer>left("L" + i) : Either.<String, Integer>right(i))
+				.collect(Collectors.toList());
+	}
+
+	@Test
+	void testThatGetAndIsLeftWork() {
+		List<Either<String, Integer>> expected = values(200);
+		EitherArray<String, Integer> array = EitherArray.copyOf(expected);
+		assertEquals(200, array.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i), array.get(i));
+			assertEquals(i % 3 == 0, array.isLeft(i));
+		}
+	}
+
+	@Test
+	void testThatIndexIsChecked() {
+		EitherArray<String, Integer> array = EitherArray.copyOf(values(3));
+		assertAll(
+				() -> assertThrows(IndexOutOfBoundsException.class, () -> array.get(-1)),
+				() -> assertThrows(IndexOutOfBoundsException.class, () -> array.get(3)),
+				() -> assertThrows(IndexOutOfBoundsException.class, () -> array.isLeft(3))
+		);
+	}
+
+	@Test
+	void testThatForEachPassesValuesInOrder() {
+		List<Object> actual = new ArrayList<>();
+		EitherArray.copyOf(values(130)).forEach(a -> actual.add(a), b -> actual.add(b));
+		List<Object> expected = values(130).stream()
+				.map(e -> e.match(a -> (Object) a, b -> b))
+				.collect(Collectors.toList());
+		assertEquals(expected, actual);
+	}
+
+	@Test
+	void testThatLeftsAndRightsWork() {
+		EitherArray<String, Integer> array = EitherArray.copyOf(values(7));
+		assertEquals(Arrays.asList("L0", "L3", "L6"), array.lefts());
+		assertEquals(Arrays.asList(1, 2, 4, 5), array.rights());
+		assertThrows(UnsupportedOperationException.class, () -> array.lefts().set(0, "foo"));
+		assertThrows(IndexOutOfBoundsException.class, () -> array.rights().get(4));
+	}
+
+	@Test
+	void testThatNullValuesWork() {
+		EitherArray<String, Integer> array = EitherArray.<String, Integer>builder()
+				.addLeft(null)
+				.addRight(null)
+				.add(Either.leftNull())
+				.build();
+		assertAll(
+				() -> assertEquals(Either.leftNull(), array.get(0)),
+				() -> assertEquals(Either.rightNull(), array.get(1)),
+				() -> assertEquals(Either.leftNull(), array.get(2)),
+				() -> assertNull(array.lefts().get(1))
+		);
+	}
+
+	@Test
+	void testThatEmptyArrayWorks() {
+		EitherArray<String, Integer> array = EitherArray.<String, Integer>builder(10).build();
+		assertSame(EitherArray.empty(), array);
+		assertTrue(array.isEmpty());
+		assertEquals(0, array.stream().count());
+		assertTrue(array.lefts().isEmpty());
+		assertEquals("[]", array.toString());
+	}
+
+	@Test
+	void testThatBuilderCanBeReused() {
+		EitherArray.Builder<String, Integer> builder = EitherArray.builder(1);
+		builder.addLeft("foo");
+		EitherArray<String, Integer> first = builder.build();
+		builder.addRight(1);
+		EitherArray<String, Integer> second = builder.build();
+		assertEquals(1, first.size());
+		assertEquals(Arrays.asList(Either.left("foo"), Either.right(1)), second.stream().collect(Collectors.toList()));
+		assertThrows(IllegalArgumentException.class, () -> EitherArray.builder(-1));
+	}
+
+	@Test
+	void testThatBuilderDoesNotChangeBuiltArrays() {
+		EitherArray.Builder<String, Integer> builder = EitherArray.builder(2);
+		builder.addLeft("foo");
+		builder.addLeft("bar");
+		EitherArray<String, Integer> first = builder.build();
+		builder.addLeft("baz");
+		builder.addRight(1);
+		EitherArray<String, Integer> second = builder.build();
+		assertEquals(Arrays.asList("foo", "bar"), first.lefts());
+		assertEquals(Arrays.asList("foo", "bar", "baz"), second.lefts());
+		assertEquals(Arrays.asList(1), second.rights());
+	}
+
+	@Test
+	void testThatCopyOfCollectionWorks() {
+		List<Either<String, Integer>> values = values(1000);
+		EitherArray<String, Integer> array = EitherArray.copyOf(values);
+		assertEquals(values, array.stream().collect(Collectors.toList()));
+		assertEquals(334, array.lefts().size());
+		assertEquals(666, array.rights().size());
+	}
+
+	@Test
+	void testThatStreamsWork() {
+		List<Either<String, Integer>> expected = values(10_000);
+		EitherArray<String, Integer> array = EitherArray.copyOf(expected);
+		assertAll(
+				() -> assertEquals(expected, array.stream().collect(Collectors.toList())),
+				() -> assertEquals(expected, array.parallelStream().collect(Collectors.toList())),
+				() -> assertEquals(expected.subList(5000, 5100), array.stream().skip(5000).limit(100)
+						.collect(Collectors.toList()))
+		);
+	}
+
+	@Test
+	void testThatSpliteratorSplitsEvenly() {
+		EitherArray<String, Integer> array = EitherArray.copyOf(values(101));
+		Spliterator<Either<String, Integer>> suffix = array.spliterator();
+		assertTrue(suffix.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+		Spliterator<Either<String, Integer>> prefix = suffix.trySplit();
+		assertNotNull(prefix);
+		assertEquals(50, prefix.estimateSize());
+		assertEquals(51, suffix.estimateSize());
+		List<Either<String, Integer>> actual = new ArrayList<>();
+		prefix.forEachRemaining(actual::add);
+		assertTrue(suffix.tryAdvance(actual::add));
+		suffix.forEachRemaining(actual::add);
+		assertFalse(suffix.tryAdvance(actual::add));
+		assertEquals(values(101), actual);
+	}
+
+	@Test
+	void testThatIteratorWorks() {
+		List<Either<String, Integer>> actual = new ArrayList<>();
+		for (Either<String, Integer> either : EitherArray.copyOf(values(65))) {
+			actual.add(either);
+		}
+		assertEquals(values(65), actual);
+	}
+
+	@Test
+	void testThatToStringWorks() {
+		assertEquals("[" + Either.left("L0") + ", " + Either.right(1) + "]",
+				EitherArray.copyOf(values(2)).toString());
+	}
+}
@@ -0,0 +1,119 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java8;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EitherChainTest {
+	private static Either<String, Integer> parse(String s) {
+		try {
+			return Either.right(Integer.parseInt(s));
+		} catch (NumberFormatException e) {
+			return Either.left(s);
+		}
+	}
+
+	@Test
+	void testThatEmptyChainReturnsStartingValue() {
+		assertEquals(Either.right("foo"), EitherChain.of("foo").run());
+	}
+
+	@Test
+	void testThatStepsAreAppliedInOrder() {
+		Either<String, String> actual = EitherChain.<String, String>of("20")
+				.then(EitherChainTest::parse)
+				.map(i -> i + 1)
+				.then(i -> i > 0 ? Either.right(i * 2) : Either.left("negative"))
+				.map(i -> "result " + i)
+				.run();
+		assertEquals(Either.right("result 42"), actual);
+	}
+
+	@Test
+	void testThatChainStopsAtFirstLeft() {
+		AtomicInteger applied = new AtomicInteger();
+		Either<String, Integer> left = Either.left("bar");
+		Either<String, Integer> actual = EitherChain.<String, String>of("bar")
+				.map(s -> {
+					applied.incrementAndGet();
+					return s;
+				})
+				.then(s -> left)
+				.map(i -> {
+					applied.incrementAndGet();
+					return i;
+				})
+				.run();
+		assertSame(left, actual);
+		assertEquals(1, applied.get());
+	}
+
+	@Test
+	void testThatChainFromLeftSkipsAllSteps() {
+		Either<String, Integer> start = Either.left("foo");
+		Either<String, Integer> actual = EitherChain.from(start)
+				.map(i -> {
+					throw new AssertionError("Step must not be called");
+				})
+				.map(i -> 1)
+				.run();
+		assertSame(start, actual);
+	}
+
+	@Test
+	void testThatChainFromRightReturnsItAsIs() {
+		Either<String, Integer> start = Either.right(42);
+		assertSame(start, EitherChain.from(start).run());
+	}
+
+	@Test
+	void testThatLongChainsDoNotOverflowStack() {
+		int depth = 100_000;
+		EitherChain<String, Integer> chain = EitherChain.of(0);
+		for (int i = 0; i < depth; i++) {
+			chain = i % 2 == 0 ? chain.map(x -> x + 1) : chain.then(x -> Either.right(x + 1));
+		}
+		assertEquals(depth, chain.length());
+		assertEquals(Either.right(depth), chain.run());
+	}
+
+	@Test
+	void testThatChainsCanBeRunAndExtendedIndependently() {
+		EitherChain<String, Integer> base = EitherChain.<String, String>of("5").then(EitherChainTest::parse);
+		EitherChain<String, Integer> doubled = base.map(i -> i * 2);
+		EitherChain<String, Integer> negated = base.map(i -> -i);
+		assertEquals(Either.right(5), base.run());
+		assertEquals(Either.right(10), doubled.run());
+		assertEquals(Either.right(10), doubled.run());
+		assertEquals(Either.right(-5), negated.run());
+		assertEquals(1, base.length());
+	}
+
+	@Test
+	void testThatExceptionsOfStepsArePropagated() {
+		EitherChain<String, Integer> chain = EitherChain.<String, Integer>of(1).map(i -> {
+			throw new IllegalStateException("foo");
+		});
+		IllegalStateException e = assertThrows(IllegalStateException.class, chain::run);
+		assertEquals("foo", e.getMessage());
+	}
+
+	@Test
+	void testThatNullStepsAreRejected() {
+		EitherChain<String, Integer> chain = EitherChain.of(1);
+		assertThrows(NullPointerException.class, () -> chain.map(null));
+		assertThrows(NullPointerException.class, () -> chain.then(null));
+	}
+
+	@Test
+	void testThatNullStepResultIsReported() {
+		EitherChain<String, Integer> chain = EitherChain.<String, Integer>of(1).then(i -> null);
+		NullPointerException e = assertThrows(NullPointerException.class, chain::run);
+		assertEquals("step result", e.getMessage());
+	}
+}
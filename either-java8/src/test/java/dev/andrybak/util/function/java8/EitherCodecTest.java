@@ -0,0 +1,131 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java8;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EitherCodecTest {
+	private static final EitherCodec<String, Long> CODEC = EitherCodec.of(
+			EitherCodec.ValueCodec.utf8(),
+			EitherCodec.ValueCodec.int64()
+	);
+
+	private static <A, B> Either<A, B> roundTrip(EitherCodec<A, B> codec, Either<A, B> either) {
+		ByteBuffer buffer = ByteBuffer.allocate(codec.size(either));
+		codec.encode(either, buffer);
+		assertEquals(0, buffer.remaining());
+		buffer.flip();
+		Either<A, B> result = codec.decode(buffer);
+		assertEquals(0, buffer.remaining());
+		return result;
+	}
+
+	@Test
+	void testThatRoundTripWorks() {
+		assertAll(
+				() -> assertEquals(Either.left("foo"), roundTrip(CODEC, Either.left("foo"))),
+				() -> assertEquals(Either.left(""), roundTrip(CODEC, Either.left(""))),
+				() -> assertEquals(Either.right(Long.MIN_VALUE), roundTrip(CODEC, Either.right(Long.MIN_VALUE))),
+				() -> assertSame(Either.leftNull(), roundTrip(CODEC, Either.left(null))),
+				() -> assertSame(Either.rightNull(), roundTrip(CODEC, Either.right(null)))
+		);
+	}
+
+	@Test
+	void testThatNonAsciiStringsWork() {
+		String[] strings = {"\u00e9t\u00e9", "\u4f60\u597d", "\ud83d\ude00 emoji", "unpaired \ud83d surrogate"};
+		for (String s : strings) {
+			Either<String, Long> either = Either.left(s);
+			assertEquals(Integer.BYTES + s.getBytes(StandardCharsets.UTF_8).length + 1, CODEC.size(either), s);
+			assertEquals(Either.left(new String(s.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8)),
+					roundTrip(CODEC, either), s);
+		}
+	}
+
+	@Test
+	void testThatEncodingIsCompact() {
+		assertAll(
+				() -> assertEquals(1 + Integer.BYTES + 3, CODEC.size(Either.left("foo"))),
+				() -> assertEquals(1 + Long.BYTES, CODEC.size(Either.right(42L))),
+				() -> assertEquals(1, CODEC.size(Either.left(null)))
+		);
+	}
+
+	@Test
+	void testThatEncodeAllAndDecodeAllWork() {
+		List<Either<String, Long>> input = Arrays.asList(
+				Either.left("Hello"),
+				Either.right(1L),
+				Either.rightNull(),
+				Either.left("World")
+		);
+		ByteBuffer buffer = CODEC.encodeAll(input);
+		assertTrue(buffer.isDirect());
+		assertEquals(0, buffer.position());
+		assertEquals(input, CODEC.decodeAll(buffer));
+		assertEquals(0, buffer.remaining());
+	}
+
+	@Test
+	void testThatDecodingBytesDoesNotCopy() {
+		EitherCodec<String, ByteBuffer> codec = EitherCodec.of(
+				EitherCodec.ValueCodec.utf8(),
+				EitherCodec.ValueCodec.bytes()
+		);
+		ByteBuffer payload = ByteBuffer.wrap(new byte[]{1, 2, 3});
+		ByteBuffer buffer = codec.encodeAll(Arrays.asList(Either.right(payload), Either.left("x")));
+		assertEquals(0, payload.position());
+		List<Either<String, ByteBuffer>> decoded = codec.decodeAll(buffer);
+		ByteBuffer slice = decoded.get(0).match(a -> null, b -> b);
+		assertEquals(payload, slice);
+		assertTrue(slice.isReadOnly());
+		assertTrue(slice.isDirect(), "slice should share the direct buffer");
+		buffer.put(Integer.BYTES + 1 + Integer.BYTES, (byte) 42);
+		assertEquals(42, slice.get(0));
+		assertEquals(Either.left("x"), decoded.get(1));
+	}
+
+	@Test
+	void testThatBufferOverflowLeavesPositionUnchanged() {
+		ByteBuffer buffer = ByteBuffer.allocate(6);
+		buffer.position(1);
+		assertThrows(BufferOverflowException.class, () -> CODEC.encode(Either.right(42L), buffer));
+		assertEquals(1, buffer.position());
+	}
+
+	@Test
+	void testThatTruncatedInputIsRejected() {
+		ByteBuffer buffer = ByteBuffer.allocate(CODEC.size(Either.left("foo")));
+		CODEC.encode(Either.left("foo"), buffer);
+		buffer.flip();
+		buffer.limit(buffer.limit() - 1);
+		assertThrows(BufferUnderflowException.class, () -> CODEC.decode(buffer));
+	}
+
+	@Test
+	void testThatUnknownTagIsRejected() {
+		ByteBuffer buffer = ByteBuffer.wrap(new byte[]{0x04});
+		assertThrows(IllegalArgumentException.class, () -> CODEC.decode(buffer));
+	}
+
+	@Test
+	void testThatNullCodecsAreRejected() {
+		EitherCodec.ValueCodec<Integer> int32 = EitherCodec.ValueCodec.int32();
+		assertAll(
+				() -> assertThrows(NullPointerException.class, () -> EitherCodec.of(null, int32)),
+				() -> assertThrows(NullPointerException.class, () -> EitherCodec.of(int32, null))
+		);
+	}
+}
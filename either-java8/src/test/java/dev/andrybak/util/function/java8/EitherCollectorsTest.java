@@ -0,0 +1,149 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java8;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EitherCollectorsTest {
+	@Test
+	void testThatPartitioningWorks() {
+		Stream<Either<String, Integer>> input = Stream.of(
+				Either.left("Hello"),
+				Either.right(0),
+				Either.left("World"),
+				Either.right(1),
+				Either.left("foobar"),
+				Either.right(2)
+		);
+		Map.Entry<List<String>, List<Integer>> actual = input
+				.collect(EitherCollectors.partitioning(toList(), toList()));
+		assertEquals(Arrays.asList("Hello", "World", "foobar"), actual.getKey());
+		assertEquals(Arrays.asList(0, 1, 2), actual.getValue());
+	}
+
+	@Test
+	void testThatPartitioningAppliesMerger() {
+		Stream<Either<String, Integer>> input = Stream.of(
+				Either.right(0),
+				Either.left("Hello"),
+				Either.right(1),
+				Either.left("World")
+		);
+		String actual = input.collect(EitherCollectors.partitioning(
+				Collectors.joining(" "),
+				Collectors.summingInt(Integer::intValue),
+				(s, sum) -> s + " " + sum
+		));
+		assertEquals("Hello World 1", actual);
+	}
+
+	@Test
+	void testThatPartitioningOfEmptyStreamWorks() {
+		Map.Entry<List<String>, Long> actual = Stream.<Either<String, Integer>>empty()
+				.collect(EitherCollectors.partitioning(toList(), Collectors.counting()));
+		assertTrue(actual.getKey().isEmpty());
+		assertEquals(0L, actual.getValue());
+	}
+
+	@Test
+	void testThatPartitioningAcceptsStreamsOfSubClass() {
+		Stream<Either<String, Integer>> input = Stream.of(
+				Either.left("Hello"),
+				Either.right(0),
+				Either.left("World"),
+				Either.right(1)
+		);
+		Collector<Either<? extends CharSequence, ? extends Number>, ?, Map.Entry<List<CharSequence>, List<Number>>>
+				collector = EitherCollectors.partitioning(toList(), toList());
+		Map.Entry<List<CharSequence>, List<Number>> actual = input.collect(collector);
+		assertEquals(Arrays.asList("Hello", "World"), actual.getKey());
+		assertEquals(Arrays.asList(0, 1), actual.getValue());
+	}
+
+	@Test
+	void testThatParallelPartitioningKeepsOrder() {
+		List<Either<Integer, Integer>> input = IntStream.range(0, 10_000)
+				.mapToObj(i -> i % 3 == 0 ? Either.<Integer, Integer>left(i) : Either.<Integer, Integer>right(i))
+				.collect(toList());
+		Map.Entry<List<Integer>, List<Integer>> actual = input.parallelStream()
+				.collect(EitherCollectors.partitioning(toList(), toList()));
+		assertEquals(IntStream.range(0, 10_000).filter(i -> i % 3 == 0).boxed().collect(toList()), actual.getKey());
+		assertEquals(IntStream.range(0, 10_000).filter(i -> i % 3 != 0).boxed().collect(toList()), actual.getValue());
+	}
+
+	@Test
+	void testThatPartitioningCharacteristicsAreIntersected() {
+		assertFalse(EitherCollectors.partitioning(toList(), Collectors.toSet()).characteristics()
+				.contains(Collector.Characteristics.UNORDERED));
+		assertTrue(EitherCollectors.partitioning(Collectors.toSet(), Collectors.toSet()).characteristics()
+				.contains(Collector.Characteristics.UNORDERED));
+		assertFalse(EitherCollectors.partitioning(toList(), toList()).characteristics()
+				.contains(Collector.Characteristics.IDENTITY_FINISH));
+	}
+
+	@Test
+	void testThatPartitioningConcurrentWorks() {
+		Stream<Either<String, Integer>> input = Stream.of(
+				Either.left("Hello"),
+				Either.right(0),
+				Either.left("World"),
+				Either.right(1)
+		);
+		Map.Entry<List<String>, List<Integer>> actual = input.collect(EitherCollectors.partitioningConcurrent());
+		assertEquals(Arrays.asList("Hello", "World"), actual.getKey());
+		assertEquals(Arrays.asList(0, 1), actual.getValue());
+	}
+
+	@Test
+	void testThatParallelPartitioningConcurrentCollectsAllElements() {
+		int size = 1_000_000;
+		Map.Entry<List<Integer>, List<Integer>> actual = IntStream.range(0, size)
+				.parallel()
+				.mapToObj(i -> i % 3 == 0 ? Either.<Integer, Integer>left(i) : Either.<Integer, Integer>right(i))
+				.collect(EitherCollectors.partitioningConcurrent());
+		List<Integer> lefts = new ArrayList<>(actual.getKey());
+		List<Integer> rights = new ArrayList<>(actual.getValue());
+		Collections.sort(lefts);
+		Collections.sort(rights);
+		assertEquals(IntStream.range(0, size).filter(i -> i % 3 == 0).boxed().collect(toList()), lefts);
+		assertEquals(IntStream.range(0, size).filter(i -> i % 3 != 0).boxed().collect(toList()), rights);
+	}
+
+	@Test
+	void testThatCountingConcurrentWorks() {
+		int size = 1_000_000;
+		Map.Entry<Long, Long> actual = IntStream.range(0, size)
+				.parallel()
+				.mapToObj(i -> i % 3 == 0 ? Either.<String, Integer>left("foo") : Either.<String, Integer>right(i))
+				.collect(EitherCollectors.countingConcurrent());
+		assertEquals(333_334L, actual.getKey());
+		assertEquals(666_666L, actual.getValue());
+		Map.Entry<Long, Long> empty = Stream.<Either<String, Integer>>empty()
+				.collect(EitherCollectors.countingConcurrent());
+		assertEquals(0L, empty.getKey());
+		assertEquals(0L, empty.getValue());
+	}
+
+	@Test
+	void testThatConcurrentCollectorsAreConcurrentAndUnordered() {
+		assertTrue(EitherCollectors.partitioningConcurrent().characteristics().containsAll(EnumSet.of(
+				Collector.Characteristics.CONCURRENT, Collector.Characteristics.UNORDERED)));
+		assertTrue(EitherCollectors.countingConcurrent().characteristics().containsAll(EnumSet.of(
+				Collector.Characteristics.CONCURRENT, Collector.Characteristics.UNORDERED)));
+	}
+}
@@ -0,0 +1,145 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java8;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class EitherDoubleTest {
+	@Test
+	void testThatLeftCanBeConstructed() {
+		EitherDouble<String> leftValue = EitherDouble.left("Left value");
+		assertEquals(EitherDouble.Left.class, leftValue.getClass());
+	}
+
+	@Test
+	void testThatRightCanBeConstructed() {
+		EitherDouble<String> rightValue = EitherDouble.right(4.2);
+		assertEquals(EitherDouble.Right.class, rightValue.getClass());
+	}
+
+	@Test
+	void testThatLeftCanBeMatched() {
+		EitherDouble<String> leftValue = EitherDouble.left("bar");
+		assertEquals("foobar", leftValue.match(
+				a -> "foo" + a,
+				b -> "Right value " + b
+		));
+	}
+
+	@Test
+	void testThatRightCanBeMatched() {
+		EitherDouble<String> rightValue = EitherDouble.right(4.2);
+		assertEquals("Right value " + 4.2, rightValue.match(
+				a -> "foo" + a,
+				b -> "Right value " + b
+		));
+	}
+
+	@Test
+	void testAcceptOnLeft() {
+		EitherDouble<String> leftValue = EitherDouble.left("foo");
+		final int[] leftCount = {0};
+		leftValue.accept(
+				a -> {
+					leftCount[0]++;
+					assertEquals("foo", a);
+				},
+				b -> fail("unexpected Right")
+		);
+		assertEquals(1, leftCount[0]);
+	}
+
+	@Test
+	void testAcceptOnRight() {
+		EitherDouble<String> rightValue = EitherDouble.right(4.2);
+		final int[] rightCount = {0};
+		rightValue.accept(
+				a -> fail("unexpected Left"),
+				b -> {
+					rightCount[0]++;
+					assertEquals(4.2, b);
+				}
+		);
+		assertEquals(1, rightCount[0]);
+	}
+
+	@Test
+	void testPeekOnLeft() {
+		EitherDouble<String> leftValue = EitherDouble.left("foo");
+		final int[] leftCount = {0};
+		EitherDouble<String> res = leftValue.peek(
+				a -> leftCount[0]++,
+				b -> fail("unexpected Right")
+		);
+		assertEquals(1, leftCount[0]);
+		assertSame(leftValue, res);
+	}
+
+	@Test
+	void testPeekOnRight() {
+		EitherDouble<String> rightValue = EitherDouble.right(4.2);
+		final int[] rightCount = {0};
+		EitherDouble<String> res = rightValue.peek(
+				a -> fail("unexpected Left"),
+				b -> rightCount[0]++
+		);
+		assertEquals(1, rightCount[0]);
+		assertSame(rightValue, res);
+	}
+
+	@Test
+	void testThatConversionToEitherWorks() {
+		assertEquals(Either.left("foo"), EitherDouble.left("foo").toEither());
+		assertEquals(Either.right(4.2), EitherDouble.<String>right(4.2).toEither());
+	}
+
+	@Test
+	void testThatConversionFromEitherWorks() {
+		assertEquals(EitherDouble.left("foo"), EitherDouble.fromEither(Either.<String, Double>left("foo")));
+		assertEquals(EitherDouble.right(4.2), EitherDouble.fromEither(Either.<String, Double>right(4.2)));
+	}
+
+	@Test
+	void testThatConversionFromEitherWithNullRightThrows() {
+		assertThrows(NullPointerException.class, () -> EitherDouble.fromEither(Either.<String, Double>right(null)));
+	}
+
+	@Test
+	void testThatEqualsWorks() {
+		assertEquals(EitherDouble.left("foo"), EitherDouble.left("foo"));
+		assertEquals(EitherDouble.left(null), EitherDouble.left(null));
+		assertEquals(EitherDouble.right(4.2), EitherDouble.right(4.2));
+		assertEquals(EitherDouble.right(4.2).hashCode(), EitherDouble.right(4.2).hashCode());
+		assertNotEquals(EitherDouble.right(4.2), EitherDouble.right(4.3));
+		assertNotEquals(EitherDouble.left("foo"), EitherDouble.left("bar"));
+		assertNotEquals(EitherDouble.left(4.2), EitherDouble.right(4.2));
+		assertNotEquals(Either.right(4.2), EitherDouble.right(4.2));
+	}
+
+	@Test
+	void testThatNaNRightsAreEqual() {
+		assertEquals(EitherDouble.right(Double.NaN), EitherDouble.right(Double.NaN));
+		assertEquals(EitherDouble.right(Double.NaN).hashCode(), EitherDouble.right(Double.NaN).hashCode());
+	}
+
+	@Test
+	void testThatRightCanBeSerialized() throws IOException, ClassNotFoundException {
+		ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+		ObjectOutputStream output = new ObjectOutputStream(byteStream);
+		output.writeObject(EitherDouble.right(4.2));
+		output.flush();
+		ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(byteStream.toByteArray()));
+		assertEquals(EitherDouble.right(4.2), input.readObject());
+	}
+}
@@ -0,0 +1,116 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java8;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EitherMetricsTest {
+	private static Either<String, Integer> parse(String s) {
+		try {
+			return Either.right(Integer.parseInt(s));
+		} catch (NumberFormatException e) {
+			return Either.left(s);
+		}
+	}
+
+	@Test
+	void testThatCounterCountsLeftsAndRights() {
+		EitherMetrics metrics = EitherMetrics.create();
+		EitherMetrics.Counter counter = metrics.counter("parse");
+		Either<String, Integer> left = Either.left("foo");
+		Either<String, Integer> right = Either.right(42);
+		assertSame(left, counter.record(left));
+		assertSame(right, counter.record(right));
+		counter.record(right);
+		counter.recordLeft();
+		EitherMetrics.Snapshot snapshot = counter.snapshot();
+		assertEquals("parse", snapshot.getSite());
+		assertEquals(2, snapshot.getLefts());
+		assertEquals(2, snapshot.getRights());
+		assertEquals(4, snapshot.getTotal());
+		assertEquals(0.5, snapshot.getLeftRatio());
+	}
+
+	@Test
+	void testThatCountersAreSharedPerSite() {
+		EitherMetrics metrics = EitherMetrics.create();
+		assertSame(metrics.counter("foo"), metrics.counter("foo"));
+		metrics.counter("foo").recordRight();
+		metrics.counter("bar").recordLeft();
+		Map<String, EitherMetrics.Snapshot> snapshot = metrics.snapshot();
+		assertEquals(Arrays.asList("bar", "foo"), Arrays.asList(snapshot.keySet().toArray()));
+		assertEquals(1, snapshot.get("foo").getRights());
+		assertEquals(0, snapshot.get("foo").getLefts());
+		assertEquals(1, snapshot.get("bar").getLefts());
+	}
+
+	@Test
+	void testThatInstrumentCountsResults() {
+		EitherMetrics metrics = EitherMetrics.create();
+		Function<String, Either<String, Integer>> f = metrics.instrument("parse", EitherMetricsTest::parse);
+		assertEquals(Either.right(1), f.apply("1"));
+		assertEquals(Either.left("x"), f.apply("x"));
+		assertEquals(Either.right(2), f.apply("2"));
+		EitherMetrics.Snapshot snapshot = metrics.snapshot().get("parse");
+		assertEquals(1, snapshot.getLefts());
+		assertEquals(2, snapshot.getRights());
+	}
+
+	@Test
+	void testThatConcurrentRecordingIsCounted() {
+		EitherMetrics metrics = EitherMetrics.create();
+		EitherMetrics.Counter counter = metrics.counter("parallel");
+		IntStream.range(0, 1_000_000)
+				.parallel()
+				.forEach(i -> counter.record(i % 4 == 0 ? Either.left(i) : Either.right(i)));
+		EitherMetrics.Snapshot snapshot = counter.snapshot();
+		assertEquals(250_000, snapshot.getLefts());
+		assertEquals(750_000, snapshot.getRights());
+	}
+
+	@Test
+	void testThatDisabledMetricsDoNothing() {
+		EitherMetrics metrics = EitherMetrics.disabled();
+		assertFalse(metrics.isEnabled());
+		assertTrue(EitherMetrics.create().isEnabled());
+		Function<String, Either<String, Integer>> f = EitherMetricsTest::parse;
+		assertSame(f, metrics.instrument("parse", f));
+		EitherMetrics.Counter counter = metrics.counter("parse");
+		Either<String, Integer> left = Either.left("foo");
+		assertSame(left, counter.record(left));
+		counter.recordRight();
+		assertEquals(0, counter.snapshot().getTotal());
+		assertEquals(0.0, counter.snapshot().getLeftRatio());
+		assertTrue(metrics.snapshot().isEmpty());
+	}
+
+	@Test
+	void testThatSnapshotIsUnmodifiable() {
+		EitherMetrics metrics = EitherMetrics.create();
+		metrics.counter("foo");
+		assertThrows(UnsupportedOperationException.class, () -> metrics.snapshot().clear());
+	}
+
+	@Test
+	void testThatNullSiteIsRejected() {
+		assertThrows(NullPointerException.class, () -> EitherMetrics.create().counter(null));
+	}
+
+	@Test
+	void testThatNullResultIsRejected() {
+		EitherMetrics.Counter counter = EitherMetrics.create().counter("parse");
+		assertThrows(NullPointerException.class, () -> counter.record(null));
+		assertEquals(0, counter.snapshot().getTotal());
+		assertThrows(NullPointerException.class, () -> EitherMetrics.disabled().counter("parse").record(null));
+	}
+}
@@ -0,0 +1,112 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java8;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EitherParallelTest {
+	private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+	@AfterAll
+	static void shutdownPool() {
+		POOL.shutdown();
+	}
+
+	private static List<Integer> range(int size) {
+		return IntStream.range(0, size).boxed().collect(Collectors.toList());
+	}
+
+	@Test
+	void testThatTraverseOfRightsKeepsOrder() {
+		Either<String, List<Integer>> actual = EitherParallel.traverse(range(10_000), i -> Either.right(i * 2));
+		List<Integer> expected = IntStream.range(0, 10_000).map(i -> i * 2).boxed().collect(Collectors.toList());
+		assertEquals(Either.right(expected), actual);
+	}
+
+	@Test
+	void testThatTraverseOfEmptyCollectionWorks() {
+		assertEquals(Either.right(Collections.emptyList()),
+				EitherParallel.traverse(Collections.<Integer>emptyList(), Either::right));
+	}
+
+	@Test
+	void testThatLowestIndexLeftIsReturned() {
+		for (int attempt = 0; attempt < 20; attempt++) {
+			Either<Integer, List<Integer>> actual = EitherParallel.traverse(
+					range(10_000),
+					i -> i == 9000 || i == 5000 || i == 100 ? Either.left(i) : Either.right(i),
+					POOL,
+					EitherParallel.LeftSelection.LOWEST_INDEX
+			);
+			assertEquals(Either.left(100), actual);
+		}
+	}
+
+	@Test
+	void testThatAnyLeftIsReturned() {
+		List<Integer> lefts = Arrays.asList(100, 5000, 9000);
+		Either<Integer, List<Integer>> actual = EitherParallel.traverse(
+				range(10_000),
+				i -> lefts.contains(i) ? Either.left(i) : Either.right(i),
+				POOL,
+				EitherParallel.LeftSelection.ANY
+		);
+		assertTrue(actual.match(lefts::contains, rights -> false), actual::toString);
+	}
+
+	@Test
+	void testThatWorkersStopAfterLeft() {
+		int size = 10_000;
+		AtomicInteger applied = new AtomicInteger();
+		Either<String, List<Integer>> actual = EitherParallel.traverse(
+				range(size),
+				i -> {
+					applied.incrementAndGet();
+					if (i == 0) {
+						return Either.left("zero");
+					}
+					LockSupport.parkNanos(100_000);
+					return Either.right(i);
+				},
+				POOL,
+				EitherParallel.LeftSelection.ANY
+		);
+		assertEquals(Either.left("zero"), actual);
+		assertTrue(applied.get() < size / 2, () -> "Function was applied " + applied.get() + " times");
+	}
+
+	@Test
+	void testThatExceptionIsRethrown() {
+		assertThrows(IllegalStateException.class, () -> EitherParallel.traverse(
+				range(1000),
+				i -> {
+					if (i == 500) {
+						throw new IllegalStateException();
+					}
+					return Either.right(i);
+				},
+				POOL,
+				EitherParallel.LeftSelection.LOWEST_INDEX
+		));
+	}
+
+	@Test
+	void testThatNullArgumentsAreRejected() {
+		assertThrows(NullPointerException.class, () -> EitherParallel.traverse(range(1), Either::right, null,
+				EitherParallel.LeftSelection.ANY));
+		assertThrows(NullPointerException.class, () -> EitherParallel.traverse(range(1), Either::right, POOL, null));
+	}
+}
@@ -7,13 +7,19 @@
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InvalidObjectException;
 import java.io.NotSerializableException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.Base64;
 import java.util.function.Function;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class EitherSerializationTest {
 	@SuppressWarnings("unchecked")
@@ -39,6 +45,31 @@ private static void testSerializationRoundTrip(Either<String, Integer> original,
 		}
 	}
 
+	private static byte[] serialize(Object original) {
+		try {
+			ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+			ObjectOutputStream output = new ObjectOutputStream(byteStream);
+			output.writeObject(original);
+			output.flush();
+			return byteStream.toByteArray();
+		} catch (IOException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+		ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes));
+		return input.readObject();
+	}
+
+	private static Object serializeAndDeserialize(Object original) {
+		try {
+			return deserialize(serialize(original));
+		} catch (IOException | ClassNotFoundException e) {
+			throw new AssertionError(e);
+		}
+	}
+
 	private static <A, B> void testNonSerializable(Either<A, B> original) {
 		assertThrows(NotSerializableException.class, () -> {
 			ObjectOutputStream output = new ObjectOutputStream(new ByteArrayOutputStream());
@@ -69,6 +100,79 @@ void testThatRightCanBeSerialized() {
 		);
 	}
 
+	@Test
+	void testThatSharedInstancesAreResolvedAfterDeserialization() {
+		assertAll(
+				() -> assertSame(Either.leftNull(), serializeAndDeserialize(Either.leftNull())),
+				() -> assertSame(Either.rightNull(), serializeAndDeserialize(Either.rightNull())),
+				() -> assertSame(Either.leftNull(), serializeAndDeserialize(Either.left(null))),
+				() -> assertSame(Either.rightBoolean(true), serializeAndDeserialize(Either.right(true))),
+				() -> assertSame(Either.leftBoolean(false), serializeAndDeserialize(Either.leftBoolean(false))),
+				() -> assertSame(Either.rightInteger(42), serializeAndDeserialize(Either.right(42))),
+				() -> assertSame(Either.leftInteger(-128), serializeAndDeserialize(Either.left(-128)))
+		);
+	}
+
+	@Test
+	void testThatOtherValuesAreNotResolvedToSharedInstances() {
+		Either<String, Integer> rightValue = Either.right(1000);
+		Object deserialized = serializeAndDeserialize(rightValue);
+		assertEquals(rightValue, deserialized);
+		assertNotSame(rightValue, deserialized);
+		assertEquals(Either.left("foo"), serializeAndDeserialize(Either.left("foo")));
+	}
+
+	@Test
+	void testThatIntegerLongAndNullValuesCanBeSerialized() {
+		assertAll(
+				() -> assertEquals(Either.right(Integer.MIN_VALUE), serializeAndDeserialize(Either.right(Integer.MIN_VALUE))),
+				() -> assertEquals(Either.left(Long.MAX_VALUE), serializeAndDeserialize(Either.left(Long.MAX_VALUE))),
+				() -> assertEquals(Either.right(-1L), serializeAndDeserialize(Either.right(-1L))),
+				() -> assertEquals(Either.left(null), serializeAndDeserialize(Either.left(null))),
+				() -> assertEquals(Either.right(null), serializeAndDeserialize(Either.right(null))),
+				() -> assertEquals(
+						Either.left(Either.right("nested")),
+						serializeAndDeserialize(Either.left(Either.right("nested")))
+				)
+		);
+	}
+
+	/**
+	 * Streams written by versions of the library before introduction of the compact serialized form.
+	 */
+	@Test
+	void testThatOldSerializedFormCanBeRead() throws IOException, ClassNotFoundException {
+		Base64.Decoder decoder = Base64.getDecoder();
+		assertEquals(Either.left("foo"), deserialize(decoder.decode(
+				"rO0ABXNyACxkZXYuYW5kcnliYWsudXRpbC5mdW5jdGlvbi5qYXZhOC5FaXRoZXIkTGVmdJJnFZAhVU3bAgABTAABYXQAEkxqYXZh" +
+				"L2xhbmcvT2JqZWN0O3hyACdkZXYuYW5kcnliYWsudXRpbC5mdW5jdGlvbi5qYXZhOC5FaXRoZXL94cVBr3dd6wIAAHhwdAADZm9v"
+		)));
+		assertEquals(Either.right(42), deserialize(decoder.decode(
+				"rO0ABXNyAC1kZXYuYW5kcnliYWsudXRpbC5mdW5jdGlvbi5qYXZhOC5FaXRoZXIkUmlnaHQUa29VytrdfQIAAUwAAWJ0ABJMamF2" +
+				"YS9sYW5nL09iamVjdDt4cgAnZGV2LmFuZHJ5YmFrLnV0aWwuZnVuY3Rpb24uamF2YTguRWl0aGVy/eHFQa93XesCAAB4cHNyABFq" +
+				"YXZhLmxhbmcuSW50ZWdlchLioKT3gYc4AgABSQAFdmFsdWV4cgAQamF2YS5sYW5nLk51bWJlcoaslR0LlOCLAgAAeHAAAAAq"
+		)));
+		assertSame(Either.leftNull(), deserialize(decoder.decode(
+				"rO0ABXNyACxkZXYuYW5kcnliYWsudXRpbC5mdW5jdGlvbi5qYXZhOC5FaXRoZXIkTGVmdJJnFZAhVU3bAgABTAABYXQAEkxqYXZh" +
+				"L2xhbmcvT2JqZWN0O3hyACdkZXYuYW5kcnliYWsudXRpbC5mdW5jdGlvbi5qYXZhOC5FaXRoZXL94cVBr3dd6wIAAHhwcA=="
+		)));
+	}
+
+	@Test
+	void testThatSerializedFormIsCompact() {
+		// the old default serialized forms of these values took 150 and 222 bytes
+		assertTrue(serialize(Either.left("foo")).length < 80);
+		assertTrue(serialize(Either.right(42)).length < 80);
+	}
+
+	@Test
+	void testThatUnknownTagIsRejected() {
+		byte[] bytes = serialize(Either.left(null));
+		// the stream ends with the tag and the end of block data marker
+		bytes[bytes.length - 2] = (byte) 0x80;
+		assertThrows(InvalidObjectException.class, () -> deserialize(bytes));
+	}
+
 	@Test
 	void testThatNonSerializableLeftThrows() {
 		Either<NonSerializable, String> leftValue = Either.left(new NonSerializable("foo", 42));
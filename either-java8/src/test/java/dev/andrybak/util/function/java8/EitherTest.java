@@ -4,16 +4,23 @@
 import dev.andrybak.util.function.java8.Either;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class EitherTest {
@@ -271,4 +278,180 @@ void testPeekOnRight() {
 		assertSame(rightValue, res);
 		assertEquals(1, rightCount[0]);
 	}
+
+	@Test
+	void testThatSharedInstancesAreSame() {
+		assertAll(
+				() -> assertSame(Either.leftNull(), Either.leftNull()),
+				() -> assertSame(Either.rightNull(), Either.rightNull()),
+				() -> assertSame(Either.leftBoolean(true), Either.leftBoolean(true)),
+				() -> assertSame(Either.rightBoolean(false), Either.rightBoolean(false)),
+				() -> assertSame(Either.leftInteger(-128), Either.leftInteger(-128)),
+				() -> assertSame(Either.rightInteger(127), Either.rightInteger(127)),
+				() -> assertSame(Either.leftEmpty(), Either.leftEmpty()),
+				() -> assertSame(Either.rightEmpty(), Either.rightEmpty())
+		);
+	}
+
+	@Test
+	void testThatSharedInstancesAreEqualToAllocatedOnes() {
+		assertAll(
+				() -> assertEquals(Either.left(null), Either.leftNull()),
+				() -> assertEquals(Either.right(null), Either.rightNull()),
+				() -> assertEquals(Either.left(true), Either.leftBoolean(true)),
+				() -> assertEquals(Either.left(false), Either.leftBoolean(false)),
+				() -> assertEquals(Either.right(true), Either.rightBoolean(true)),
+				() -> assertEquals(Either.right(false), Either.rightBoolean(false)),
+				() -> assertEquals(Either.left(42), Either.leftInteger(42)),
+				() -> assertEquals(Either.right(-1), Either.rightInteger(-1)),
+				() -> assertEquals(Either.left(Optional.empty()), Either.leftEmpty()),
+				() -> assertEquals(Either.right(Optional.empty()), Either.rightEmpty()),
+				() -> assertNotEquals(Either.leftNull(), Either.rightNull())
+		);
+	}
+
+	@Test
+	void testThatIntegersOutsideOfCacheAreCorrect() {
+		assertAll(
+				() -> assertEquals(Either.left(128), Either.leftInteger(128)),
+				() -> assertEquals(Either.left(-129), Either.leftInteger(-129)),
+				() -> assertEquals(Either.right(Integer.MAX_VALUE), Either.rightInteger(Integer.MAX_VALUE)),
+				() -> assertEquals(Either.right(Integer.MIN_VALUE), Either.rightInteger(Integer.MIN_VALUE))
+		);
+	}
+
+	@Test
+	void testThatPrimitiveMatchOnLeftWorks() {
+		Either<String, Integer> leftValue = Either.left("foo");
+		assertAll(
+				() -> assertEquals(3, leftValue.matchInt(String::length, b -> -b)),
+				() -> assertEquals(3L, leftValue.matchLong(String::length, b -> -b)),
+				() -> assertEquals(1.5, leftValue.matchDouble(a -> a.length() / 2.0, b -> -b)),
+				() -> assertFalse(leftValue.matchBoolean(String::isEmpty, b -> true)),
+				() -> assertTrue(leftValue.matchBoolean(a -> a.startsWith("f"), b -> false))
+		);
+	}
+
+	@Test
+	void testThatPrimitiveMatchOnRightWorks() {
+		Either<String, Integer> rightValue = Either.right(42);
+		assertAll(
+				() -> assertEquals(-42, rightValue.matchInt(String::length, b -> -b)),
+				() -> assertEquals(-42L, rightValue.matchLong(String::length, b -> -b)),
+				() -> assertEquals(21.0, rightValue.matchDouble(String::length, b -> b / 2.0)),
+				() -> assertTrue(rightValue.matchBoolean(a -> false, b -> b > 0))
+		);
+	}
+
+	@Test
+	void testThatPrimitiveMatchAcceptsFunctionWithSuperClassInput() {
+		ToIntFunction<CharSequence> f = CharSequence::length;
+		ToIntFunction<Number> g = Number::intValue;
+		Either<String, Integer> leftValue = Either.left("foo");
+		Either<String, Integer> rightValue = Either.right(42);
+		assertEquals(3, leftValue.matchInt(f, g));
+		assertEquals(42, rightValue.matchInt(f, g));
+	}
+
+	@Test
+	void testThatCatchingReturnsRightOnSuccess() {
+		assertEquals(Either.right("foo"), Either.catching(() -> "foo"));
+	}
+
+	@Test
+	void testThatCatchingReturnsLeftOnException() {
+		IOException failure = new IOException("not found");
+		assertEquals(Either.left(failure), Either.catching(() -> {
+			throw failure;
+		}));
+	}
+
+	@Test
+	void testThatCatchingDoesNotCatchErrors() {
+		assertThrows(AssertionError.class, () -> Either.catching(() -> {
+			throw new AssertionError();
+		}));
+	}
+
+	@Test
+	void testThatCatchingRestoresInterruptStatus() {
+		InterruptedException interrupted = new InterruptedException();
+		try {
+			assertEquals(Either.left(interrupted), Either.catching(() -> {
+				throw interrupted;
+			}));
+			assertTrue(Thread.currentThread().isInterrupted());
+			Thread.interrupted();
+			Function<String, Either<Exception, String>> f = Either.catching(s -> {
+				throw interrupted;
+			});
+			assertEquals(Either.left(interrupted), f.apply("foo"));
+			assertTrue(Thread.currentThread().isInterrupted());
+		} finally {
+			Thread.interrupted();
+		}
+	}
+
+	@Test
+	void testThatCatchingFunctionWorks() {
+		Function<String, Either<Exception, Integer>> parse = Either.catching(Integer::parseInt);
+		assertAll(
+				() -> assertEquals(Either.right(42), parse.apply("42")),
+				() -> assertTrue(parse.apply("foo").match(e -> e instanceof NumberFormatException, i -> false))
+		);
+	}
+
+	@Test
+	void testThatMapWorks() {
+		Either<String, Integer> leftValue = Either.left("foo");
+		Either<String, Integer> rightValue = Either.right(42);
+		assertAll(
+				() -> assertEquals(Either.right("42!"), rightValue.map(b -> b + "!")),
+				() -> assertEquals(Either.left("foo"), leftValue.map(b -> b + "!")),
+				() -> assertEquals(Either.left(3), leftValue.mapLeft(String::length)),
+				() -> assertEquals(Either.right(42), rightValue.mapLeft(String::length)),
+				() -> assertEquals(Either.left(3), leftValue.bimap(String::length, b -> b + "!")),
+				() -> assertEquals(Either.right("42!"), rightValue.bimap(String::length, b -> b + "!"))
+		);
+	}
+
+	@Test
+	void testThatUntouchedSideIsReturnedAsIs() {
+		Either<String, Integer> leftValue = Either.left("foo");
+		Either<String, Integer> rightValue = Either.right(42);
+		Function<Object, Either<String, Integer>> unexpected = x -> fail("Function must not be called");
+		assertAll(
+				() -> assertSame(leftValue, leftValue.map(unexpected)),
+				() -> assertSame(leftValue, leftValue.flatMap(unexpected)),
+				() -> assertSame(rightValue, rightValue.mapLeft(unexpected)),
+				() -> assertSame(rightValue, rightValue.flatMapLeft(unexpected))
+		);
+	}
+
+	@Test
+	void testThatFlatMapWorks() {
+		Function<Integer, Either<String, Integer>> half = i -> i % 2 == 0 ? Either.right(i / 2) : Either.left("odd");
+		assertAll(
+				() -> assertEquals(Either.right(21), Either.<String, Integer>right(42).flatMap(half)),
+				() -> assertEquals(Either.left("odd"), Either.<String, Integer>right(21).flatMap(half)),
+				() -> assertEquals(Either.left("odd"), Either.<String, Integer>right(84).flatMap(half).flatMap(half)
+						.flatMap(half))
+		);
+	}
+
+	@Test
+	void testThatFlatMapLeftWorks() {
+		Function<String, Either<Integer, Integer>> recover = a -> a.isEmpty() ? Either.left(-1) : Either.right(0);
+		assertAll(
+				() -> assertEquals(Either.right(0), Either.<String, Integer>left("foo").flatMapLeft(recover)),
+				() -> assertEquals(Either.left(-1), Either.<String, Integer>left("").flatMapLeft(recover))
+		);
+	}
+
+	@Test
+	void testThatFlatMapAcceptsFunctionsWithSubtypes() {
+		Function<Object, Either<RuntimeException, Integer>> f = x -> Either.right(x.hashCode());
+		Either<Exception, Integer> actual = Either.<Exception, String>right("foo").flatMap(f);
+		assertEquals(Either.right("foo".hashCode()), actual);
+	}
 }
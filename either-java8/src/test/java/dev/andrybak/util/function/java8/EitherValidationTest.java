@@ -0,0 +1,150 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.java8;
+
+import dev.andrybak.util.function.java8.EitherValidation.Errors;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EitherValidationTest {
+	private static Either<String, Integer> parse(String s) {
+		try {
+			return Either.right(Integer.parseInt(s));
+		} catch (NumberFormatException e) {
+			return Either.left("Not a number: " + s);
+		}
+	}
+
+	@Test
+	void testThatCombineOfRightsWorks() {
+		assertEquals(Either.right(3), EitherValidation.combine(parse("1"), parse("2"), Integer::sum));
+		assertEquals(Either.right(6), EitherValidation.combine(parse("1"), parse("2"), parse("3"),
+				(a, b, c) -> a + b + c));
+		assertEquals(Either.right("1234"), EitherValidation.combine(parse("1"), parse("2"), parse("3"), parse("4"),
+				(a, b, c, d) -> "" + a + b + c + d));
+	}
+
+	@Test
+	void testThatCombineCollectsAllLeftsInOrder() {
+		assertEquals(Either.left(Errors.of("Not a number: a")),
+				EitherValidation.combine(parse("a"), parse("2"), Integer::sum));
+		assertEquals(Either.left(Errors.of("Not a number: a", "Not a number: c")),
+				EitherValidation.combine(parse("a"), parse("2"), parse("c"), (a, b, c) -> a + b + c));
+		assertEquals(Either.left(Errors.of("Not a number: a", "Not a number: b", "Not a number: d")),
+				EitherValidation.combine(parse("a"), parse("b"), parse("3"), parse("d"),
+						(a, b, c, d) -> a + b + c + d));
+	}
+
+	@Test
+	void testThatCombinerIsNotCalledWhenThereAreLefts() {
+		Either<Errors<String>, Integer> actual = EitherValidation.combine(parse("a"), parse("2"), (a, b) -> {
+			throw new AssertionError("Combiner must not be called");
+		});
+		assertEquals(1, actual.matchInt(Errors::size, b -> 0));
+	}
+
+	@Test
+	void testThatCollectingOfRightsWorks() {
+		Either<Errors<String>, List<Integer>> actual = Stream.of("1", "2", "3")
+				.map(EitherValidationTest::parse)
+				.collect(EitherValidation.collecting());
+		assertEquals(Either.right(Arrays.asList(1, 2, 3)), actual);
+	}
+
+	@Test
+	void testThatCollectingCollectsAllLefts() {
+		Either<Errors<String>, List<Integer>> actual = Stream.of("a", "2", "b", "4", "c")
+				.map(EitherValidationTest::parse)
+				.collect(EitherValidation.collecting());
+		assertEquals(Either.left(Errors.of("Not a number: a", "Not a number: b", "Not a number: c")), actual);
+	}
+
+	@Test
+	void testThatParallelCollectingKeepsOrder() {
+		int size = 100_000;
+		Either<Errors<String>, List<Integer>> actual = IntStream.range(0, size)
+				.parallel()
+				.mapToObj(i -> i % 3 == 0 ? "x" + i : Integer.toString(i))
+				.map(EitherValidationTest::parse)
+				.collect(EitherValidation.collecting());
+		List<String> expected = IntStream.range(0, size)
+				.filter(i -> i % 3 == 0)
+				.mapToObj(i -> "Not a number: x" + i)
+				.collect(Collectors.toList());
+		assertEquals(expected, actual.match(Errors::toList, b -> Collections.<String>emptyList()));
+
+		Either<Errors<String>, List<Integer>> rights = IntStream.range(0, size)
+				.parallel()
+				.mapToObj(Integer::toString)
+				.map(EitherValidationTest::parse)
+				.collect(EitherValidation.collecting());
+		assertEquals(Either.right(IntStream.range(0, size).boxed().collect(Collectors.toList())), rights);
+	}
+
+	@Test
+	void testThatErrorsArePersistent() {
+		Errors<String> base = Errors.of("a", "b");
+		Errors<String> withC = base.append("c");
+		Errors<String> withD = base.append("d");
+		Errors<String> both = withC.concat(withD);
+		assertEquals(Arrays.asList("a", "b"), base.toList());
+		assertEquals(Arrays.asList("a", "b", "c"), withC.toList());
+		assertEquals(Arrays.asList("a", "b", "d"), withD.toList());
+		assertEquals(Arrays.asList("a", "b", "c", "a", "b", "d"), both.toList());
+		assertEquals(6, both.size());
+	}
+
+	@Test
+	void testThatErrorsCanBeIterated() {
+		Errors<String> errors = Errors.of("a").concat(Errors.of("b", "c")).append("d");
+		List<String> iterated = new ArrayList<>();
+		for (String error : errors) {
+			iterated.add(error);
+		}
+		assertEquals(Arrays.asList("a", "b", "c", "d"), iterated);
+		assertEquals("abcd", errors.stream().collect(Collectors.joining()));
+	}
+
+	@Test
+	void testThatErrorsListIsUnmodifiable() {
+		List<String> list = Errors.of("a", "b").toList();
+		assertThrows(UnsupportedOperationException.class, () -> list.add("c"));
+	}
+
+	@Test
+	void testThatEqualsIgnoresStructure() {
+		Errors<String> appended = Errors.of("a").append("b").append("c");
+		Errors<String> concatenated = Errors.of("a").concat(Errors.of("b").concat(Errors.of("c")));
+		assertEquals(appended, concatenated);
+		assertEquals(appended.hashCode(), concatenated.hashCode());
+		assertNotEquals(appended, Errors.of("a", "c", "b"));
+		assertEquals("[a, b, c]", concatenated.toString());
+	}
+
+	@Test
+	void testThatLongErrorsDoNotOverflowStack() {
+		int size = 1_000_000;
+		Errors<Integer> appended = Errors.of(0);
+		Errors<Integer> leftConcatenated = Errors.of(0);
+		Errors<Integer> rightConcatenated = Errors.of(size - 1);
+		for (int i = 1; i < size; i++) {
+			appended = appended.append(i);
+			leftConcatenated = leftConcatenated.concat(Errors.of(i));
+			rightConcatenated = Errors.of(size - 1 - i).concat(rightConcatenated);
+		}
+		Integer[] expected = IntStream.range(0, size).boxed().toArray(Integer[]::new);
+		assertEquals(Arrays.asList(expected), appended.toList());
+		assertEquals(Arrays.asList(expected), leftConcatenated.toList());
+		assertEquals(Arrays.asList(expected), rightConcatenated.toList());
+	}
+}
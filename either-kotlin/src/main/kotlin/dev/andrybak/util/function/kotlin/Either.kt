@@ -34,6 +34,66 @@ inline fun <R> match(f: (A) -> R, g: (B) -> R): R {
 		}
 	}
 
+	/**
+	 * Pattern matches on this [Either] and returns result of applying the corresponding function.  Unlike [match],
+	 * the return type isn't generic, so the result is a primitive `int` on JVM.
+	 *
+	 * @param f function to apply to a value of [Left]
+	 * @param g function to apply to a value of [Right]
+	 * @return result of applying one of the functions to this [Either]
+	 */
+	inline fun matchInt(f: (A) -> Int, g: (B) -> Int): Int {
+		return when (this) {
+			is Left -> f(leftValue)
+			is Right -> g(rightValue)
+		}
+	}
+
+	/**
+	 * Pattern matches on this [Either] and returns result of applying the corresponding function.  Unlike [match],
+	 * the return type isn't generic, so the result is a primitive `long` on JVM.
+	 *
+	 * @param f function to apply to a value of [Left]
+	 * @param g function to apply to a value of [Right]
+	 * @return result of applying one of the functions to this [Either]
+	 */
+	inline fun matchLong(f: (A) -> Long, g: (B) -> Long): Long {
+		return when (this) {
+			is Left -> f(leftValue)
+			is Right -> g(rightValue)
+		}
+	}
+
+	/**
+	 * Pattern matches on this [Either] and returns result of applying the corresponding function.  Unlike [match],
+	 * the return type isn't generic, so the result is a primitive `double` on JVM.
+	 *
+	 * @param f function to apply to a value of [Left]
+	 * @param g function to apply to a value of [Right]
+	 * @return result of applying one of the functions to this [Either]
+	 */
+	inline fun matchDouble(f: (A) -> Double, g: (B) -> Double): Double {
+		return when (this) {
+			is Left -> f(leftValue)
+			is Right -> g(rightValue)
+		}
+	}
+
+	/**
+	 * Pattern matches on this [Either] and returns result of applying the corresponding function.  Unlike [match],
+	 * the return type isn't generic, so the result is a primitive `boolean` on JVM.
+	 *
+	 * @param f function to apply to a value of [Left]
+	 * @param g function to apply to a value of [Right]
+	 * @return result of applying one of the functions to this [Either]
+	 */
+	inline fun matchBoolean(f: (A) -> Boolean, g: (B) -> Boolean): Boolean {
+		return when (this) {
+			is Left -> f(leftValue)
+			is Right -> g(rightValue)
+		}
+	}
+
 	/**
 	 * If this [Either] is [Left], performs the first given action with its value.
 	 * If this [Either] is [Right], performs the second given action with its value.
@@ -101,6 +161,68 @@ fun <A, B> left(a: A): Either<A, B> = Left(a)
 		 */
 		@JvmStatic
 		fun <A, B> right(b: B): Either<A, B> = Right(b)
+
+		private val LEFT_NULL: Either<Nothing?, Nothing> = Left(null)
+		private val RIGHT_NULL: Either<Nothing, Nothing?> = Right(null)
+		private val LEFT_UNIT: Either<Unit, Nothing> = Left(Unit)
+		private val RIGHT_UNIT: Either<Nothing, Unit> = Right(Unit)
+		private val LEFT_TRUE: Either<Boolean, Nothing> = Left(true)
+		private val LEFT_FALSE: Either<Boolean, Nothing> = Left(false)
+		private val RIGHT_TRUE: Either<Nothing, Boolean> = Right(true)
+		private val RIGHT_FALSE: Either<Nothing, Boolean> = Right(false)
+
+		/**
+		 * Returns a shared instance of [Left] containing `null`.
+		 *
+		 * @param A type for returned [Left]
+		 * @param B type for corresponding [Right]
+		 */
+		@JvmStatic
+		fun <A, B> leftNull(): Either<A?, B> = LEFT_NULL
+
+		/**
+		 * Returns a shared instance of [Right] containing `null`.
+		 *
+		 * @param A type for corresponding [Left]
+		 * @param B type for returned [Right]
+		 */
+		@JvmStatic
+		fun <A, B> rightNull(): Either<A, B?> = RIGHT_NULL
+
+		/**
+		 * Returns a shared instance of [Left] containing [Unit].
+		 *
+		 * @param B type for corresponding [Right]
+		 */
+		@JvmStatic
+		fun <B> leftUnit(): Either<Unit, B> = LEFT_UNIT
+
+		/**
+		 * Returns a shared instance of [Right] containing [Unit].  This is useful for operations which don't produce
+		 * a result in case of success, for example, `Either<Exception, Unit>`.
+		 *
+		 * @param A type for corresponding [Left]
+		 */
+		@JvmStatic
+		fun <A> rightUnit(): Either<A, Unit> = RIGHT_UNIT
+
+		/**
+		 * Returns a shared instance of [Left] containing given boolean value.
+		 *
+		 * @param B type for corresponding [Right]
+		 * @param a value to be stored in the returned [Left]
+		 */
+		@JvmStatic
+		fun <B> leftBoolean(a: Boolean): Either<Boolean, B> = if (a) LEFT_TRUE else LEFT_FALSE
+
+		/**
+		 * Returns a shared instance of [Right] containing given boolean value.
+		 *
+		 * @param A type for corresponding [Left]
+		 * @param b value to be stored in the returned [Right]
+		 */
+		@JvmStatic
+		fun <A> rightBoolean(b: Boolean): Either<A, Boolean> = if (b) RIGHT_TRUE else RIGHT_FALSE
 	}
 }
 
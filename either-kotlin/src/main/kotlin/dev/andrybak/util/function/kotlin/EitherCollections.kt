@@ -4,35 +4,85 @@
 /**
  * Returns a list of `A`s from [`Left`][Either.Left] values of this [`Iterable<Either<A, B>>`][Iterable].
  *
+ * If this [Iterable] is a [Collection], the returned list is presized to its size, so that it's never grown.  If less
+ * than half of the elements end up in the list, it's trimmed, so that it doesn't keep a mostly empty array alive.
+ *
  * @param A type for [Either.Left]
  * @param B type for [Either.Right]
  * @return a [`List<A>`][List] from [`Left`][Either.Left] values of this [`Iterable<Either<A, B>>`][Iterable]
  */
 fun <A, B> Iterable<Either<A, B>>.lefts(): List<A> {
-	return this
-		.filter(either({ true }, { false }))
-		.map(either(
-			{ a -> a },
-			{
-				throw IllegalStateException("Got a right value after filtering")
-			}
-		))
+	val capacity = initialCapacity()
+	val result = ArrayList<A>(capacity)
+	for (e in this) {
+		if (e is Either.Left) {
+			result.add(e.leftValue)
+		}
+	}
+	return result.trimIfSparse(capacity)
 }
 
 /**
  * Returns a list of `B`s from [`Right`][Either.Right] values of this [`Iterable<Either<A, B>>`][Iterable].
  *
+ * If this [Iterable] is a [Collection], the returned list is presized to its size, so that it's never grown.  If less
+ * than half of the elements end up in the list, it's trimmed, so that it doesn't keep a mostly empty array alive.
+ *
  * @param A type for [Either.Left]
  * @param B type for [Either.Right]
  * @return a [`List<B>`][List] from [`Right`][Either.Right] values of this [`Iterable<Either<A, B>>`][Iterable]
  */
 fun <A, B> Iterable<Either<A, B>>.rights(): List<B> {
+	val capacity = initialCapacity()
+	val result = ArrayList<B>(capacity)
+	for (e in this) {
+		if (e is Either.Right) {
+			result.add(e.rightValue)
+		}
+	}
+	return result.trimIfSparse(capacity)
+}
+
+/**
+ * Splits this [`Iterable<Either<A, B>>`][Iterable] into a list of `A`s from [`Left`][Either.Left] values and a list
+ * of `B`s from [`Right`][Either.Right] values in a single traversal.
+ *
+ * The returned lists start with the default capacity and grow as needed: presizing both of them to the size of this
+ * [Iterable] would make one of them oversized, and up to double the memory needed for large inputs.
+ *
+ * Implementation of
+ * [Haskell function `partitionEithers`](https://hackage.haskell.org/package/base/docs/Data-Either.html#v:partitionEithers)
+ * in Kotlin.
+ *
+ * @param A type for [Either.Left]
+ * @param B type for [Either.Right]
+ * @return a [Pair] of [`List<A>`][List] from [`Left`][Either.Left] values and [`List<B>`][List] from
+ * [`Right`][Either.Right] values of this [`Iterable<Either<A, B>>`][Iterable]
+ */
+fun <A, B> Iterable<Either<A, B>>.partitionEither(): Pair<List<A>, List<B>> {
+	val lefts = ArrayList<A>()
+	val rights = ArrayList<B>()
+	for (e in this) {
+		when (e) {
+			is Either.Left -> lefts.add(e.leftValue)
+			is Either.Right -> rights.add(e.rightValue)
+		}
+	}
+	return Pair(lefts, rights)
+}
+
+/**
+ * Initial capacity for lists of values of elements of this [Iterable]: its size, if it's known, or the default
+ * capacity of [ArrayList] otherwise.
+ */
+private fun Iterable<*>.initialCapacity(): Int = if (this is Collection<*>) size else 10
+
+/**
+ * Trims this list to its size, if it uses less than half of the given capacity.
+ */
+private fun <T> ArrayList<T>.trimIfSparse(capacity: Int): ArrayList<T> {
+	if (size < capacity / 2) {
+		trimToSize()
+	}
 	return this
-		.filter(either({ false }, { true }))
-		.map(either(
-			{
-				throw IllegalStateException("Got a left value after filtering")
-			},
-			{ b -> b }
-		))
 }
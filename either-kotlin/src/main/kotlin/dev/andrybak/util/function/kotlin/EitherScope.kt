@@ -0,0 +1,75 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.kotlin
+
+/**
+ * Runs given block with an [EitherScope] as the receiver, which allows to unwrap [Right][Either.Right] values with
+ * [bind][EitherScope.bind] and to return the first [Left][Either.Left] from the block:
+ *
+ * ```
+ * val result: Either<String, Int> = either {
+ *     val x = parse(s).bind { return@either it }
+ *     val y = validate(x).bind { return@either it }
+ *     Either.right(x + y)
+ * }
+ * ```
+ *
+ * Both this function and [bind][EitherScope.bind] are inline, so `return@either it` is compiled into a jump out of
+ * the block, and the [Left][Either.Left] is returned as is.  No exceptions are thrown and no objects are allocated
+ * to short-circuit, so the early exit costs the same as unwrapping a [Right][Either.Right].
+ *
+ * @param block code which computes the result
+ * @param E type for [Either.Left]
+ * @param T type for [Either.Right]
+ * @return result of the block
+ */
+inline fun <E, T> either(block: EitherScope<E>.() -> Either<E, T>): Either<E, T> {
+	return EitherScope.instance<E>().block()
+}
+
+/**
+ * Receiver of the block of function [either].  It doesn't have any state, so a single shared instance is used.
+ *
+ * @param E type for [Either.Left]
+ */
+class EitherScope<E> @PublishedApi internal constructor() {
+	/**
+	 * Returns the value of this [Either], if it is [Right][Either.Right].  If it is [Left][Either.Left], calls
+	 * [onLeft] with this [Either], which is expected to return it from the enclosing block of function [either] via
+	 * `return@either it`.
+	 *
+	 * @param onLeft function to call with this [Either], if it is [Left][Either.Left]
+	 * @param B type for [Either.Right]
+	 * @return the value of this [Right][Either.Right]
+	 */
+	@Suppress("UNCHECKED_CAST")
+	inline fun <B> Either<E, B>.bind(onLeft: (Either<E, Nothing>) -> Nothing): B {
+		return when (this) {
+			// type B is not used by Left, so the same instance can be reused for any B
+			is Either.Left -> onLeft(this as Either<E, Nothing>)
+			is Either.Right -> rightValue
+		}
+	}
+
+	/**
+	 * Does nothing if given condition holds.  Otherwise, calls [onLeft] with a [Left][Either.Left] of the value of
+	 * [error], which is expected to return it from the enclosing block of function [either] via `return@either it`.
+	 *
+	 * @param condition the condition to check
+	 * @param error function to compute the value of [Left][Either.Left]
+	 * @param onLeft function to call with the [Left][Either.Left], if the condition doesn't hold
+	 */
+	inline fun ensure(condition: Boolean, error: () -> E, onLeft: (Either<E, Nothing>) -> Nothing) {
+		if (!condition) {
+			onLeft(Either.Left(error()))
+		}
+	}
+
+	@PublishedApi
+	internal companion object {
+		private val INSTANCE: EitherScope<Any?> = EitherScope()
+
+		@PublishedApi
+		@Suppress("UNCHECKED_CAST")
+		internal fun <E> instance(): EitherScope<E> = INSTANCE as EitherScope<E>
+	}
+}
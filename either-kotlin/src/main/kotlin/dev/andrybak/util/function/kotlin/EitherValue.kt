@@ -0,0 +1,205 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.kotlin
+
+import java.io.Serializable
+
+/**
+ * Alternative representation of [Either] as an inline value class, similar to [Result].
+ *
+ * A value of the right alternative is stored as is, so creating and passing around a right [EitherValue] doesn't
+ * allocate anything, unless the value needs to be boxed, for example, when [EitherValue] is used as a type argument
+ * or as a nullable type.  A value of the left alternative is wrapped into a small holder object.  This makes
+ * [EitherValue] a good fit for results of operations, which succeed much more often than they fail.
+ *
+ * Use [toEither] and [Either.toEitherValue] to convert between [EitherValue] and [Either].
+ *
+ * @param A type for the left alternative
+ * @param B type for the right alternative
+ */
+@JvmInline
+value class EitherValue<out A, out B> @PublishedApi internal constructor(
+	@PublishedApi internal val value: Any?
+) : Serializable {
+	/**
+	 * `true` if this [EitherValue] contains a value of the left alternative.
+	 */
+	val isLeft: Boolean get() = value is LeftHolder
+
+	/**
+	 * `true` if this [EitherValue] contains a value of the right alternative.
+	 */
+	val isRight: Boolean get() = value !is LeftHolder
+
+	/**
+	 * Pattern matches on this [EitherValue] and returns result of applying the corresponding function.
+	 *
+	 * @param f function to apply to a value of the left alternative
+	 * @param g function to apply to a value of the right alternative
+	 * @param R return type of functions
+	 * @return result of applying one of the functions to this [EitherValue]
+	 */
+	@Suppress("UNCHECKED_CAST")
+	inline fun <R> match(f: (A) -> R, g: (B) -> R): R {
+		return when (value) {
+			is LeftHolder -> f(value.leftValue as A)
+			else -> g(value as B)
+		}
+	}
+
+	/**
+	 * Pattern matches on this [EitherValue] and returns result of applying the corresponding function.  Unlike
+	 * [match], the return type isn't generic, so the result is a primitive `int` on JVM.
+	 *
+	 * @param f function to apply to a value of the left alternative
+	 * @param g function to apply to a value of the right alternative
+	 * @return result of applying one of the functions to this [EitherValue]
+	 */
+	@Suppress("UNCHECKED_CAST")
+	inline fun matchInt(f: (A) -> Int, g: (B) -> Int): Int {
+		return when (value) {
+			is LeftHolder -> f(value.leftValue as A)
+			else -> g(value as B)
+		}
+	}
+
+	/**
+	 * Pattern matches on this [EitherValue] and returns result of applying the corresponding function.  Unlike
+	 * [match], the return type isn't generic, so the result is a primitive `long` on JVM.
+	 *
+	 * @param f function to apply to a value of the left alternative
+	 * @param g function to apply to a value of the right alternative
+	 * @return result of applying one of the functions to this [EitherValue]
+	 */
+	@Suppress("UNCHECKED_CAST")
+	inline fun matchLong(f: (A) -> Long, g: (B) -> Long): Long {
+		return when (value) {
+			is LeftHolder -> f(value.leftValue as A)
+			else -> g(value as B)
+		}
+	}
+
+	/**
+	 * Pattern matches on this [EitherValue] and returns result of applying the corresponding function.  Unlike
+	 * [match], the return type isn't generic, so the result is a primitive `double` on JVM.
+	 *
+	 * @param f function to apply to a value of the left alternative
+	 * @param g function to apply to a value of the right alternative
+	 * @return result of applying one of the functions to this [EitherValue]
+	 */
+	@Suppress("UNCHECKED_CAST")
+	inline fun matchDouble(f: (A) -> Double, g: (B) -> Double): Double {
+		return when (value) {
+			is LeftHolder -> f(value.leftValue as A)
+			else -> g(value as B)
+		}
+	}
+
+	/**
+	 * Pattern matches on this [EitherValue] and returns result of applying the corresponding function.  Unlike
+	 * [match], the return type isn't generic, so the result is a primitive `boolean` on JVM.
+	 *
+	 * @param f function to apply to a value of the left alternative
+	 * @param g function to apply to a value of the right alternative
+	 * @return result of applying one of the functions to this [EitherValue]
+	 */
+	@Suppress("UNCHECKED_CAST")
+	inline fun matchBoolean(f: (A) -> Boolean, g: (B) -> Boolean): Boolean {
+		return when (value) {
+			is LeftHolder -> f(value.leftValue as A)
+			else -> g(value as B)
+		}
+	}
+
+	/**
+	 * If this [EitherValue] is left, performs the first given action with its value.
+	 * If this [EitherValue] is right, performs the second given action with its value.
+	 *
+	 * @param f consumer to apply to a value of the left alternative
+	 * @param g consumer to apply to a value of the right alternative
+	 */
+	@Suppress("UNCHECKED_CAST")
+	inline fun accept(f: (A) -> Unit, g: (B) -> Unit) {
+		when (value) {
+			is LeftHolder -> f(value.leftValue as A)
+			else -> g(value as B)
+		}
+	}
+
+	/**
+	 * If this [EitherValue] is left, performs the first given action with its value and returns this [EitherValue].
+	 * If this [EitherValue] is right, performs the second given action with its value and returns this [EitherValue].
+	 *
+	 * @param f consumer to apply to a value of the left alternative
+	 * @param g consumer to apply to a value of the right alternative
+	 */
+	inline fun peek(f: (A) -> Unit, g: (B) -> Unit): EitherValue<A, B> {
+		accept(f, g)
+		return this
+	}
+
+	/**
+	 * Converts this [EitherValue] into an [Either].  This allocates a new [Either.Left] or [Either.Right].
+	 *
+	 * @return an [Either] with the same value
+	 */
+	@Suppress("UNCHECKED_CAST")
+	fun toEither(): Either<A, B> {
+		return when (value) {
+			is LeftHolder -> Either.Left(value.leftValue as A)
+			else -> Either.Right(value as B)
+		}
+	}
+
+	override fun toString(): String {
+		return when (value) {
+			is LeftHolder -> "Left(${value.leftValue})"
+			else -> "Right($value)"
+		}
+	}
+
+	/**
+	 * Holder of a value of the left alternative, which distinguishes it from values of the right alternative.
+	 */
+	@PublishedApi
+	internal class LeftHolder(@JvmField val leftValue: Any?) : Serializable {
+		override fun equals(other: Any?): Boolean = other is LeftHolder && leftValue == other.leftValue
+
+		override fun hashCode(): Int = leftValue.hashCode()
+
+		override fun toString(): String = "Left($leftValue)"
+	}
+
+	companion object {
+		/**
+		 * Returns a left [EitherValue] containing given value of type `A`.
+		 *
+		 * @param A type for the left alternative
+		 * @param B type for the right alternative
+		 * @param a value to be stored in the returned [EitherValue]
+		 */
+		fun <A, B> left(a: A): EitherValue<A, B> = EitherValue(LeftHolder(a))
+
+		/**
+		 * Returns a right [EitherValue] containing given value of type `B`.  The value is stored as is.
+		 *
+		 * @param A type for the left alternative
+		 * @param B type for the right alternative
+		 * @param b value to be stored in the returned [EitherValue]
+		 */
+		fun <A, B> right(b: B): EitherValue<A, B> = EitherValue(b)
+	}
+}
+
+/**
+ * Converts this [Either] into an [EitherValue].  Converting a [Right][Either.Right] doesn't allocate anything.
+ *
+ * @param A type for [Either.Left]
+ * @param B type for [Either.Right]
+ * @return an [EitherValue] with the same value
+ */
+fun <A, B> Either<A, B>.toEitherValue(): EitherValue<A, B> {
+	return when (this) {
+		is Either.Left -> EitherValue.left(leftValue)
+		is Either.Right -> EitherValue.right(rightValue)
+	}
+}
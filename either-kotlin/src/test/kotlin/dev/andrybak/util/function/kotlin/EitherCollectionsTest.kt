@@ -58,4 +58,56 @@ fun testThatRightsAcceptsStreamsOfSubclass() {
 		val actual: List<Number> = input.rights<CharSequence, Number>()
 		assertEquals(listOf(0, 1, 2), actual)
 	}
+
+	@Test
+	fun testThatLeftsWorksForNonCollectionIterable() {
+		val actual: List<String> = sequenceOf<Either<String, Int>>(
+			Either.left("Hello"),
+			Either.right(0),
+			Either.left("World")
+		).asIterable().lefts()
+		assertEquals(listOf("Hello", "World"), actual)
+	}
+
+	@Test
+	fun testThatRightsWorksForNonCollectionIterable() {
+		val actual: List<Int> = sequenceOf<Either<String, Int>>(
+			Either.left("Hello"),
+			Either.right(0),
+			Either.left("World")
+		).asIterable().rights()
+		assertEquals(listOf(0), actual)
+	}
+
+	@Test
+	fun testThatPartitionEitherWorks() {
+		val (lefts: List<String>, rights: List<Int>) = listOf<Either<String, Int>>(
+			Either.left("Hello"),
+			Either.right(0),
+			Either.left("World"),
+			Either.right(1),
+			Either.left("foobar"),
+			Either.right(2)
+		).partitionEither()
+		assertEquals(listOf("Hello", "World", "foobar"), lefts)
+		assertEquals(listOf(0, 1, 2), rights)
+	}
+
+	@Test
+	fun testThatPartitionEitherOfEmptyIterableWorks() {
+		val (lefts: List<String>, rights: List<Int>) = emptyList<Either<String, Int>>().partitionEither()
+		assertEquals(emptyList<String>(), lefts)
+		assertEquals(emptyList<Int>(), rights)
+	}
+
+	@Test
+	fun testThatPartitionEitherAcceptsIterablesOfSubClass() {
+		val input: List<Either<String, Int>> = listOf(
+			Either.right(0),
+			Either.left("Hello"),
+			Either.right(1)
+		)
+		val actual: Pair<List<CharSequence>, List<Number>> = input.partitionEither<CharSequence, Number>()
+		assertEquals(Pair(listOf("Hello"), listOf(0, 1)), actual)
+	}
 }
@@ -0,0 +1,81 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.kotlin
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertSame
+import org.junit.jupiter.api.Test
+
+internal class EitherScopeTest {
+	private fun parse(s: String): Either<String, Int> {
+		val i = s.toIntOrNull() ?: return Either.left("Not a number: $s")
+		return Either.right(i)
+	}
+
+	private fun positive(i: Int): Either<String, Int> {
+		return if (i > 0) Either.right(i) else Either.left("Not positive: $i")
+	}
+
+	private fun sum(a: String, b: String): Either<String, Int> = either {
+		val x = parse(a).bind { return@either it }
+		val y = positive(parse(b).bind { return@either it }).bind { return@either it }
+		Either.right(x + y)
+	}
+
+	@Test
+	fun testThatRightValuesAreBound() {
+		assertEquals(Either.right<String, Int>(42), sum("40", "2"))
+	}
+
+	@Test
+	fun testThatFirstLeftIsReturned() {
+		assertEquals(Either.left<String, Int>("Not a number: foo"), sum("foo", "bar"))
+		assertEquals(Either.left<String, Int>("Not a number: bar"), sum("1", "bar"))
+		assertEquals(Either.left<String, Int>("Not positive: -1"), sum("1", "-1"))
+	}
+
+	@Test
+	fun testThatLeftIsReturnedAsIs() {
+		val left: Either<String, Int> = Either.left("foo")
+		val actual: Either<String, String> = either {
+			val x = left.bind { return@either it }
+			Either.right(x.toString())
+		}
+		assertSame(left, actual)
+	}
+
+	@Test
+	fun testThatRestOfBlockIsSkippedAfterLeft() {
+		var calls = 0
+		val actual: Either<String, Int> = either {
+			calls++
+			val x = Either.left<String, Int>("foo").bind { return@either it }
+			calls++
+			Either.right(x)
+		}
+		assertEquals(Either.left<String, Int>("foo"), actual)
+		assertEquals(1, calls)
+	}
+
+	@Test
+	fun testThatBindWorksInLoops() {
+		fun sumAll(input: List<String>): Either<String, Int> = either {
+			var total = 0
+			for (s in input) {
+				total += parse(s).bind { return@either it }
+			}
+			Either.right(total)
+		}
+		assertEquals(Either.right<String, Int>(6), sumAll(listOf("1", "2", "3")))
+		assertEquals(Either.left<String, Int>("Not a number: x"), sumAll(listOf("1", "x", "3")))
+	}
+
+	@Test
+	fun testThatEnsureWorks() {
+		fun check(i: Int): Either<String, Int> = either {
+			ensure(i % 2 == 0, { "Odd: $i" }) { return@either it }
+			Either.right(i / 2)
+		}
+		assertEquals(Either.right<String, Int>(21), check(42))
+		assertEquals(Either.left<String, Int>("Odd: 3"), check(3))
+	}
+}
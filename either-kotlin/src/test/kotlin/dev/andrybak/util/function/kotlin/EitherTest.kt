@@ -210,6 +210,58 @@ fun testPeekOnRight() {
 		assertEquals(1, rightCount)
 	}
 
+	@Test
+	fun testThatSharedInstancesAreSame() {
+		assertAll(
+			{ Assertions.assertSame(Either.leftNull<String, Int>(), Either.leftNull<Int, String>()) },
+			{ Assertions.assertSame(Either.rightNull<String, Int>(), Either.rightNull<Int, String>()) },
+			{ Assertions.assertSame(Either.leftUnit<String>(), Either.leftUnit<Int>()) },
+			{ Assertions.assertSame(Either.rightUnit<String>(), Either.rightUnit<Int>()) },
+			{ Assertions.assertSame(Either.leftBoolean<String>(true), Either.leftBoolean<Int>(true)) },
+			{ Assertions.assertSame(Either.rightBoolean<String>(false), Either.rightBoolean<Int>(false)) }
+		)
+	}
+
+	@Test
+	fun testThatSharedInstancesAreEqualToAllocatedOnes() {
+		assertAll(
+			{ assertEquals(Either.left<String?, Int>(null), Either.leftNull<String, Int>()) },
+			{ assertEquals(Either.right<String, Int?>(null), Either.rightNull<String, Int>()) },
+			{ assertEquals(Either.left<Unit, Int>(Unit), Either.leftUnit<Int>()) },
+			{ assertEquals(Either.right<String, Unit>(Unit), Either.rightUnit<String>()) },
+			{ assertEquals(Either.left<Boolean, Int>(true), Either.leftBoolean<Int>(true)) },
+			{ assertEquals(Either.right<String, Boolean>(false), Either.rightBoolean<String>(false)) }
+		)
+	}
+
+	@Test
+	fun testThatRightUnitCanBeMatched() {
+		val validated: Either<String, Unit> = Either.rightUnit()
+		assertEquals("valid", validated.match({ e -> "invalid: $e" }, { "valid" }))
+	}
+
+	@Test
+	fun testThatPrimitiveMatchOnLeftWorks() {
+		val leftValue: Either<String, Int> = Either.left("foo")
+		assertAll(
+			{ assertEquals(3, leftValue.matchInt({ a -> a.length }, { b -> -b })) },
+			{ assertEquals(3L, leftValue.matchLong({ a -> a.length.toLong() }, { b -> -b.toLong() })) },
+			{ assertEquals(1.5, leftValue.matchDouble({ a -> a.length / 2.0 }, { b -> -b.toDouble() })) },
+			{ assertEquals(true, leftValue.matchBoolean({ a -> a.startsWith("f") }, { false })) }
+		)
+	}
+
+	@Test
+	fun testThatPrimitiveMatchOnRightWorks() {
+		val rightValue: Either<String, Int> = Either.right(42)
+		assertAll(
+			{ assertEquals(-42, rightValue.matchInt({ a -> a.length }, { b -> -b })) },
+			{ assertEquals(-42L, rightValue.matchLong({ a -> a.length.toLong() }, { b -> -b.toLong() })) },
+			{ assertEquals(21.0, rightValue.matchDouble({ a -> a.length.toDouble() }, { b -> b / 2.0 })) },
+			{ assertEquals(true, rightValue.matchBoolean({ false }, { b -> b > 0 })) }
+		)
+	}
+
 	companion object {
 		fun foo(s: String): String = "foo$s"
 		private fun bar(i: Int): String = "Right value $i"
@@ -0,0 +1,87 @@
+// SPDX-License-Identifier: MIT
+package dev.andrybak.util.function.kotlin
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertNotEquals
+import org.junit.jupiter.api.Assertions.assertSame
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+
+internal class EitherValueTest {
+	@Test
+	fun testThatMatchWorks() {
+		val left: EitherValue<String, Int> = EitherValue.left("foo")
+		val right: EitherValue<String, Int> = EitherValue.right(42)
+		assertEquals("left foo", left.match({ "left $it" }, { "right $it" }))
+		assertEquals("right 42", right.match({ "left $it" }, { "right $it" }))
+		assertEquals(3, left.matchInt({ it.length }, { it }))
+		assertEquals(42L, right.matchLong({ it.length.toLong() }, { it.toLong() }))
+		assertEquals(3.0, left.matchDouble({ it.length.toDouble() }, { it.toDouble() }))
+		assertTrue(right.matchBoolean({ false }, { it == 42 }))
+	}
+
+	@Test
+	fun testThatIsLeftAndIsRightWork() {
+		val left: EitherValue<String, Int> = EitherValue.left("foo")
+		val right: EitherValue<String, Int> = EitherValue.right(42)
+		assertTrue(left.isLeft)
+		assertFalse(left.isRight)
+		assertFalse(right.isLeft)
+		assertTrue(right.isRight)
+	}
+
+	@Test
+	fun testThatNullsAreSupported() {
+		val left: EitherValue<String?, Int?> = EitherValue.left(null)
+		val right: EitherValue<String?, Int?> = EitherValue.right(null)
+		assertTrue(left.isLeft)
+		assertTrue(right.isRight)
+		assertEquals("left null", left.match({ "left $it" }, { "right $it" }))
+		assertEquals("right null", right.match({ "left $it" }, { "right $it" }))
+	}
+
+	@Test
+	fun testThatAcceptAndPeekWork() {
+		val calls = mutableListOf<String>()
+		val left: EitherValue<String, Int> = EitherValue.left("foo")
+		val right: EitherValue<String, Int> = EitherValue.right(42)
+		left.accept({ calls.add("left $it") }, { calls.add("right $it") })
+		assertEquals(right, right.peek({ calls.add("left $it") }, { calls.add("right $it") }))
+		assertEquals(listOf("left foo", "right 42"), calls)
+	}
+
+	@Test
+	fun testThatEqualsWorks() {
+		assertEquals(EitherValue.left<String, Int>("foo"), EitherValue.left<String, Int>("foo"))
+		assertEquals(EitherValue.right<String, Int>(42), EitherValue.right<String, Int>(42))
+		assertNotEquals(EitherValue.left<String, String>("foo"), EitherValue.right<String, String>("foo"))
+		assertEquals(
+			EitherValue.left<String, Int>("foo").hashCode(),
+			EitherValue.left<String, Int>("foo").hashCode()
+		)
+	}
+
+	@Test
+	fun testThatConversionsWork() {
+		val left: Either<String, Int> = Either.left("foo")
+		val right: Either<String, Int> = Either.right(42)
+		assertEquals(left, left.toEitherValue().toEither())
+		assertEquals(right, right.toEitherValue().toEither())
+		assertEquals(EitherValue.left<String, Int>("foo"), left.toEitherValue())
+		assertEquals(EitherValue.right<String, Int>(42), right.toEitherValue())
+	}
+
+	@Test
+	fun testThatRightValueIsStoredAsIs() {
+		val value = StringBuilder("foo")
+		val right: EitherValue<String, StringBuilder> = EitherValue.right(value)
+		assertSame(value, right.match({ null }, { it }))
+	}
+
+	@Test
+	fun testThatToStringWorks() {
+		assertEquals("Left(foo)", EitherValue.left<String, Int>("foo").toString())
+		assertEquals("Right(42)", EitherValue.right<String, Int>(42).toString())
+	}
+}
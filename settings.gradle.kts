@@ -9,4 +9,6 @@ rootProject.name = "either-jvm"
 
 include("either-java8")
 include("either-java17")
+include("either-java21")
 include("either-kotlin")
+include("either-benchmarks")